@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * The {@link LogEventBuilder} of enabled levels, for the implementations of {@link Log} without one of their own.
+ * <p>
+ * The key/value pairs are appended to the message, which is logged through the plain methods of {@code Log}.
+ * Each thread reuses the same builder, unless it is in use from {@link #get(Log, int)} until the event is logged:
+ * an argument of {@link #addKeyValue(String, Object)}, a supplier or a {@code toString()} that logs an event gets a
+ * new builder.
+ * </p>
+ */
+final class DefaultLogEventBuilder implements LogEventBuilder {
+
+    static final int TRACE = 1;
+    static final int DEBUG = 2;
+    static final int INFO = 3;
+    static final int WARN = 4;
+    static final int ERROR = 5;
+    static final int FATAL = 6;
+
+    /**
+     * A larger buffer is not kept for the next event of the thread.
+     */
+    private static final int MAX_REUSED_CAPACITY = 1024;
+
+    private static final ThreadLocal<DefaultLogEventBuilder> BUILDERS = ThreadLocal.withInitial(DefaultLogEventBuilder::new);
+
+    /**
+     * Gets the builder of the current thread, reset for a new event.
+     *
+     * @param log the logger
+     * @param level the level of the event
+     * @return a builder
+     */
+    static DefaultLogEventBuilder get(final Log log, final int level) {
+        DefaultLogEventBuilder builder = BUILDERS.get();
+        if (builder.inUse) {
+            builder = new DefaultLogEventBuilder();
+        }
+        builder.inUse = true;
+        builder.log = log;
+        builder.level = level;
+        builder.cause = null;
+        builder.size = 0;
+        return builder;
+    }
+
+    private StringBuilder buffer = new StringBuilder();
+
+    private Throwable cause;
+
+    /**
+     * Keys at even indexes, followed by their value.
+     */
+    private Object[] keyValues = new Object[8];
+
+    /**
+     * Whether the builder was handed out for an event not logged yet.
+     */
+    private boolean inUse;
+
+    private int level;
+
+    private Log log;
+
+    private int size;
+
+    private DefaultLogEventBuilder() {
+        // empty
+    }
+
+    @Override
+    public LogEventBuilder addKeyValue(final String key, final Object value) {
+        if (size == keyValues.length) {
+            keyValues = Arrays.copyOf(keyValues, size * 2);
+        }
+        keyValues[size++] = key;
+        keyValues[size++] = value;
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder addMarker(final String name) {
+        // No markers
+        return this;
+    }
+
+    @Override
+    public void log(final String message) {
+        try {
+            final Object event;
+            if (size == 0) {
+                event = message;
+            } else {
+                buffer.append(message);
+                for (int i = 0; i < size; i += 2) {
+                    buffer.append(' ').append(keyValues[i]).append('=').append(keyValues[i + 1]);
+                }
+                event = buffer.toString();
+            }
+            switch (level) {
+            case TRACE:
+                log.trace(event, cause);
+                break;
+            case DEBUG:
+                log.debug(event, cause);
+                break;
+            case INFO:
+                log.info(event, cause);
+                break;
+            case WARN:
+                log.warn(event, cause);
+                break;
+            case ERROR:
+                log.error(event, cause);
+                break;
+            default:
+                log.fatal(event, cause);
+                break;
+            }
+        } finally {
+            reset();
+        }
+    }
+
+    @Override
+    public void log(final Supplier<?> messageSupplier) {
+        // Only enabled levels have a builder
+        final String message;
+        try {
+            message = String.valueOf(messageSupplier != null ? messageSupplier.get() : null);
+        } catch (final RuntimeException | Error e) {
+            reset();
+            throw e;
+        }
+        log(message);
+    }
+
+    /**
+     * Releases the references to the event, once logged.
+     */
+    private void reset() {
+        Arrays.fill(keyValues, 0, size, null);
+        size = 0;
+        cause = null;
+        log = null;
+        if (buffer.capacity() > MAX_REUSED_CAPACITY) {
+            buffer = new StringBuilder();
+        } else {
+            buffer.setLength(0);
+        }
+        inUse = false;
+    }
+
+    @Override
+    public LogEventBuilder setCause(final Throwable cause) {
+        this.cause = cause;
+        return this;
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+/**
+ * Gives {@link org.apache.commons.logging.impl.LogFactoryImpl} access to the class loading of the
+ * {@link LogFactory} discovery, so that both remember the same missing classes.
+ * <p>
+ * This class is not part of the public API: it is only public because {@code LogFactoryImpl} lives in
+ * another package. It may change or be removed in any release.
+ * </p>
+ */
+public final class DiscoverySupport {
+
+    /**
+     * Loads a class like {@link Class#forName(String, boolean, ClassLoader)}, remembering classes that
+     * cannot be found, until their class loader is released.
+     *
+     * @param className The fully qualified name of the class.
+     * @param initialize Whether the class must be initialized.
+     * @param classLoader The class loader to load the class from, {@code null} for the bootstrap class loader.
+     * @return The class, or {@code null} if it cannot be found.
+     * @throws LinkageError if the class is found but linking or initializing it fails.
+     */
+    public static Class<?> forNameOrNull(final String className, final boolean initialize, final ClassLoader classLoader) {
+        return LogFactory.forNameOrNull(className, initialize, classLoader);
+    }
+
+    private DiscoverySupport() {
+        // no instances
+    }
+}
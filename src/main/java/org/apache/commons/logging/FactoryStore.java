@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Stores the {@link LogFactory} instances created by {@link LogFactory#getFactory()}, keyed by the context class loader
+ * they manage logging for.
+ * <p>
+ * The implementation used by {@code LogFactory} can be selected by setting the system property
+ * {@link LogFactory#HASHTABLE_IMPLEMENTATION_PROPERTY} to the fully qualified name of a class implementing this interface.
+ * The class must have a public no-argument constructor. For backwards compatibility, the property may also name a
+ * subclass of {@code java.util.Hashtable}; such a class is adapted to this interface.
+ * </p>
+ * <p>
+ * Implementations must be thread-safe and compare keys by identity. The {@link #get(ClassLoader)} method is called on
+ * every {@code LogFactory.getLog()} invocation, so it should neither block nor allocate. The other methods are only
+ * called when a class loader is seen for the first time or released, and may synchronize on the store instance.
+ * Implementations should hold their keys weakly, so that class loaders can be garbage collected without the need to
+ * call {@link LogFactory#release(ClassLoader)}.
+ * </p>
+ * <p>
+ * {@code LogFactory} never passes a {@code null} key or value to a store.
+ * </p>
+ *
+ * @see org.apache.commons.logging.impl.WeakFactoryStore
+ * @since 1.5.0
+ */
+public interface FactoryStore {
+
+    /**
+     * Removes all mappings from this store.
+     */
+    void clear();
+
+    /**
+     * Performs the given action on each mapping of this store whose class loader has not been garbage collected.
+     *
+     * @param action The action to perform.
+     */
+    void forEach(BiConsumer<? super ClassLoader, ? super LogFactory> action);
+
+    /**
+     * Gets the factory associated with the given class loader.
+     *
+     * @param classLoader The context class loader.
+     * @return The associated factory or {@code null} if there is none.
+     */
+    LogFactory get(ClassLoader classLoader);
+
+    /**
+     * Associates the given factory with the given class loader.
+     *
+     * @param classLoader The context class loader.
+     * @param factory The factory managing logging for {@code classLoader}.
+     * @return The previously associated factory or {@code null} if there was none.
+     */
+    LogFactory put(ClassLoader classLoader, LogFactory factory);
+
+    /**
+     * Removes the factory associated with the given class loader.
+     *
+     * @param classLoader The context class loader.
+     * @return The previously associated factory or {@code null} if there was none.
+     */
+    LogFactory remove(ClassLoader classLoader);
+}
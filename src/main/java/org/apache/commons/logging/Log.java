@@ -17,6 +17,8 @@
 
 package org.apache.commons.logging;
 
+import java.util.function.Supplier;
+
 /**
  * A simple logging interface abstracting logging APIs.  In order to be
  * instantiated successfully by {@link LogFactory}, classes that implement
@@ -55,6 +57,18 @@ package org.apache.commons.logging;
  *    }
  * </pre>
  * <p>
+ * or, since 1.5.0, by passing a {@link Supplier} that is only called when the level is enabled:
+ * </p>
+ * <pre>
+ *    log.debug(() -&gt; "Computed " + theResult);
+ * </pre>
+ * <p>
+ * Since 1.5.0, events with key/value pairs are built with {@link #atInfo()} and the other {@code at} methods:
+ * </p>
+ * <pre>
+ *    log.atInfo().addKeyValue("orderId", orderId).log("Order shipped");
+ * </pre>
+ * <p>
  * Configuration of the underlying logging system will generally be done
  * external to the Logging APIs, through whatever mechanism is supported by
  * that system.
@@ -62,6 +76,66 @@ package org.apache.commons.logging;
  */
 public interface Log {
 
+    /**
+     * Starts building a log event with debug log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if debug logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atDebug() {
+        return isDebugEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.DEBUG) : NoOpLogEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Starts building a log event with error log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if error logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atError() {
+        return isErrorEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.ERROR) : NoOpLogEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Starts building a log event with fatal log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if fatal logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atFatal() {
+        return isFatalEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.FATAL) : NoOpLogEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Starts building a log event with info log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if info logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atInfo() {
+        return isInfoEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.INFO) : NoOpLogEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Starts building a log event with trace log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if trace logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atTrace() {
+        return isTraceEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.TRACE) : NoOpLogEventBuilder.INSTANCE;
+    }
+
+    /**
+     * Starts building a log event with warn log level, see {@link LogEventBuilder}.
+     *
+     * @return a builder, which does nothing if warn logging is disabled
+     * @since 1.5.0
+     */
+    default LogEventBuilder atWarn() {
+        return isWarnEnabled() ? DefaultLogEventBuilder.get(this, DefaultLogEventBuilder.WARN) : NoOpLogEventBuilder.INSTANCE;
+    }
+
     /**
      * Logs a message with debug log level.
      *
@@ -77,6 +151,173 @@ public interface Log {
      */
     void debug(Object message, Throwable t);
 
+    /**
+     * Logs a parameterized message with debug log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final Object arg) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final Object arg0, final Object arg1) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final char arg) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final double arg) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final float arg) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final long arg) {
+        if (isDebugEnabled()) {
+            debug(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with debug log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if debug logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isDebugEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            debug(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with debug log level.
+     * <p>
+     * Equivalent to {@link #debug(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.debug("message", exception)}, that match both the parameterized methods and
+     * {@link #debug(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void debug(final String message, final Throwable t) {
+        debug((Object) message, t);
+    }
+
+    /**
+     * Logs a message with debug log level, calling the supplier only if debug logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void debug(final Supplier<?> messageSupplier) {
+        if (isDebugEnabled()) {
+            debug(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
     /**
      * Logs a message with error log level.
      *
@@ -92,6 +333,173 @@ public interface Log {
      */
     void error(Object message, Throwable t);
 
+    /**
+     * Logs a parameterized message with error log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final Object arg) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final Object arg0, final Object arg1) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final char arg) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final double arg) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final float arg) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final long arg) {
+        if (isErrorEnabled()) {
+            error(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with error log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if error logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isErrorEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            error(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with error log level.
+     * <p>
+     * Equivalent to {@link #error(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.error("message", exception)}, that match both the parameterized methods and
+     * {@link #error(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void error(final String message, final Throwable t) {
+        error((Object) message, t);
+    }
+
+    /**
+     * Logs a message with error log level, calling the supplier only if error logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void error(final Supplier<?> messageSupplier) {
+        if (isErrorEnabled()) {
+            error(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
     /**
      * Logs a message with fatal log level.
      *
@@ -107,6 +515,173 @@ public interface Log {
      */
     void fatal(Object message, Throwable t);
 
+    /**
+     * Logs a parameterized message with fatal log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final Object arg) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final Object arg0, final Object arg1) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final char arg) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final double arg) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final float arg) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final long arg) {
+        if (isFatalEnabled()) {
+            fatal(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with fatal log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if fatal logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isFatalEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            fatal(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with fatal log level.
+     * <p>
+     * Equivalent to {@link #fatal(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.fatal("message", exception)}, that match both the parameterized methods and
+     * {@link #fatal(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void fatal(final String message, final Throwable t) {
+        fatal((Object) message, t);
+    }
+
+    /**
+     * Logs a message with fatal log level, calling the supplier only if fatal logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void fatal(final Supplier<?> messageSupplier) {
+        if (isFatalEnabled()) {
+            fatal(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
     /**
      * Logs a message with info log level.
      *
@@ -122,6 +697,173 @@ public interface Log {
      */
     void info(Object message, Throwable t);
 
+    /**
+     * Logs a parameterized message with info log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final Object arg) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final Object arg0, final Object arg1) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final char arg) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final double arg) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final float arg) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final long arg) {
+        if (isInfoEnabled()) {
+            info(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with info log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if info logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isInfoEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            info(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with info log level.
+     * <p>
+     * Equivalent to {@link #info(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.info("message", exception)}, that match both the parameterized methods and
+     * {@link #info(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void info(final String message, final Throwable t) {
+        info((Object) message, t);
+    }
+
+    /**
+     * Logs a message with info log level, calling the supplier only if info logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void info(final Supplier<?> messageSupplier) {
+        if (isInfoEnabled()) {
+            info(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
     /**
      * Is debug logging currently enabled?
      * <p>
@@ -203,6 +945,173 @@ public interface Log {
      */
     void trace(Object message, Throwable t);
 
+    /**
+     * Logs a parameterized message with trace log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final Object arg) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final Object arg0, final Object arg1) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final char arg) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final double arg) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final float arg) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final long arg) {
+        if (isTraceEnabled()) {
+            trace(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with trace log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if trace logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isTraceEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            trace(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with trace log level.
+     * <p>
+     * Equivalent to {@link #trace(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.trace("message", exception)}, that match both the parameterized methods and
+     * {@link #trace(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void trace(final String message, final Throwable t) {
+        trace((Object) message, t);
+    }
+
+    /**
+     * Logs a message with trace log level, calling the supplier only if trace logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void trace(final Supplier<?> messageSupplier) {
+        if (isTraceEnabled()) {
+            trace(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
     /**
      * Logs a message with warn log level.
      *
@@ -217,4 +1126,172 @@ public interface Log {
      * @param t log this cause
      */
     void warn(Object message, Throwable t);
+
+    /**
+     * Logs a parameterized message with warn log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled. If the argument is a
+     * {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final Object arg) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final Object arg0, final Object arg1) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level, without boxing its {@code char} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final char arg) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level, without boxing its {@code double} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final double arg) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level, without boxing its {@code float} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final float arg) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level, without boxing its {@code long} argument.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern, with a {@code {}} placeholder for the argument
+     * @param arg the argument
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final long arg) {
+        if (isWarnEnabled()) {
+            warn(MessageFormatter.format(pattern, arg));
+        }
+    }
+
+    /**
+     * Logs a parameterized message with warn log level.
+     * <p>
+     * The message is only formatted, by {@link MessageFormatter}, if warn logging is enabled. If the last
+     * argument is a {@link Throwable} without a placeholder, it is logged as the cause.
+     * </p>
+     *
+     * @param pattern the message pattern, with {@code {}} placeholders for the arguments
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @since 1.5.0
+     */
+    default void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        if (isWarnEnabled()) {
+            final Object[] args = MessageFormatter.toArray(arg0, arg1, arg2, moreArgs);
+            warn(MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    /**
+     * Logs an error with warn log level.
+     * <p>
+     * Equivalent to {@link #warn(Object, Throwable)}, the message is not formatted. This method resolves calls
+     * like {@code log.warn("message", exception)}, that match both the parameterized methods and
+     * {@link #warn(Object, Throwable)}.
+     * </p>
+     *
+     * @param message log this message
+     * @param t log this cause
+     * @since 1.5.0
+     */
+    default void warn(final String message, final Throwable t) {
+        warn((Object) message, t);
+    }
+
+    /**
+     * Logs a message with warn log level, calling the supplier only if warn logging is enabled.
+     *
+     * @param messageSupplier supplies the message to log, may be {@code null}
+     * @since 1.5.0
+     */
+    default void warn(final Supplier<?> messageSupplier) {
+        if (isWarnEnabled()) {
+            warn(messageSupplier != null ? messageSupplier.get() : null);
+        }
+    }
+
 }
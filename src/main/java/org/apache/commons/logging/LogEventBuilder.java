@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * Builds a log event with key/value pairs, as returned by {@link Log#atInfo()} and the other {@code at} methods.
+ * <p>
+ * For example:
+ * </p>
+ * <pre>
+ *    log.atInfo().addKeyValue("orderId", orderId).setCause(e).log("Order rejected");
+ * </pre>
+ * <p>
+ * A builder must be used in a single statement, as above, and not be kept: builders are reused by the
+ * following events of the same thread, once their event is logged. Events logged while the arguments of another
+ * one are evaluated get a builder of their own. If the level is disabled, all the methods of the builder do nothing.
+ * </p>
+ * <p>
+ * The bridges to SLF4J 2 and the Log4j API pass the key/value pairs and markers to the backend, as such. Other
+ * implementations of {@code Log} append the key/value pairs to the message, as {@code key=value}.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public interface LogEventBuilder {
+
+    /**
+     * Adds a key/value pair to the event.
+     *
+     * @param key the key
+     * @param value the value, may be {@code null}
+     * @return this builder
+     */
+    LogEventBuilder addKeyValue(String key, Object value);
+
+    /**
+     * Adds a marker to the event, such as {@code AUDIT}, for the backend to route or filter it.
+     * <p>
+     * The bridges to SLF4J and the Log4j API look the backend marker of the name up once, then cache it. The Log4j
+     * API supports a single marker per event: the last one added replaces the others, including the
+     * {@code COMMONS-LOGGING} marker. Implementations of {@code Log} without markers ignore them.
+     * </p>
+     *
+     * @param name the name of the marker
+     * @return this builder
+     */
+    LogEventBuilder addMarker(String name);
+
+    /**
+     * Logs the event.
+     *
+     * @param message the message, may be {@code null}
+     */
+    void log(String message);
+
+    /**
+     * Logs the event, with a message computed by a supplier.
+     *
+     * @param messageSupplier the supplier of the message, may be {@code null}
+     */
+    void log(Supplier<?> messageSupplier);
+
+    /**
+     * Sets the cause of the event.
+     *
+     * @param cause the cause, may be {@code null}
+     * @return this builder
+     */
+    LogEventBuilder setCause(Throwable cause);
+}
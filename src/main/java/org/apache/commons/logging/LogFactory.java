@@ -17,23 +17,43 @@
 
 package org.apache.commons.logging;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.PrintStream;
 import java.lang.ref.WeakReference;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -47,6 +67,354 @@ import java.util.function.Supplier;
  * </p>
  */
 public abstract class LogFactory {
+
+    /**
+     * A parsed configuration file, see {@link LogFactory#getCachedProperties(URL)}.
+     */
+    private static final class ConfigurationFile {
+
+        /** The modification time of the file when it was read. */
+        private final long lastModified;
+
+        /** The parsed file, never handed out. */
+        private final Properties properties;
+
+        private ConfigurationFile(final long lastModified, final Properties properties) {
+            this.lastModified = lastModified;
+            this.properties = properties;
+        }
+    }
+
+    /**
+     * A factory discovery in progress, see {@link LogFactory#getFactorySingleFlight(ClassLoader)}.
+     */
+    private static final class Discovery {
+
+        /** The thread running the discovery. */
+        private final Thread owner = Thread.currentThread();
+
+        /** Released when the discovery has completed, successfully or not. */
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        /** The discovered factory, or null if the discovery failed. */
+        private volatile LogFactory factory;
+    }
+
+    /**
+     * {@code Hashtable} view of a {@link FactoryStore}, published in {@link LogFactory#factories} for backwards
+     * compatibility when the store is not itself backed by a {@code Hashtable}. The methods of {@code Hashtable} are
+     * all overridden to use the store.
+     * <p>
+     * Bulk operations and the collection views work on read-only snapshots. The compound operations, such as
+     * {@link #putIfAbsent(ClassLoader, LogFactory)}, are atomic with respect to the other operations of this view,
+     * not to the changes {@code LogFactory} makes to the store directly. The store is transient: the view is
+     * serialized as a plain {@code Hashtable} holding a copy of its mappings, and reads back as one.
+     * </p>
+     */
+    private static final class FactoryStoreHashtable extends Hashtable<ClassLoader, LogFactory> {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 5014929578389497470L;
+
+        private final transient FactoryStore store;
+
+        private FactoryStoreHashtable(final FactoryStore store) {
+            this.store = store;
+        }
+
+        @Override
+        public synchronized void clear() {
+            store.clear();
+            factoryGeneration.incrementAndGet();
+        }
+
+        @Override
+        public Object clone() {
+            return copy();
+        }
+
+        @Override
+        public synchronized LogFactory compute(final ClassLoader key,
+                final BiFunction<? super ClassLoader, ? super LogFactory, ? extends LogFactory> remappingFunction) {
+            Objects.requireNonNull(remappingFunction, "remappingFunction");
+            final LogFactory value = remappingFunction.apply(key, get(key));
+            if (value != null) {
+                put(key, value);
+            } else {
+                remove(key);
+            }
+            return value;
+        }
+
+        @Override
+        public synchronized LogFactory computeIfAbsent(final ClassLoader key, final Function<? super ClassLoader, ? extends LogFactory> mappingFunction) {
+            Objects.requireNonNull(mappingFunction, "mappingFunction");
+            final LogFactory oldValue = get(key);
+            if (oldValue != null) {
+                return oldValue;
+            }
+            final LogFactory value = mappingFunction.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+            return value;
+        }
+
+        @Override
+        public synchronized LogFactory computeIfPresent(final ClassLoader key,
+                final BiFunction<? super ClassLoader, ? super LogFactory, ? extends LogFactory> remappingFunction) {
+            Objects.requireNonNull(remappingFunction, "remappingFunction");
+            final LogFactory oldValue = get(key);
+            if (oldValue == null) {
+                return null;
+            }
+            final LogFactory value = remappingFunction.apply(key, oldValue);
+            if (value != null) {
+                put(key, value);
+            } else {
+                remove(key);
+            }
+            return value;
+        }
+
+        @Override
+        public boolean contains(final Object value) {
+            return snapshot().containsValue(value);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public boolean containsValue(final Object value) {
+            return contains(value);
+        }
+
+        /**
+         * Copies the mappings of the store into a plain {@code Hashtable}.
+         */
+        private Hashtable<ClassLoader, LogFactory> copy() {
+            return new Hashtable<>(snapshot());
+        }
+
+        @Override
+        public Enumeration<LogFactory> elements() {
+            return Collections.enumeration(values());
+        }
+
+        @Override
+        public Set<Map.Entry<ClassLoader, LogFactory>> entrySet() {
+            return Collections.unmodifiableMap(snapshot()).entrySet();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o == this || copy().equals(o);
+        }
+
+        @Override
+        public void forEach(final BiConsumer<? super ClassLoader, ? super LogFactory> action) {
+            Objects.requireNonNull(action, "action");
+            snapshot().forEach(action);
+        }
+
+        @Override
+        public LogFactory get(final Object key) {
+            return key instanceof ClassLoader ? store.get((ClassLoader) key) : null;
+        }
+
+        @Override
+        public LogFactory getOrDefault(final Object key, final LogFactory defaultValue) {
+            final LogFactory value = get(key);
+            return value != null ? value : defaultValue;
+        }
+
+        @Override
+        public int hashCode() {
+            return copy().hashCode();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return snapshot().isEmpty();
+        }
+
+        @Override
+        public Enumeration<ClassLoader> keys() {
+            return Collections.enumeration(keySet());
+        }
+
+        @Override
+        public Set<ClassLoader> keySet() {
+            return Collections.unmodifiableSet(snapshot().keySet());
+        }
+
+        @Override
+        public synchronized LogFactory merge(final ClassLoader key, final LogFactory value,
+                final BiFunction<? super LogFactory, ? super LogFactory, ? extends LogFactory> remappingFunction) {
+            Objects.requireNonNull(value, "value");
+            Objects.requireNonNull(remappingFunction, "remappingFunction");
+            final LogFactory oldValue = get(key);
+            final LogFactory newValue = oldValue != null ? remappingFunction.apply(oldValue, value) : value;
+            if (newValue != null) {
+                put(key, newValue);
+            } else {
+                remove(key);
+            }
+            return newValue;
+        }
+
+        @Override
+        public synchronized LogFactory put(final ClassLoader key, final LogFactory value) {
+            Objects.requireNonNull(key, "key");
+            Objects.requireNonNull(value, "value");
+            try {
+                return store.put(key, value);
+            } finally {
+                factoryGeneration.incrementAndGet();
+            }
+        }
+
+        @Override
+        public synchronized void putAll(final Map<? extends ClassLoader, ? extends LogFactory> t) {
+            t.forEach(this::put);
+        }
+
+        @Override
+        public synchronized LogFactory putIfAbsent(final ClassLoader key, final LogFactory value) {
+            Objects.requireNonNull(value, "value");
+            final LogFactory oldValue = get(key);
+            if (oldValue == null) {
+                put(key, value);
+            }
+            return oldValue;
+        }
+
+        private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("Serialized as a Hashtable");
+        }
+
+        @Override
+        public synchronized LogFactory remove(final Object key) {
+            if (!(key instanceof ClassLoader)) {
+                return null;
+            }
+            try {
+                return store.remove((ClassLoader) key);
+            } finally {
+                factoryGeneration.incrementAndGet();
+            }
+        }
+
+        @Override
+        public synchronized boolean remove(final Object key, final Object value) {
+            final LogFactory oldValue = get(key);
+            if (oldValue == null || !oldValue.equals(value)) {
+                return false;
+            }
+            remove(key);
+            return true;
+        }
+
+        @Override
+        public synchronized LogFactory replace(final ClassLoader key, final LogFactory value) {
+            Objects.requireNonNull(value, "value");
+            final LogFactory oldValue = get(key);
+            if (oldValue != null) {
+                put(key, value);
+            }
+            return oldValue;
+        }
+
+        @Override
+        public synchronized boolean replace(final ClassLoader key, final LogFactory oldValue, final LogFactory newValue) {
+            Objects.requireNonNull(oldValue, "oldValue");
+            Objects.requireNonNull(newValue, "newValue");
+            final LogFactory value = get(key);
+            if (value == null || !value.equals(oldValue)) {
+                return false;
+            }
+            put(key, newValue);
+            return true;
+        }
+
+        @Override
+        public synchronized void replaceAll(final BiFunction<? super ClassLoader, ? super LogFactory, ? extends LogFactory> function) {
+            Objects.requireNonNull(function, "function");
+            snapshot().forEach((key, value) -> put(key, function.apply(key, value)));
+        }
+
+        @Override
+        public int size() {
+            return snapshot().size();
+        }
+
+        private Map<ClassLoader, LogFactory> snapshot() {
+            final Map<ClassLoader, LogFactory> snapshot = new IdentityHashMap<>();
+            store.forEach(snapshot::put);
+            return snapshot;
+        }
+
+        @Override
+        public String toString() {
+            return snapshot().toString();
+        }
+
+        @Override
+        public Collection<LogFactory> values() {
+            return Collections.unmodifiableCollection(snapshot().values());
+        }
+
+        private Object writeReplace() {
+            return copy();
+        }
+    }
+
+    /**
+     * Adapts a legacy {@code Hashtable} implementation, as named by {@link LogFactory#HASHTABLE_IMPLEMENTATION_PROPERTY},
+     * to the {@link FactoryStore} interface.
+     */
+    private static final class HashtableFactoryStore implements FactoryStore {
+
+        private final Hashtable<ClassLoader, LogFactory> hashtable;
+
+        private HashtableFactoryStore(final Hashtable<ClassLoader, LogFactory> hashtable) {
+            this.hashtable = hashtable;
+        }
+
+        @Override
+        public void clear() {
+            hashtable.clear();
+        }
+
+        @Override
+        public void forEach(final BiConsumer<? super ClassLoader, ? super LogFactory> action) {
+            // Iterate over entrySet() rather than calling Hashtable.forEach, WeakHashtable only overrides the former.
+            synchronized (hashtable) {
+                for (final Map.Entry<ClassLoader, LogFactory> entry : hashtable.entrySet()) {
+                    action.accept(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+
+        @Override
+        public LogFactory get(final ClassLoader classLoader) {
+            return hashtable.get(classLoader);
+        }
+
+        @Override
+        public LogFactory put(final ClassLoader classLoader, final LogFactory factory) {
+            return hashtable.put(classLoader, factory);
+        }
+
+        @Override
+        public LogFactory remove(final ClassLoader classLoader) {
+            return hashtable.remove(classLoader);
+        }
+    }
+
     // Implementation note re AccessController usage
     //
     // It is important to keep code invoked via an AccessController to small
@@ -100,6 +468,18 @@ public abstract class LogFactory {
 
     private static final String FACTORY_SLF4J = "org.apache.commons.logging.impl.Slf4jLogFactory";
 
+    private static final String FACTORY_JUL = "org.apache.commons.logging.impl.JulLogFactory";
+
+    private static final String JUL_LOGGER = "java.util.logging.Logger";
+
+    private static final String LOG4J_1_LOGGER = "org.apache.log4j.Logger";
+
+    /**
+     * The names of the attribute selecting the {@code Log} implementation of {@link #FACTORY_DEFAULT}, the current
+     * one and the deprecated one.
+     */
+    private static final String[] LOG_PROPERTIES = { "org.apache.commons.logging.Log", "org.apache.commons.logging.log" };
+
     /**
      * The fully qualified class name of the fallback {@code LogFactory}
      * implementation class to use, if no other can be found.
@@ -111,6 +491,88 @@ public abstract class LogFactory {
      */
     public static final String FACTORY_PROPERTIES = "commons-logging.properties";
 
+    /**
+     * The name ({@code org.apache.commons.logging.marker}) of the attribute used to disable the
+     * {@code COMMONS-LOGGING} marker of the factories redirecting to SLF4J and Log4j API.
+     * <p>
+     * These factories mark every event with this marker, unless this attribute is {@code false}. This saves
+     * the evaluation of the marker by the filters of the backend. The attribute can be set in a configuration
+     * properties file; loggers already created follow its changes.
+     * </p>
+     *
+     * @since 1.5.0
+     */
+    public static final String MARKER_PROPERTY = "org.apache.commons.logging.marker";
+
+    /**
+     * The name ({@code org.apache.commons.logging.rateLimit}) of the attribute limiting the number of events
+     * logged per second by each logger.
+     * <p>
+     * The value is a comma-separated list of {@code level=rate} entries, such as {@code warn=100,error=100}, or
+     * a single rate applied to all levels. A rate of zero or less removes the limit. The attribute
+     * {@code org.apache.commons.logging.rateLimit.}<em>name</em> replaces this one for the logger <em>name</em>
+     * and its descendants, the most specific one applying. The events over the limit are not passed to the
+     * logging implementation. Their number is logged before the next event logged at their level, at most once
+     * per second, or before the next call to the logger at any level once they wait for a second.
+     * </p>
+     * <p>
+     * The attributes can be set in a configuration properties file, and are read when a logger is created.
+     * They are supported by {@link org.apache.commons.logging.impl.LogFactoryImpl LogFactoryImpl} and the
+     * factories redirecting to SLF4J and Log4j API.
+     * </p>
+     *
+     * @since 1.5.0
+     */
+    public static final String RATE_LIMIT_PROPERTY = "org.apache.commons.logging.rateLimit";
+
+    /**
+     * The name ({@code org.apache.commons.logging.collapseWindow}) of the attribute collapsing the repeats of an
+     * event logged within a time window, in milliseconds.
+     * <p>
+     * Two events are repeats if they have the same level, message or pattern, cause type and top frame of the stack
+     * trace of the cause: the stack traces are only read for events that are repeats otherwise. The first event of a
+     * window is logged, with its stack trace, and the following repeats are counted rather than logged. The number of repeats is appended to the message of the first repeat
+     * logged after the window. Only the events with a {@code String} message or pattern are collapsed. Each logger
+     * remembers a bounded number of recent events: the number of repeats of an event it forgets is logged before the
+     * event replacing it.
+     * </p>
+     * <p>
+     * The attribute {@code org.apache.commons.logging.collapseWindow.}<em>name</em> replaces this one for the logger
+     * <em>name</em> and its descendants, and a window of zero or less disables collapsing. The attributes are read
+     * like {@link #RATE_LIMIT_PROPERTY}, and the repeats are collapsed before the rate limit applies.
+     * </p>
+     *
+     * @since 1.5.0
+     */
+    public static final String COLLAPSE_WINDOW_PROPERTY = "org.apache.commons.logging.collapseWindow";
+
+    /**
+     * The name ({@code META-INF/commons-logging/binding.index}) of the discovery index resource.
+     * <p>
+     * This properties file records the result of the discovery: the {@code LogFactory} implementation
+     * under the key {@value #FACTORY_PROPERTY} and, optionally, the {@code Log} implementation under the
+     * key {@code org.apache.commons.logging.Log}. When found by the class loader used for discovery, it
+     * replaces the probing for the standard factories. If a class it names cannot be loaded, the index is
+     * considered stale and ignored.
+     * </p>
+     * <p>
+     * Nothing generates the index: it is written and maintained by hand, by whoever packages the
+     * application, and must be updated when its logging libraries change. An index naming a factory
+     * that can still be loaded is trusted even if the discovery would now pick another one. With
+     * diagnostics enabled, the discovery is also run without the index and a different result is
+     * reported.
+     * </p>
+     *
+     * @since 1.5.0
+     */
+    public static final String BINDING_INDEX = "META-INF/commons-logging/binding.index";
+
+    /**
+     * Key of the {@code Log} implementation in the {@link #BINDING_INDEX}, the same as the
+     * attribute used by {@code LogFactoryImpl}.
+     */
+    private static final String BINDING_INDEX_LOG_KEY = "org.apache.commons.logging.Log";
+
     /**
      * JDK 1.3+ <a href="https://java.sun.com/j2se/1.3/docs/guide/jar/jar.html#Service%20Provider">
      * 'Service Provider' specification</a>.
@@ -151,9 +613,13 @@ public abstract class LogFactory {
     /**
      * Setting this system property
      * ({@code org.apache.commons.logging.LogFactory.HashtableImpl})
-     * value allows the {@code Hashtable} used to store
+     * value allows the {@link FactoryStore} used to store
      * class loaders to be substituted by an alternative implementation.
      * <p>
+     * The value must be the name of a class implementing {@link FactoryStore}
+     * or, for backwards compatibility, extending {@code Hashtable}.
+     * </p>
+     * <p>
      * <strong>Note:</strong> {@code LogFactory} will print:
      * </p>
      * <pre>
@@ -163,6 +629,10 @@ public abstract class LogFactory {
      * to system error and then continue using a standard Hashtable.
      * </p>
      * <p>
+     * If this property is not set, an instance of
+     * {@link org.apache.commons.logging.impl.WeakFactoryStore} is used.
+     * </p>
+     * <p>
      * <strong>Usage:</strong> Set this property when Java is invoked
      * and {@code LogFactory} will attempt to load a new instance
      * of the given implementation class.
@@ -181,16 +651,17 @@ public abstract class LogFactory {
      * {@code org.apache.commons.logging.AltHashtable}.
      * </p>
      * <p>
-     * A typical use case is to allow a custom
+     * A typical use case was to allow a custom
      * Hashtable implementation using weak references to be substituted.
      * This will allow class loaders to be garbage collected without
      * the need to release them (on 1.3+ JVMs only, of course ;).
+     * The default store now provides this behavior.
      * </p>
      */
     public static final String HASHTABLE_IMPLEMENTATION_PROPERTY = "org.apache.commons.logging.LogFactory.HashtableImpl";
 
-    /** Name used to load the weak hash table implementation by names. */
-    private static final String WEAK_HASHTABLE_CLASSNAME = "org.apache.commons.logging.impl.WeakHashtable";
+    /** Name used to load the default factory store implementation by name. */
+    private static final String WEAK_FACTORY_STORE_CLASSNAME = "org.apache.commons.logging.impl.WeakFactoryStore";
 
     /**
      * A reference to the class loader that loaded this class. This is the
@@ -207,12 +678,94 @@ public abstract class LogFactory {
      */
     private static final int MAX_BROKEN_SERVICES = 3;
 
+    /**
+     * The {@link FactoryStore} that all factory lookups, updates and releases go through, keyed by
+     * the {@code ClassLoader} each factory was created for.
+     * <p>
+     * This is the store named by {@link #HASHTABLE_IMPLEMENTATION_PROPERTY}, by default a
+     * {@link org.apache.commons.logging.impl.WeakFactoryStore}. A legacy {@code Hashtable} named by that
+     * property is wrapped, and then also published as {@link #factories}; otherwise {@link #factories}
+     * is only a view of this store, kept for subclasses that still read it.
+     * </p>
+     */
+    private static final FactoryStore factoryStore;
+
     /**
      * The previously constructed {@code LogFactory} instances, keyed by
      * the {@code ClassLoader} with which it was created.
+     * <p>
+     * This is the legacy {@code Hashtable} named by {@link #HASHTABLE_IMPLEMENTATION_PROPERTY}
+     * if one was configured, or otherwise a view of the {@link FactoryStore} in use.
+     * Assigning a new value to this field has no effect.
+     * </p>
      */
     protected static Hashtable<ClassLoader, LogFactory> factories;
 
+    /**
+     * The factory most recently returned by {@link #getFactory()} on the current thread, stored as
+     * {@code {Long generation, WeakReference<ClassLoader> contextClassLoader, WeakReference<LogFactory> factory}}.
+     * <p>
+     * Only JDK classes are stored and both references are weak, so a pooled thread pins neither its
+     * context class loader nor the class loader of this class.
+     * </p>
+     * <p>
+     * Changes made directly to a legacy {@link #factories} {@code Hashtable} are not tracked; use
+     * {@link #release(ClassLoader)} or {@link #releaseAll()} to discard factories.
+     * </p>
+     */
+    private static final ThreadLocal<Object[]> lastFactory = new ThreadLocal<>();
+
+    /**
+     * Incremented after every change to {@link #factoryStore}; entries of {@link #lastFactory}
+     * recorded under an older generation are ignored.
+     */
+    private static final AtomicLong factoryGeneration = new AtomicLong();
+
+    /**
+     * The {@code Log} last returned by {@link #getLog(Class)} for each class, stored as
+     * {@code {WeakReference<LogFactory> factory, WeakReference<Log> log}}.
+     * <p>
+     * The entry lives and dies with the class it is attached to. It is only used while the factory it
+     * records is the current one, which takes care of context class loader changes and releases, and
+     * only for the standard factories, see {@link #isCachingFactory(LogFactory)}. Only
+     * JDK classes and weak references are attached, so a class in a shared class loader does not pin
+     * the factory or logger of a web application.
+     * </p>
+     */
+    private static final ClassValue<AtomicReference<Object[]>> classLogs = new ClassValue<AtomicReference<Object[]>>() {
+        @Override
+        protected AtomicReference<Object[]> computeValue(final Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
+    /**
+     * Key used in {@link #discoveries} for the {@code null} context class loader.
+     */
+    private static final Object NULL_CLASS_LOADER_KEY = new Object();
+
+    /**
+     * The factory discoveries in progress, keyed by context class loader.
+     */
+    private static final ConcurrentMap<Object, Discovery> discoveries = new ConcurrentHashMap<>();
+
+    /**
+     * Parsed configuration files and discovery indexes, keyed by URL. A file in a shared parent class loader is
+     * read once for all the context class loaders that see it, and read again once its modification time changes.
+     */
+    private static final ConcurrentMap<String, ConfigurationFile> configurationFiles = new ConcurrentHashMap<>();
+
+    /**
+     * Names of the classes known not to be loadable, per class loader. Keys are weak so that
+     * discarded class loaders can be collected.
+     */
+    private static final Map<ClassLoader, Set<String>> unavailableClasses = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Names of the classes known not to be loadable by the bootstrap class loader.
+     */
+    private static final Set<String> unavailableBootstrapClasses = ConcurrentHashMap.newKeySet();
+
     /**
      * Previously constructed {@code LogFactory} instance as in the
      * {@code factories} map, but for the case where
@@ -255,7 +808,9 @@ public abstract class LogFactory {
         DIAGNOSTICS_PREFIX = "[LogFactory from " + classLoaderName + "] ";
         DIAGNOSTICS_STREAM = initDiagnostics();
         logClassLoaderEnvironment(LogFactory.class);
-        factories = createFactoryStore();
+        factoryStore = createFactoryStore();
+        factories = factoryStore instanceof HashtableFactoryStore ? ((HashtableFactoryStore) factoryStore).hashtable
+                : new FactoryStoreHashtable(factoryStore);
         logDiagnostic("BOOTSTRAP COMPLETED");
     }
 
@@ -275,11 +830,37 @@ public abstract class LogFactory {
             if (classLoader == null) {
                 nullClassLoaderFactory = factory;
             } else {
-                factories.put(classLoader, factory);
+                factoryStore.put(classLoader, factory);
+                factoryGeneration.incrementAndGet();
             }
         }
     }
 
+    /**
+     * Reports a discovery index naming another factory than the discovery would pick without it.
+     * <p>
+     * The index is maintained by hand, so it can be out of date without being stale. The standard factories
+     * are probed and created as if there were no index, which is why this check is only done with diagnostics
+     * enabled. The factory created for the check is discarded.
+     * </p>
+     *
+     * @param url The URL of the index.
+     * @param factoryClass The factory named by the index.
+     * @param classLoader The class loader used for discovery.
+     * @param props The properties file of the class loader, or {@code null}.
+     */
+    private static void checkIndexedFactory(final URL url, final String factoryClass, final ClassLoader classLoader, final Properties props) {
+        logDiagnostic("[LOOKUP] Checking the discovery index at '" + url + "' against the standard factories...");
+        final LogFactory standardFactory = newStandardFactory(classLoader, props);
+        final String standardClass = standardFactory != null ? standardFactory.getClass().getName() : FACTORY_DEFAULT;
+        if (standardClass.equals(factoryClass)) {
+            logDiagnostic("[LOOKUP] Discovery index at '" + url + "' matches the standard discovery.");
+        } else {
+            logDiagnostic("[LOOKUP] Discovery index at '" + url + "' names '" + factoryClass + "', but the standard discovery picks '" + standardClass
+                    + "': the index may be out of date.");
+        }
+    }
+
     /**
      * Creates a LogFactory object or a LogConfigurationException object.
      *
@@ -419,42 +1000,45 @@ public abstract class LogFactory {
     }
 
     /**
-     * Creates the hash table which will be used to store a map of
-     * (context class loader -> logfactory-object). Version 1.2+ of Java
-     * supports "weak references", allowing a custom Hashtable class
-     * to be used which uses only weak references to its keys. Using weak
-     * references can fix memory leaks on webapp unload in some cases (though
-     * not all). Version 1.1 of Java does not support weak references, so we
-     * must dynamically determine which we are using. And just for fun, this
-     * code also supports the ability for a system property to specify an
-     * arbitrary Hashtable implementation name.
+     * Creates the store which will be used to keep a map of
+     * (context class loader -> logfactory-object). By default the store
+     * only holds weak references to its keys, allowing class loaders to be
+     * garbage collected. This can fix memory leaks on webapp unload in some
+     * cases (though not all). A system property can also specify an arbitrary
+     * {@link FactoryStore} implementation name, or the name of a legacy
+     * {@code Hashtable} implementation which is then adapted to that interface.
      * <p>
      * Note that the correct way to ensure no memory leaks occur is to ensure
      * that LogFactory.release(contextClassLoader) is called whenever a
      * webapp is undeployed.
      * </p>
      */
-    private static Hashtable<ClassLoader, LogFactory> createFactoryStore() {
-        Hashtable<ClassLoader, LogFactory> result = null;
+    @SuppressWarnings("unchecked")
+    private static FactoryStore createFactoryStore() {
+        FactoryStore result = null;
         String storeImplementationClass;
         try {
             storeImplementationClass = getSystemProperty(HASHTABLE_IMPLEMENTATION_PROPERTY, null);
         } catch (final SecurityException ex) {
             // Permissions don't allow this to be accessed. Default to the "modern"
-            // weak hash table implementation if it is available.
+            // weak factory store implementation if it is available.
             storeImplementationClass = null;
         }
         if (storeImplementationClass == null) {
-            storeImplementationClass = WEAK_HASHTABLE_CLASSNAME;
+            storeImplementationClass = WEAK_FACTORY_STORE_CLASSNAME;
         }
         try {
-            final Class<Hashtable<ClassLoader, LogFactory>> implementationClass = (Class<Hashtable<ClassLoader, LogFactory>>) Class
-                    .forName(storeImplementationClass);
-            result = implementationClass.getConstructor().newInstance();
+            final Object store = Class.forName(storeImplementationClass).getConstructor().newInstance();
+            if (store instanceof FactoryStore) {
+                result = (FactoryStore) store;
+            } else {
+                // Legacy contract: throws ClassCastException if this is not a Hashtable either
+                result = new HashtableFactoryStore((Hashtable<ClassLoader, LogFactory>) store);
+            }
         } catch (final Throwable t) {
             handleThrowable(t); // may re-throw t
             // ignore
-            if (!WEAK_HASHTABLE_CLASSNAME.equals(storeImplementationClass)) {
+            if (!WEAK_FACTORY_STORE_CLASSNAME.equals(storeImplementationClass)) {
                 // if the user's trying to set up a custom implementation, give a clue
                 if (isDiagnosticsEnabled()) {
                     // use internal logging to issue the warning
@@ -467,7 +1051,7 @@ public abstract class LogFactory {
             }
         }
         if (result == null) {
-            result = new Hashtable<>();
+            result = new HashtableFactoryStore(new Hashtable<>());
         }
         return result;
     }
@@ -513,32 +1097,326 @@ public abstract class LogFactory {
     }
 
     /**
-     * Gets a cached log factory (keyed by contextClassLoader)
-     *
-     * @param contextClassLoader is the context class loader associated
-     * with the current thread. This allows separate LogFactory objects
-     * per component within a container, provided each component has
-     * a distinct context class loader set. This parameter may be null
-     * in JDK1.1, and in embedded systems where jcl-using code is
-     * placed in the bootclasspath.
+     * Runs the discovery of a {@code LogFactory} for the given context class loader and caches the result.
+     * This is the body of {@link #getFactory()} once the cached factories have been checked.
      *
-     * @return The factory associated with the specified class loader if
-     *  one has previously been created, or null if this is the first time
-     *  we have seen this particular class loader.
+     * @param contextClassLoader the context class loader of the current thread, may be null.
+     * @return A {@code LogFactory}.
+     * @throws LogConfigurationException if the implementation class is not available or cannot be instantiated.
      */
-    private static LogFactory getCachedFactory(final ClassLoader contextClassLoader) {
-        if (contextClassLoader == null) {
-            // We have to handle this specially, as factories is a Hashtable
-            // and those don't accept null as a key value.
-            //
-            // nb: nullClassLoaderFactory might be null. That's ok.
-            return nullClassLoaderFactory;
+    private static LogFactory discoverFactory(final ClassLoader contextClassLoader) throws LogConfigurationException {
+        LogFactory factory = null;
+
+        if (isDiagnosticsEnabled()) {
+            logDiagnostic(
+                    "[LOOKUP] LogFactory implementation requested for the first time for context class loader " +
+                    objectId(contextClassLoader));
+            logHierarchy("[LOOKUP] ", contextClassLoader);
         }
-        return factories.get(contextClassLoader);
-    }
 
-    /**
-     * Safely get access to the class loader for the specified class.
+        // Load properties file.
+        //
+        // If the properties file exists, then its contents are used as
+        // "attributes" on the LogFactory implementation class. One particular
+        // property may also control which LogFactory concrete subclass is
+        // used, but only if other discovery mechanisms fail.
+        //
+        // As the properties file (if it exists) will be used one way or
+        // another in the end we may as well look for it first.
+
+        final Properties props = getConfigurationFile(contextClassLoader, FACTORY_PROPERTIES);
+
+        // Determine whether we will be using the thread context class loader to
+        // load logging classes or not by checking the loaded properties file (if any).
+        boolean useTccl = contextClassLoader != null;
+        if (props != null) {
+            final String useTCCLStr = props.getProperty(TCCL_KEY);
+            useTccl &= useTCCLStr == null || Boolean.parseBoolean(useTCCLStr);
+        }
+        // If TCCL is still enabled at this point, we check if it resolves this class
+        if (useTccl) {
+            try {
+                if (!LogFactory.class.equals(Class.forName(LogFactory.class.getName(), false, contextClassLoader))) {
+                    logDiagnostic(() -> "The class " + LogFactory.class.getName() + " loaded by the context class loader " + objectId(contextClassLoader)
+                            + " and this class differ. Disabling the usage of the context class loader."
+                            + "Background can be found in https://commons.apache.org/logging/tech.html. ");
+                    logHierarchy("[BAD CL TREE] ", contextClassLoader);
+                    useTccl = false;
+                }
+            } catch (final ClassNotFoundException ignored) {
+                logDiagnostic(() -> "The class " + LogFactory.class.getName() + " is not present in the context class loader "
+                        + objectId(contextClassLoader) + ". Disabling the usage of the context class loader."
+                        + "Background can be found in https://commons.apache.org/logging/tech.html. ");
+                logHierarchy("[BAD CL TREE] ", contextClassLoader);
+                useTccl = false;
+            }
+        }
+        final ClassLoader baseClassLoader = useTccl ? contextClassLoader : thisClassLoaderRef.get();
+
+        // Determine which concrete LogFactory subclass to use.
+        // First, try a global system property
+        logDiagnostic(() -> "[LOOKUP] Looking for system property [" + FACTORY_PROPERTY +
+                      "] to define the LogFactory subclass to use...");
+
+        try {
+            final String factoryClass = getSystemProperty(FACTORY_PROPERTY, null);
+            if (factoryClass != null) {
+                logDiagnostic(() -> "[LOOKUP] Creating an instance of LogFactory class '" + factoryClass +
+                              "' as specified by system property " + FACTORY_PROPERTY);
+                factory = newFactory(factoryClass, baseClassLoader, contextClassLoader);
+            } else {
+                logDiagnostic(() -> "[LOOKUP] No system property [" + FACTORY_PROPERTY + "] defined.");
+            }
+        } catch (final SecurityException e) {
+            logDiagnostic(() -> "[LOOKUP] A security exception occurred while trying to create an instance of the custom factory class: ["
+                    + trim(e.getMessage()) + "]. Trying alternative implementations...");
+            // ignore
+        } catch (final RuntimeException e) {
+            // This is not consistent with the behavior when a bad LogFactory class is
+            // specified in a services file.
+            //
+            // One possible exception that can occur here is a ClassCastException when
+            // the specified class wasn't castable to this LogFactory type.
+            logDiagnostic(() -> "[LOOKUP] An exception occurred while trying to create an instance of the custom factory class: [" + trim(e.getMessage())
+                    + "] as specified by a system property.");
+            throw e;
+        }
+        //
+        // Second, try to find a service by using the JDK 1.3 class
+        // discovery mechanism, which involves putting a file with the name
+        // of an interface class in the META-INF/services directory, where the
+        // contents of the file is a single line specifying a concrete class
+        // that implements the desired interface.
+        if (factory == null) {
+            logDiagnostic("[LOOKUP] Using ServiceLoader  to define the LogFactory subclass to use...");
+            try {
+                final ServiceLoader<LogFactory> serviceLoader = ServiceLoader.load(LogFactory.class, baseClassLoader);
+                final Iterator<LogFactory> iterator = serviceLoader.iterator();
+
+                int i = MAX_BROKEN_SERVICES;
+                while (factory == null && i-- > 0) {
+                    try {
+                        if (iterator.hasNext()) {
+                            factory = iterator.next();
+                        }
+                    } catch (final ServiceConfigurationError | LinkageError ex) {
+                        logDiagnostic(() -> "[LOOKUP] An exception occurred while trying to find an instance of LogFactory: [" + trim(ex.getMessage())
+                                + "]. Trying alternative implementations...");
+                    }
+                }
+            } catch (final Exception ex) {
+                // note: if the specified LogFactory class wasn't compatible with LogFactory
+                // for some reason, a ClassCastException will be caught here, and attempts will
+                // continue to find a compatible class.
+                logDiagnostic(() -> "[LOOKUP] A security exception occurred while trying to create an instance of the custom factory class: ["
+                        + trim(ex.getMessage()) + "]. Trying alternative implementations...");
+                // ignore
+            }
+        }
+        //
+        // Third try looking into the properties file read earlier (if found)
+        if (factory == null) {
+            if (props != null) {
+                logDiagnostic(() ->
+                    "[LOOKUP] Looking in properties file for entry with key '" + FACTORY_PROPERTY +
+                    "' to define the LogFactory subclass to use...");
+                final String factoryClass = props.getProperty(FACTORY_PROPERTY);
+                if (factoryClass != null) {
+                    logDiagnostic(() ->
+                        "[LOOKUP] Properties file specifies LogFactory subclass '" + factoryClass + "'");
+                    factory = newFactory(factoryClass, baseClassLoader, contextClassLoader);
+                    // TODO: think about whether we need to handle exceptions from newFactory
+                } else {
+                    logDiagnostic("[LOOKUP] Properties file has no entry specifying LogFactory subclass.");
+                }
+            } else {
+                logDiagnostic("[LOOKUP] No properties file available to determine LogFactory subclass from..");
+            }
+        }
+        //
+        // Fourth, try one of the four provided factories first from the specified classloader
+        // and then from the current one.
+        if (factory == null) {
+            factory = newIndexedFactory(baseClassLoader, props);
+        }
+        if (factory == null) {
+            factory = newStandardFactory(baseClassLoader, props);
+        }
+        if (factory == null && baseClassLoader != thisClassLoaderRef.get()) {
+            factory = newStandardFactory(thisClassLoaderRef.get(), props);
+        }
+        if (factory != null) {
+            if (isDiagnosticsEnabled()) {
+                logDiagnostic("Created object " + objectId(factory) + " to manage class loader " + objectId(contextClassLoader));
+            }
+        } else {
+            logDiagnostic(() ->
+                "[LOOKUP] Loading the default LogFactory implementation '" + FACTORY_DEFAULT +
+                "' via the same class loader that loaded this LogFactory class (ie not looking in the context class loader).");
+            // Note: unlike the above code which can try to load custom LogFactory
+            // implementations via the TCCL, we don't try to load the default LogFactory
+            // implementation via the context class loader because:
+            // * that can cause problems (see comments in newFactory method)
+            // * no-one should be customizing the code of the default class
+            // Yes, we do give up the ability for the child to ship a newer
+            // version of the LogFactoryImpl class and have it used dynamically
+            // by an old LogFactory class in the parent, but that isn't
+            // necessarily a good idea anyway.
+            factory = newFactory(FACTORY_DEFAULT, thisClassLoaderRef.get(), contextClassLoader);
+        }
+        if (factory != null) {
+            //
+            // Always cache using context class loader.
+            //
+            cacheFactory(contextClassLoader, factory);
+            if (props != null) {
+                final Enumeration<?> names = props.propertyNames();
+                while (names.hasMoreElements()) {
+                    final String name = Objects.toString(names.nextElement(), null);
+                    final String value = props.getProperty(name);
+                    factory.setAttribute(name, value);
+                }
+            }
+        }
+        return factory;
+    }
+
+    /**
+     * Loads a class like {@link Class#forName(String, boolean, ClassLoader)}, remembering classes that
+     * cannot be found.
+     * <p>
+     * Discovery probes for several optional classes, in every context class loader and sometimes in each
+     * of their ancestors. A failed {@code Class.forName} is costly as it fills in the stack trace of a
+     * {@code ClassNotFoundException}, so the failure is recorded for the given class loader and later
+     * attempts return {@code null} straight away. The records of a class loader are discarded by
+     * {@link #release(ClassLoader)} and {@link #releaseAll()}.
+     * </p>
+     * <p>
+     * A record is kept until its class loader is released, even if the class has become available
+     * meanwhile, for example through {@code URLClassLoader.addURL}. Releasing a class loader does not
+     * discard the records of its parents.
+     * </p>
+     *
+     * @param className The fully qualified name of the class.
+     * @param initialize Whether the class must be initialized.
+     * @param classLoader The class loader to load the class from, {@code null} for the bootstrap class loader.
+     * @return The class, or {@code null} if it cannot be found.
+     * @throws LinkageError if the class is found but linking or initializing it fails.
+     * @see DiscoverySupport#forNameOrNull(String, boolean, ClassLoader)
+     */
+    static Class<?> forNameOrNull(final String className, final boolean initialize, final ClassLoader classLoader) {
+        if (isClassUnavailable(className, classLoader)) {
+            logDiagnostic(() -> "Class '" + className + "' is known not to be available in class loader " + objectId(classLoader));
+            return null;
+        }
+        try {
+            return Class.forName(className, initialize, classLoader);
+        } catch (final ClassNotFoundException e) {
+            logDiagnostic(() -> "Failed to load class '" + className + "' from class loader " + objectId(classLoader) + ": " + e.getMessage());
+            setClassUnavailable(className, classLoader);
+            return null;
+        }
+    }
+
+    /**
+     * Gets a cached log factory (keyed by contextClassLoader)
+     *
+     * @param contextClassLoader is the context class loader associated
+     * with the current thread. This allows separate LogFactory objects
+     * per component within a container, provided each component has
+     * a distinct context class loader set. This parameter may be null
+     * in JDK1.1, and in embedded systems where jcl-using code is
+     * placed in the bootclasspath.
+     *
+     * @return The factory associated with the specified class loader if
+     *  one has previously been created, or null if this is the first time
+     *  we have seen this particular class loader.
+     */
+    private static LogFactory getCachedFactory(final ClassLoader contextClassLoader) {
+        if (contextClassLoader == null) {
+            // We have to handle this specially, as factory stores
+            // don't accept null as a key value.
+            //
+            // nb: nullClassLoaderFactory might be null. That's ok.
+            return nullClassLoaderFactory;
+        }
+        return factoryStore.get(contextClassLoader);
+    }
+
+    /**
+     * Gets the properties of the given configuration file, reading it again only if its modification time
+     * has changed since it was last read.
+     * <p>
+     * Only files in a directory or in a jar on the file system can be checked for changes. Files behind
+     * any other kind of URL are not cached and read on every call.
+     * </p>
+     *
+     * @param url the configuration file.
+     * @return a copy of the properties the caller is free to modify, or null if the file cannot be read.
+     */
+    private static Properties getCachedProperties(final URL url) {
+        final long lastModified = getLastModified(url);
+        if (lastModified == 0L) {
+            return getProperties(url);
+        }
+        final String key = url.toExternalForm();
+        ConfigurationFile file = configurationFiles.get(key);
+        if (file == null || file.lastModified != lastModified) {
+            final Properties props = getProperties(url);
+            if (props == null) {
+                return null;
+            }
+            file = new ConfigurationFile(lastModified, props);
+            configurationFiles.put(key, file);
+        }
+        return (Properties) file.properties.clone();
+    }
+
+    /**
+     * Gets the modification time of the file behind the given URL, or of the jar file containing it.
+     *
+     * @param url a resource URL.
+     * @return the modification time, or 0 if it cannot be determined.
+     */
+    private static long getLastModified(final URL url) {
+        return AccessController.doPrivileged((PrivilegedAction<Long>) () -> {
+            try {
+                URL fileUrl = url;
+                if ("jar".equals(url.getProtocol())) {
+                    final String spec = url.getFile();
+                    final int separator = spec.indexOf("!/");
+                    fileUrl = new URL(separator < 0 ? spec : spec.substring(0, separator));
+                }
+                if ("file".equals(fileUrl.getProtocol())) {
+                    return new File(fileUrl.toURI()).lastModified();
+                }
+            } catch (final IOException | URISyntaxException | IllegalArgumentException e) {
+                logDiagnostic(() -> "Unable to determine the modification time of URL " + url);
+            }
+            return 0L;
+        }).longValue();
+    }
+
+    /**
+     * Gets the factory recorded by {@link #setLastFactory(ClassLoader, LogFactory, long)}
+     * on the current thread, provided it was recorded for the same context class loader
+     * and the factory store has not changed since.
+     *
+     * @param contextClassLoader the current context class loader, not null.
+     * @param generation the current value of {@link #factoryGeneration}.
+     * @return the factory, or null if there is no valid entry.
+     */
+    private static LogFactory getLastFactory(final ClassLoader contextClassLoader, final long generation) {
+        final Object[] last = lastFactory.get();
+        if (last != null && ((Long) last[0]).longValue() == generation
+                && ((WeakReference<?>) last[1]).get() == contextClassLoader) {
+            return (LogFactory) ((WeakReference<?>) last[2]).get();
+        }
+        return null;
+    }
+
+    /**
+     * Safely get access to the class loader for the specified class.
      * <p>
      * Theoretically, calling getClassLoader can throw a security exception,
      * and so should be done under an AccessController in order to provide
@@ -599,6 +1477,10 @@ public abstract class LogFactory {
      * webapps. Webapps can also use explicit priorities to override a configuration
      * file in the shared classpath if needed.
      * </p>
+     * <p>
+     * Each file is read once and then cached until its modification time changes or the class
+     * loader contributing it is released with {@link #release(ClassLoader)} or {@link #releaseAll()}.
+     * </p>
      */
     private static Properties getConfigurationFile(final ClassLoader classLoader, final String fileName) {
         Properties props = null;
@@ -611,7 +1493,7 @@ public abstract class LogFactory {
             }
             while (urls.hasMoreElements()) {
                 final URL url = urls.nextElement();
-                final Properties newProps = getProperties(url);
+                final Properties newProps = getCachedProperties(url);
                 if (newProps != null) {
                     if (props == null) {
                         propsUrl = url;
@@ -709,216 +1591,140 @@ public abstract class LogFactory {
      * <li>Use the properties file {@code commons-logging.properties} file, if found in the class path of this class. The configuration file is in standard
      * {@link java.util.Properties} format and contains the fully qualified name of the implementation class with the key being the system property defined
      * above.</li>
+     * <li>The implementation class recorded in the discovery index {@value #BINDING_INDEX}, if present and not stale.</li>
      * <li>Fall back to a default implementation class ({@code org.apache.commons.logging.impl.LogFactoryImpl}).</li>
-     * </ul>
-     * <p>
-     * <em>NOTE</em> - If the properties file method of identifying the {@code LogFactory} implementation class is utilized, all of the properties defined in
-     * this file will be set as configuration attributes on the corresponding {@code LogFactory} instance.
-     * </p>
-     * <p>
-     * <em>NOTE</em> - In a multi-threaded environment it is possible that two different instances will be returned for the same class loader environment.
-     * </p>
-     *
-     * @return A {@code LogFactory}.
-     * @throws LogConfigurationException if the implementation class is not available or cannot be instantiated.
-     */
-    public static LogFactory getFactory() throws LogConfigurationException {
-        // Identify the class loader we will be using
-        final ClassLoader contextClassLoader = getContextClassLoaderInternal();
-
-        // This is an odd enough situation to report about. This
-        // output will be a nuisance on JDK1.1, as the system
-        // class loader is null in that environment.
-        if (contextClassLoader == null) {
-            logDiagnostic("Context class loader is null.");
-        }
-
-        // Return any previously registered factory for this class loader
-        LogFactory factory = getCachedFactory(contextClassLoader);
-        if (factory != null) {
-            return factory;
-        }
-
-        if (isDiagnosticsEnabled()) {
-            logDiagnostic(
-                    "[LOOKUP] LogFactory implementation requested for the first time for context class loader " +
-                    objectId(contextClassLoader));
-            logHierarchy("[LOOKUP] ", contextClassLoader);
-        }
-
-        // Load properties file.
-        //
-        // If the properties file exists, then its contents are used as
-        // "attributes" on the LogFactory implementation class. One particular
-        // property may also control which LogFactory concrete subclass is
-        // used, but only if other discovery mechanisms fail.
-        //
-        // As the properties file (if it exists) will be used one way or
-        // another in the end we may as well look for it first.
-
-        final Properties props = getConfigurationFile(contextClassLoader, FACTORY_PROPERTIES);
-
-        // Determine whether we will be using the thread context class loader to
-        // load logging classes or not by checking the loaded properties file (if any).
-        boolean useTccl = contextClassLoader != null;
-        if (props != null) {
-            final String useTCCLStr = props.getProperty(TCCL_KEY);
-            useTccl &= useTCCLStr == null || Boolean.parseBoolean(useTCCLStr);
-        }
-        // If TCCL is still enabled at this point, we check if it resolves this class
-        if (useTccl) {
-            try {
-                if (!LogFactory.class.equals(Class.forName(LogFactory.class.getName(), false, contextClassLoader))) {
-                    logDiagnostic(() -> "The class " + LogFactory.class.getName() + " loaded by the context class loader " + objectId(contextClassLoader)
-                            + " and this class differ. Disabling the usage of the context class loader."
-                            + "Background can be found in https://commons.apache.org/logging/tech.html. ");
-                    logHierarchy("[BAD CL TREE] ", contextClassLoader);
-                    useTccl = false;
-                }
-            } catch (final ClassNotFoundException ignored) {
-                logDiagnostic(() -> "The class " + LogFactory.class.getName() + " is not present in the context class loader "
-                        + objectId(contextClassLoader) + ". Disabling the usage of the context class loader."
-                        + "Background can be found in https://commons.apache.org/logging/tech.html. ");
-                logHierarchy("[BAD CL TREE] ", contextClassLoader);
-                useTccl = false;
-            }
-        }
-        final ClassLoader baseClassLoader = useTccl ? contextClassLoader : thisClassLoaderRef.get();
+     * </ul>
+     * <p>
+     * <em>NOTE</em> - If the properties file method of identifying the {@code LogFactory} implementation class is utilized, all of the properties defined in
+     * this file will be set as configuration attributes on the corresponding {@code LogFactory} instance.
+     * </p>
+     * <p>
+     * <em>NOTE</em> - In a multi-threaded environment it is possible that two different instances will be returned for the same class loader environment.
+     * </p>
+     *
+     * @return A {@code LogFactory}.
+     * @throws LogConfigurationException if the implementation class is not available or cannot be instantiated.
+     */
+    public static LogFactory getFactory() throws LogConfigurationException {
+        // Identify the class loader we will be using
+        final ClassLoader contextClassLoader = getContextClassLoaderInternal();
 
-        // Determine which concrete LogFactory subclass to use.
-        // First, try a global system property
-        logDiagnostic(() -> "[LOOKUP] Looking for system property [" + FACTORY_PROPERTY +
-                      "] to define the LogFactory subclass to use...");
+        // This is an odd enough situation to report about. This
+        // output will be a nuisance on JDK1.1, as the system
+        // class loader is null in that environment.
+        if (contextClassLoader == null) {
+            logDiagnostic("Context class loader is null.");
+        }
 
-        try {
-            final String factoryClass = getSystemProperty(FACTORY_PROPERTY, null);
-            if (factoryClass != null) {
-                logDiagnostic(() -> "[LOOKUP] Creating an instance of LogFactory class '" + factoryClass +
-                              "' as specified by system property " + FACTORY_PROPERTY);
-                factory = newFactory(factoryClass, baseClassLoader, contextClassLoader);
-            } else {
-                logDiagnostic(() -> "[LOOKUP] No system property [" + FACTORY_PROPERTY + "] defined.");
+        // Return the factory this thread obtained last time for the same class loader,
+        // or any previously registered factory for this class loader
+        LogFactory factory;
+        if (contextClassLoader != null) {
+            final long generation = factoryGeneration.get();
+            factory = getLastFactory(contextClassLoader, generation);
+            if (factory != null) {
+                return factory;
+            }
+            factory = getCachedFactory(contextClassLoader);
+            if (factory != null) {
+                setLastFactory(contextClassLoader, factory, generation);
+                return factory;
+            }
+        } else {
+            factory = getCachedFactory(null);
+            if (factory != null) {
+                return factory;
             }
-        } catch (final SecurityException e) {
-            logDiagnostic(() -> "[LOOKUP] A security exception occurred while trying to create an instance of the custom factory class: ["
-                    + trim(e.getMessage()) + "]. Trying alternative implementations...");
-            // ignore
-        } catch (final RuntimeException e) {
-            // This is not consistent with the behavior when a bad LogFactory class is
-            // specified in a services file.
-            //
-            // One possible exception that can occur here is a ClassCastException when
-            // the specified class wasn't castable to this LogFactory type.
-            logDiagnostic(() -> "[LOOKUP] An exception occurred while trying to create an instance of the custom factory class: [" + trim(e.getMessage())
-                    + "] as specified by a system property.");
-            throw e;
         }
-        //
-        // Second, try to find a service by using the JDK 1.3 class
-        // discovery mechanism, which involves putting a file with the name
-        // of an interface class in the META-INF/services directory, where the
-        // contents of the file is a single line specifying a concrete class
-        // that implements the desired interface.
-        if (factory == null) {
-            logDiagnostic("[LOOKUP] Using ServiceLoader  to define the LogFactory subclass to use...");
-            try {
-                final ServiceLoader<LogFactory> serviceLoader = ServiceLoader.load(LogFactory.class, baseClassLoader);
-                final Iterator<LogFactory> iterator = serviceLoader.iterator();
 
-                int i = MAX_BROKEN_SERVICES;
-                while (factory == null && i-- > 0) {
-                    try {
-                        if (iterator.hasNext()) {
-                            factory = iterator.next();
-                        }
-                    } catch (final ServiceConfigurationError | LinkageError ex) {
-                        logDiagnostic(() -> "[LOOKUP] An exception occurred while trying to find an instance of LogFactory: [" + trim(ex.getMessage())
-                                + "]. Trying alternative implementations...");
+        // Otherwise run the discovery, at most once at a time for this class loader
+        return getFactorySingleFlight(contextClassLoader);
+    }
+
+    /**
+     * Discovers the factory for the given context class loader, making sure only one thread at a
+     * time runs the discovery for a given class loader.
+     * <p>
+     * Threads arriving while a discovery is in progress wait for it and return its result. If that
+     * discovery fails, each of them tries again. A discovery calling back into {@link #getFactory()}
+     * on its own thread (for example from a factory constructor) is not made to wait for itself.
+     * </p>
+     *
+     * @param contextClassLoader the context class loader of the current thread, may be null.
+     * @return A {@code LogFactory}.
+     * @throws LogConfigurationException if the implementation class is not available or cannot be instantiated.
+     */
+    private static LogFactory getFactorySingleFlight(final ClassLoader contextClassLoader) throws LogConfigurationException {
+        final Object key = contextClassLoader != null ? contextClassLoader : NULL_CLASS_LOADER_KEY;
+        while (true) {
+            final Discovery discovery = new Discovery();
+            final Discovery inFlight = discoveries.putIfAbsent(key, discovery);
+            if (inFlight == null) {
+                try {
+                    // A discovery may have completed since the caller checked the cache
+                    LogFactory factory = getCachedFactory(contextClassLoader);
+                    if (factory == null) {
+                        factory = discoverFactory(contextClassLoader);
                     }
+                    discovery.factory = factory;
+                    return factory;
+                } finally {
+                    discoveries.remove(key, discovery);
+                    discovery.done.countDown();
                 }
-            } catch (final Exception ex) {
-                // note: if the specified LogFactory class wasn't compatible with LogFactory
-                // for some reason, a ClassCastException will be caught here, and attempts will
-                // continue to find a compatible class.
-                logDiagnostic(() -> "[LOOKUP] A security exception occurred while trying to create an instance of the custom factory class: ["
-                        + trim(ex.getMessage()) + "]. Trying alternative implementations...");
-                // ignore
-            }
-        }
-        //
-        // Third try looking into the properties file read earlier (if found)
-        if (factory == null) {
-            if (props != null) {
-                logDiagnostic(() ->
-                    "[LOOKUP] Looking in properties file for entry with key '" + FACTORY_PROPERTY +
-                    "' to define the LogFactory subclass to use...");
-                final String factoryClass = props.getProperty(FACTORY_PROPERTY);
-                if (factoryClass != null) {
-                    logDiagnostic(() ->
-                        "[LOOKUP] Properties file specifies LogFactory subclass '" + factoryClass + "'");
-                    factory = newFactory(factoryClass, baseClassLoader, contextClassLoader);
-                    // TODO: think about whether we need to handle exceptions from newFactory
-                } else {
-                    logDiagnostic("[LOOKUP] Properties file has no entry specifying LogFactory subclass.");
-                }
-            } else {
-                logDiagnostic("[LOOKUP] No properties file available to determine LogFactory subclass from..");
             }
-        }
-        //
-        // Fourth, try one of the three provided factories first from the specified classloader
-        // and then from the current one.
-        if (factory == null) {
-            factory = newStandardFactory(baseClassLoader);
-        }
-        if (factory == null && baseClassLoader != thisClassLoaderRef.get()) {
-            factory = newStandardFactory(thisClassLoaderRef.get());
-        }
-        if (factory != null) {
-            if (isDiagnosticsEnabled()) {
-                logDiagnostic("Created object " + objectId(factory) + " to manage class loader " + objectId(contextClassLoader));
+            if (inFlight.owner == Thread.currentThread()) {
+                return discoverFactory(contextClassLoader);
             }
-        } else {
-            logDiagnostic(() ->
-                "[LOOKUP] Loading the default LogFactory implementation '" + FACTORY_DEFAULT +
-                "' via the same class loader that loaded this LogFactory class (ie not looking in the context class loader).");
-            // Note: unlike the above code which can try to load custom LogFactory
-            // implementations via the TCCL, we don't try to load the default LogFactory
-            // implementation via the context class loader because:
-            // * that can cause problems (see comments in newFactory method)
-            // * no-one should be customizing the code of the default class
-            // Yes, we do give up the ability for the child to ship a newer
-            // version of the LogFactoryImpl class and have it used dynamically
-            // by an old LogFactory class in the parent, but that isn't
-            // necessarily a good idea anyway.
-            factory = newFactory(FACTORY_DEFAULT, thisClassLoaderRef.get(), contextClassLoader);
-        }
-        if (factory != null) {
-            //
-            // Always cache using context class loader.
-            //
-            cacheFactory(contextClassLoader, factory);
-            if (props != null) {
-                final Enumeration<?> names = props.propertyNames();
-                while (names.hasMoreElements()) {
-                    final String name = Objects.toString(names.nextElement(), null);
-                    final String value = props.getProperty(name);
-                    factory.setAttribute(name, value);
+            final long start = System.nanoTime();
+            try {
+                inFlight.done.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logDiagnostic("[LOOKUP] Interrupted while waiting for the discovery in progress, discovering the LogFactory on this thread.");
+                return discoverFactory(contextClassLoader);
+            } finally {
+                if (isDiagnosticsEnabled()) {
+                    logDiagnostic("[LOOKUP] Waited " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + "ms for the LogFactory discovery for "
+                            + "class loader " + objectId(contextClassLoader) + " running on thread " + inFlight.owner.getName() + ".");
                 }
             }
+            final LogFactory factory = inFlight.factory;
+            if (factory != null) {
+                return factory;
+            }
+            logDiagnostic("[LOOKUP] The discovery in progress failed, trying again on this thread.");
         }
-        return factory;
     }
 
     /**
      * Gets a named logger, without the application having to care about factories.
+     * <p>
+     * The logger returned by one of the standard factories is remembered with the class, so that
+     * code obtaining a logger per instance rather than per class only pays for a lookup the first time.
+     * Other factories are asked on every call.
+     * </p>
      *
      * @param clazz Class from which a log name will be derived
      * @return A named logger.
      * @throws LogConfigurationException if a suitable {@code Log} instance cannot be returned
      */
     public static Log getLog(final Class<?> clazz) throws LogConfigurationException {
-        return getFactory().getInstance(clazz);
+        final LogFactory factory = getFactory();
+        if (!isCachingFactory(factory)) {
+            return factory.getInstance(clazz);
+        }
+        final AtomicReference<Object[]> cached = classLogs.get(clazz);
+        final Object[] last = cached.get();
+        if (last != null && ((WeakReference<?>) last[0]).get() == factory) {
+            final Log log = (Log) ((WeakReference<?>) last[1]).get();
+            if (log != null) {
+                return log;
+            }
+        }
+        final Log log = factory.getInstance(clazz);
+        cached.set(new Object[] { new WeakReference<>(factory), new WeakReference<>(log) });
+        return log;
     }
 
     /**
@@ -1139,17 +1945,85 @@ public abstract class LogFactory {
         }
     }
 
+    /**
+     * Tests whether the legacy factory would log to {@code java.util.logging} with the given class loader, so that
+     * {@link #FACTORY_JUL} can stand in for it: {@code java.util.logging} is available, Log4J 1.2 is not, and no
+     * {@code Log} implementation is configured, neither by a system property nor by the configuration file.
+     *
+     * @param classLoader The class loader used for discovery.
+     * @param props The configuration file, or {@code null}.
+     * @return Whether the legacy factory would use {@code Jdk14Logger}.
+     */
+    private static boolean isJulDefault(final ClassLoader classLoader, final Properties props) {
+        for (final String property : LOG_PROPERTIES) {
+            String logClass = props != null ? props.getProperty(property) : null;
+            if (logClass == null) {
+                try {
+                    logClass = getSystemProperty(property, null);
+                } catch (final SecurityException ignored) {
+                    // the legacy factory cannot read it either
+                }
+            }
+            if (logClass != null) {
+                logDiagnostic(() -> "[LOOKUP] A Log implementation is configured by '" + property + "', the JUL LogFactory is not used.");
+                return false;
+            }
+        }
+        try {
+            // Only look up Log4J, initializing it is left to the legacy factory
+            if (forNameOrNull(LOG4J_1_LOGGER, false, classLoader) != null || forNameOrNull(LOG4J_1_LOGGER, false, thisClassLoaderRef.get()) != null) {
+                logDiagnostic("[LOOKUP] Log4J 1.2 is available, the JUL LogFactory is not used.");
+                return false;
+            }
+        } catch (final LinkageError e) {
+            logDiagnostic(() -> "[LOOKUP] Failed to look up Log4J 1.2: " + e.getMessage());
+        }
+        return isClassAvailable(JUL_LOGGER, classLoader);
+    }
+
+    /**
+     * Tests whether the given factory is one of the standard factories, which return the same {@code Log}
+     * for the same name until they are released. Only their loggers may be remembered by {@link #getLog(Class)};
+     * a custom factory, including a subclass of a standard one, is free to return a new logger on each call.
+     *
+     * @param factory The factory.
+     * @return Whether the factory caches its loggers by name.
+     */
+    private static boolean isCachingFactory(final LogFactory factory) {
+        switch (factory.getClass().getName()) {
+        case FACTORY_DEFAULT:
+        case FACTORY_JUL:
+        case FACTORY_LOG4J_API:
+        case FACTORY_SLF4J:
+            return true;
+        default:
+            return false;
+        }
+    }
+
     private static boolean isClassAvailable(final String className, final ClassLoader classLoader) {
         logDiagnostic(() -> "Checking if class '" + className + "' is available in class loader " + objectId(classLoader));
         try {
-            Class.forName(className, true, classLoader);
-            return true;
-        } catch (final ClassNotFoundException | LinkageError e) {
+            return forNameOrNull(className, true, classLoader) != null;
+        } catch (final LinkageError e) {
             logDiagnostic(() -> "Failed to load class '" + className + "' from class loader " + objectId(classLoader) + ": " + e.getMessage());
+            setClassUnavailable(className, classLoader);
         }
         return false;
     }
 
+    /**
+     * Tests whether a class is recorded as not loadable by the given class loader.
+     *
+     * @param className The fully qualified name of the class.
+     * @param classLoader The class loader, may be null.
+     * @return true if a previous attempt to load the class failed.
+     */
+    private static boolean isClassUnavailable(final String className, final ClassLoader classLoader) {
+        final Set<String> unavailable = classLoader != null ? unavailableClasses.get(classLoader) : unavailableBootstrapClasses;
+        return unavailable != null && unavailable.contains(className);
+    }
+
     /**
      * Tests whether the user enabled internal logging.
      * <p>
@@ -1404,45 +2278,125 @@ public abstract class LogFactory {
     }
 
     /**
-     * Tries to load one of the standard three implementations from the given classloader.
+     * Tries to load one of the standard four implementations from the given classloader.
      * <p>
      *     We assume that {@code classLoader} can load this class.
      * </p>
      *
      * @param classLoader The classloader to use.
+     * @param props The configuration file, or {@code null}.
      * @return An implementation of this class.
      */
-    private static LogFactory newStandardFactory(final ClassLoader classLoader) {
+    private static LogFactory newStandardFactory(final ClassLoader classLoader, final Properties props) {
         if (isClassAvailable(LOG4J_TO_SLF4J_BRIDGE, classLoader)) {
-            try {
-                return (LogFactory) Class.forName(FACTORY_SLF4J, true, classLoader).getConstructor().newInstance();
-            } catch (final LinkageError | ReflectiveOperationException ignored) {
-            } finally {
-                logDiagnostic(() ->
-                        "[LOOKUP] Log4j API to SLF4J redirection detected. Loading the SLF4J LogFactory implementation '" + FACTORY_SLF4J + "'.");
+            logDiagnostic(() ->
+                    "[LOOKUP] Log4j API to SLF4J redirection detected. Loading the SLF4J LogFactory implementation '" + FACTORY_SLF4J + "'.");
+            final LogFactory factory = newStandardFactory(FACTORY_SLF4J, classLoader);
+            if (factory != null) {
+                return factory;
             }
         }
-        try {
-            return (LogFactory) Class.forName(FACTORY_LOG4J_API, true, classLoader).getConstructor().newInstance();
-        } catch (final LinkageError | ReflectiveOperationException ignored) {
-        } finally {
-            logDiagnostic(() -> "[LOOKUP] Loading the Log4j API LogFactory implementation '" + FACTORY_LOG4J_API + "'.");
+        logDiagnostic(() -> "[LOOKUP] Loading the Log4j API LogFactory implementation '" + FACTORY_LOG4J_API + "'.");
+        LogFactory factory = newStandardFactory(FACTORY_LOG4J_API, classLoader);
+        if (factory != null) {
+            return factory;
         }
-        try {
-            return (LogFactory) Class.forName(FACTORY_SLF4J, true, classLoader).getConstructor().newInstance();
-        } catch (final LinkageError | ReflectiveOperationException ignored) {
-        } finally {
-            logDiagnostic(() -> "[LOOKUP] Loading the SLF4J LogFactory implementation '" + FACTORY_SLF4J + "'.");
+        logDiagnostic(() -> "[LOOKUP] Loading the SLF4J LogFactory implementation '" + FACTORY_SLF4J + "'.");
+        factory = newStandardFactory(FACTORY_SLF4J, classLoader);
+        if (factory != null) {
+            return factory;
         }
+        if (isJulDefault(classLoader, props)) {
+            logDiagnostic(() -> "[LOOKUP] Loading the JUL LogFactory implementation '" + FACTORY_JUL + "'.");
+            factory = newStandardFactory(FACTORY_JUL, classLoader);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        logDiagnostic(() -> "[LOOKUP] Loading the legacy LogFactory implementation '" + FACTORY_DEFAULT + "'.");
+        return newStandardFactory(FACTORY_DEFAULT, classLoader);
+    }
+
+    /**
+     * Creates one of the standard factories, unless it is known not to be usable from the given class loader.
+     * A factory that fails to link, typically because the logging API it delegates to is missing, is
+     * recorded as unavailable too.
+     *
+     * @param factoryClass The name of the standard factory.
+     * @param classLoader The class loader to load it from.
+     * @return The factory, or {@code null} if it cannot be created.
+     */
+    private static LogFactory newStandardFactory(final String factoryClass, final ClassLoader classLoader) {
         try {
-            return (LogFactory) Class.forName(FACTORY_DEFAULT, true, classLoader).getConstructor().newInstance();
-        } catch (final LinkageError | ReflectiveOperationException ignored) {
-        } finally {
-            logDiagnostic(() -> "[LOOKUP] Loading the legacy LogFactory implementation '" + FACTORY_DEFAULT + "'.");
+            final Class<?> clazz = forNameOrNull(factoryClass, true, classLoader);
+            if (clazz != null) {
+                return (LogFactory) clazz.getConstructor().newInstance();
+            }
+        } catch (final LinkageError e) {
+            logDiagnostic(() -> "[LOOKUP] The LogFactory implementation '" + factoryClass + "' is not usable from class loader " + objectId(classLoader)
+                    + ": " + e.getMessage());
+            setClassUnavailable(factoryClass, classLoader);
+        } catch (final ReflectiveOperationException ignored) {
+            // ignore
         }
         return null;
     }
 
+    /**
+     * Creates the {@code LogFactory} recorded in the {@link #BINDING_INDEX} visible from the given class loader.
+     * <p>
+     * The index is trusted as long as the classes it names can be loaded; otherwise it is stale and
+     * {@code null} is returned, so that the standard factories are probed as usual.
+     * </p>
+     *
+     * @param classLoader The class loader used for discovery.
+     * @param props The properties file of the class loader, or {@code null}.
+     * @return The recorded factory, or {@code null} if there is no usable index.
+     */
+    private static LogFactory newIndexedFactory(final ClassLoader classLoader, final Properties props) {
+        final Enumeration<URL> urls = getResources(classLoader, BINDING_INDEX);
+        if (urls == null || !urls.hasMoreElements()) {
+            return null;
+        }
+        final URL url = urls.nextElement();
+        final Properties index = getCachedProperties(url);
+        final String factoryClass = index != null ? trim(index.getProperty(FACTORY_PROPERTY)) : null;
+        if (factoryClass == null || factoryClass.isEmpty()) {
+            logDiagnostic(() -> "[LOOKUP] Discovery index at '" + url + "' does not name a LogFactory implementation, ignoring it.");
+            return null;
+        }
+        final String logClass = trim(index.getProperty(BINDING_INDEX_LOG_KEY));
+        if (logClass != null && !logClass.isEmpty() && !isClassAvailable(logClass, classLoader)) {
+            logDiagnostic(() -> "[LOOKUP] Discovery index at '" + url + "' is stale, the Log implementation '" + logClass + "' is not available.");
+            return null;
+        }
+        final LogFactory factory;
+        try {
+            final Class<?> clazz = forNameOrNull(factoryClass, true, classLoader);
+            if (clazz == null) {
+                logDiagnostic(() -> "[LOOKUP] Discovery index at '" + url + "' is stale, '" + factoryClass + "' is not available.");
+                return null;
+            }
+            if (!LogFactory.class.isAssignableFrom(clazz)) {
+                logDiagnostic(() -> "[LOOKUP] Discovery index at '" + url + "' names '" + factoryClass
+                        + "' which is not compatible with this LogFactory, ignoring it.");
+                return null;
+            }
+            factory = (LogFactory) clazz.getConstructor().newInstance();
+        } catch (final LinkageError | ReflectiveOperationException | RuntimeException e) {
+            logDiagnostic(() -> "[LOOKUP] Discovery index at '" + url + "' is stale, unable to create '" + factoryClass + "': " + e.getMessage());
+            return null;
+        }
+        logDiagnostic(() -> "[LOOKUP] Loading the LogFactory implementation '" + factoryClass + "' recorded in discovery index at '" + url + "'.");
+        if (isDiagnosticsEnabled()) {
+            checkIndexedFactory(url, factoryClass, classLoader, props);
+        }
+        if (logClass != null && !logClass.isEmpty()) {
+            factory.setAttribute(BINDING_INDEX_LOG_KEY, logClass);
+        }
+        return factory;
+    }
+
     /**
      * Returns a string that uniquely identifies the specified object, including
      * its class.
@@ -1468,27 +2422,34 @@ public abstract class LogFactory {
      * instances that have been associated with the specified class loader
      * (if any), after calling the instance method {@code release()} on
      * each of them.
+     * <p>
+     * This also forgets the cached configuration files this class loader contributes and the
+     * classes it was found not to provide during discovery. Such records of its parents are kept.
+     * </p>
      *
      * @param classLoader ClassLoader for which to release the LogFactory
      */
     public static void release(final ClassLoader classLoader) {
         logDiagnostic(() -> "Releasing factory for class loader " + objectId(classLoader));
-        // factories is not final and could be replaced in this block.
-        final Hashtable<ClassLoader, LogFactory> factories = LogFactory.factories;
-        synchronized (factories) {
+        synchronized (factoryStore) {
             if (classLoader == null) {
                 if (nullClassLoaderFactory != null) {
                     nullClassLoaderFactory.release();
                     nullClassLoaderFactory = null;
                 }
             } else {
-                final LogFactory factory = factories.get(classLoader);
+                final LogFactory factory = factoryStore.get(classLoader);
                 if (factory != null) {
                     factory.release();
-                    factories.remove(classLoader);
+                    factoryStore.remove(classLoader);
+                    factoryGeneration.incrementAndGet();
                 }
             }
         }
+        if (classLoader != null) {
+            unavailableClasses.remove(classLoader);
+            releaseConfigurationFiles(classLoader);
+        }
     }
 
     /**
@@ -1501,11 +2462,13 @@ public abstract class LogFactory {
      */
     public static void releaseAll() {
         logDiagnostic("Releasing factory for all class loaders.");
-        // factories is not final and could be replaced in this block.
-        final Hashtable<ClassLoader, LogFactory> factories = LogFactory.factories;
-        synchronized (factories) {
-            factories.values().forEach(LogFactory::release);
-            factories.clear();
+        synchronized (factoryStore) {
+            factoryStore.forEach((classLoader, factory) -> factory.release());
+            factoryStore.clear();
+            factoryGeneration.incrementAndGet();
+            configurationFiles.clear();
+            unavailableClasses.clear();
+            unavailableBootstrapClasses.clear();
             if (nullClassLoaderFactory != null) {
                 nullClassLoaderFactory.release();
                 nullClassLoaderFactory = null;
@@ -1513,6 +2476,68 @@ public abstract class LogFactory {
         }
     }
 
+    /**
+     * Forgets the configuration files contributed by the given class loader, that is those it
+     * sees and its parent does not. Files from shared parent class loaders stay cached.
+     *
+     * @param classLoader the class loader being released, not null.
+     */
+    private static void releaseConfigurationFiles(final ClassLoader classLoader) {
+        if (configurationFiles.isEmpty()) {
+            return;
+        }
+        ClassLoader parent = null;
+        try {
+            parent = classLoader.getParent();
+        } catch (final SecurityException e) {
+            logDiagnostic("Unable to obtain the parent class loader, forgetting all its configuration files.");
+        }
+        for (final String name : new String[] { FACTORY_PROPERTIES, BINDING_INDEX }) {
+            final Enumeration<URL> urls = getResources(classLoader, name);
+            if (urls == null) {
+                continue;
+            }
+            final Set<String> inherited = new HashSet<>();
+            if (parent != null) {
+                final Enumeration<URL> parentUrls = getResources(parent, name);
+                while (parentUrls != null && parentUrls.hasMoreElements()) {
+                    inherited.add(parentUrls.nextElement().toExternalForm());
+                }
+            }
+            while (urls.hasMoreElements()) {
+                final String key = urls.nextElement().toExternalForm();
+                if (!inherited.contains(key)) {
+                    configurationFiles.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records that a class cannot be loaded by the given class loader.
+     *
+     * @param className The fully qualified name of the class.
+     * @param classLoader The class loader, may be null.
+     */
+    private static void setClassUnavailable(final String className, final ClassLoader classLoader) {
+        if (classLoader != null) {
+            unavailableClasses.computeIfAbsent(classLoader, k -> ConcurrentHashMap.newKeySet()).add(className);
+        } else {
+            unavailableBootstrapClasses.add(className);
+        }
+    }
+
+    /**
+     * Records the factory returned for the given context class loader on the current thread.
+     *
+     * @param contextClassLoader the current context class loader, not null.
+     * @param factory the factory found in the factory store.
+     * @param generation the value of {@link #factoryGeneration} read before the factory store was queried.
+     */
+    private static void setLastFactory(final ClassLoader contextClassLoader, final LogFactory factory, final long generation) {
+        lastFactory.set(new Object[] { Long.valueOf(generation), new WeakReference<>(contextClassLoader), new WeakReference<>(factory) });
+    }
+
     /** Trims the given string in a null-safe manner. */
     private static String trim(final String src) {
         return src != null ? src.trim() : null;
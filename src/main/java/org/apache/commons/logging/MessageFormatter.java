@@ -0,0 +1,475 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import java.util.Arrays;
+
+/**
+ * Formats the parameterized messages of {@link Log}.
+ * <p>
+ * Each {@code {}} placeholder in the pattern is replaced by the next argument, as in SLF4J and the Log4j API.
+ * A placeholder preceded by a backslash ({@code \{}}) is written as is. Arrays are written as their
+ * content. Arguments without a placeholder are ignored; if the last one is a {@link Throwable}, it is
+ * considered the cause of the event, see {@link #getThrowable(String, Object)}.
+ * </p>
+ * <p>
+ * The methods with up to three arguments do not allocate an array, those with a primitive argument do
+ * not box it, and a pattern without placeholder is returned as is.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class MessageFormatter {
+
+    private static final char ESCAPE = '\\';
+
+    private static final String PLACEHOLDER = "{}";
+
+    /**
+     * Appends an argument, rendering arrays as their content.
+     */
+    private static void appendArgument(final StringBuilder buffer, final Object arg) {
+        try {
+            if (arg == null || !arg.getClass().isArray()) {
+                buffer.append(arg);
+            } else if (arg instanceof Object[]) {
+                buffer.append(Arrays.deepToString((Object[]) arg));
+            } else if (arg instanceof int[]) {
+                buffer.append(Arrays.toString((int[]) arg));
+            } else if (arg instanceof long[]) {
+                buffer.append(Arrays.toString((long[]) arg));
+            } else if (arg instanceof byte[]) {
+                buffer.append(Arrays.toString((byte[]) arg));
+            } else if (arg instanceof char[]) {
+                buffer.append(Arrays.toString((char[]) arg));
+            } else if (arg instanceof short[]) {
+                buffer.append(Arrays.toString((short[]) arg));
+            } else if (arg instanceof boolean[]) {
+                buffer.append(Arrays.toString((boolean[]) arg));
+            } else if (arg instanceof float[]) {
+                buffer.append(Arrays.toString((float[]) arg));
+            } else {
+                buffer.append(Arrays.toString((double[]) arg));
+            }
+        } catch (final RuntimeException e) {
+            // A broken toString() must not prevent the event from being logged
+            buffer.append("[").append(arg.getClass().getName()).append(".toString() threw ").append(e).append("]");
+        }
+    }
+
+    /**
+     * Appends the pattern, from the given index up to the next placeholder.
+     *
+     * @return the index following the placeholder, or -1 if the rest of the pattern had no placeholder and has been appended
+     */
+    private static int appendToPlaceholder(final StringBuilder buffer, final String pattern, final int start) {
+        int from = start;
+        int index;
+        while ((index = pattern.indexOf(PLACEHOLDER, from)) >= 0) {
+            if (!isEscaped(pattern, index)) {
+                buffer.append(pattern, from, isEscapedEscape(pattern, index) ? index - 1 : index);
+                return index + 2;
+            }
+            buffer.append(pattern, from, index - 1).append(PLACEHOLDER);
+            from = index + 2;
+        }
+        buffer.append(pattern, from, pattern.length());
+        return -1;
+    }
+
+    private static Object argument(final int index, final Object arg0, final Object arg1, final Object arg2, final Object[] args) {
+        if (args != null) {
+            return args[index];
+        }
+        switch (index) {
+        case 0:
+            return arg0;
+        case 1:
+            return arg1;
+        default:
+            return arg2;
+        }
+    }
+
+    /**
+     * Counts the placeholders of a pattern, ignoring the escaped ones.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @return the number of placeholders
+     */
+    static int countPlaceholders(final String pattern) {
+        if (pattern == null) {
+            return 0;
+        }
+        int count = 0;
+        int index = pattern.indexOf(PLACEHOLDER);
+        while (index >= 0) {
+            if (!isEscaped(pattern, index)) {
+                count++;
+            }
+            index = pattern.indexOf(PLACEHOLDER, index + 2);
+        }
+        return count;
+    }
+
+    /**
+     * Formats a pattern with one {@code char} argument, without boxing it.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final char arg) {
+        if (pattern == null || pattern.indexOf(PLACEHOLDER) < 0) {
+            return pattern;
+        }
+        final StringBuilder buffer = new StringBuilder(pattern.length() + 16);
+        formatTo(buffer, pattern, arg);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a pattern with one {@code double} argument, without boxing it.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final double arg) {
+        if (pattern == null || pattern.indexOf(PLACEHOLDER) < 0) {
+            return pattern;
+        }
+        final StringBuilder buffer = new StringBuilder(pattern.length() + 16);
+        formatTo(buffer, pattern, arg);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a pattern with one {@code float} argument, without boxing it.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final float arg) {
+        if (pattern == null || pattern.indexOf(PLACEHOLDER) < 0) {
+            return pattern;
+        }
+        final StringBuilder buffer = new StringBuilder(pattern.length() + 16);
+        formatTo(buffer, pattern, arg);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a pattern with one {@code long} argument, without boxing it.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final long arg) {
+        if (pattern == null || pattern.indexOf(PLACEHOLDER) < 0) {
+            return pattern;
+        }
+        final StringBuilder buffer = new StringBuilder(pattern.length() + 16);
+        formatTo(buffer, pattern, arg);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a pattern with one argument.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final Object arg) {
+        return format(pattern, 1, arg, null, null, null);
+    }
+
+    private static String format(final String pattern, final int count, final Object arg0, final Object arg1, final Object arg2,
+            final Object[] args) {
+        if (pattern == null || count == 0 || pattern.indexOf(PLACEHOLDER) < 0) {
+            return pattern;
+        }
+        final StringBuilder buffer = new StringBuilder(pattern.length() + 16 * count);
+        formatTo(buffer, pattern, count, arg0, arg1, arg2, args);
+        return buffer.toString();
+    }
+
+    /**
+     * Formats a pattern with an array of arguments.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param args the arguments, may be {@code null}
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final Object... args) {
+        return args != null ? format(pattern, args.length, null, null, null, args) : pattern;
+    }
+
+    /**
+     * Formats a pattern with two arguments.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final Object arg0, final Object arg1) {
+        return format(pattern, 2, arg0, arg1, null, null);
+    }
+
+    /**
+     * Formats a pattern with three arguments.
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @return the message, or {@code null} if the pattern is {@code null}
+     */
+    public static String format(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        return format(pattern, 3, arg0, arg1, arg2, null);
+    }
+
+    /**
+     * Appends a pattern formatted with one {@code char} argument, without boxing it.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg the argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final char arg) {
+        final int end = pattern != null ? appendToPlaceholder(buffer, pattern, 0) : -1;
+        if (end >= 0) {
+            buffer.append(arg).append(pattern, end, pattern.length());
+        } else if (pattern == null) {
+            buffer.append((String) null);
+        }
+    }
+
+    /**
+     * Appends a pattern formatted with one {@code double} argument, without boxing it.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg the argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final double arg) {
+        final int end = pattern != null ? appendToPlaceholder(buffer, pattern, 0) : -1;
+        if (end >= 0) {
+            buffer.append(arg).append(pattern, end, pattern.length());
+        } else if (pattern == null) {
+            buffer.append((String) null);
+        }
+    }
+
+    /**
+     * Appends a pattern formatted with one {@code float} argument, without boxing it.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg the argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final float arg) {
+        final int end = pattern != null ? appendToPlaceholder(buffer, pattern, 0) : -1;
+        if (end >= 0) {
+            buffer.append(arg).append(pattern, end, pattern.length());
+        } else if (pattern == null) {
+            buffer.append((String) null);
+        }
+    }
+
+    /**
+     * Appends a pattern formatted with one {@code long} argument, without boxing it.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg the argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final long arg) {
+        final int end = pattern != null ? appendToPlaceholder(buffer, pattern, 0) : -1;
+        if (end >= 0) {
+            buffer.append(arg).append(pattern, end, pattern.length());
+        } else if (pattern == null) {
+            buffer.append((String) null);
+        }
+    }
+
+    /**
+     * Appends a pattern formatted with one argument.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg the argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final Object arg) {
+        formatTo(buffer, pattern, 1, arg, null, null, null);
+    }
+
+    private static void formatTo(final StringBuilder buffer, final String pattern, final int count, final Object arg0, final Object arg1,
+            final Object arg2, final Object[] args) {
+        if (pattern == null) {
+            buffer.append((String) null);
+            return;
+        }
+        int start = 0;
+        for (int used = 0; used < count && start >= 0; used++) {
+            start = appendToPlaceholder(buffer, pattern, start);
+            if (start >= 0) {
+                appendArgument(buffer, argument(used, arg0, arg1, arg2, args));
+            }
+        }
+        if (start >= 0) {
+            buffer.append(pattern, start, pattern.length());
+        }
+    }
+
+    /**
+     * Appends a pattern formatted with an array of arguments.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param args the arguments, may be {@code null}
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final Object... args) {
+        formatTo(buffer, pattern, args != null ? args.length : 0, null, null, null, args);
+    }
+
+    /**
+     * Appends a pattern formatted with two arguments.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final Object arg0, final Object arg1) {
+        formatTo(buffer, pattern, 2, arg0, arg1, null, null);
+    }
+
+    /**
+     * Appends a pattern formatted with three arguments.
+     *
+     * @param buffer the destination
+     * @param pattern the pattern, {@code null} is appended as {@code "null"}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     */
+    public static void formatTo(final StringBuilder buffer, final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        formatTo(buffer, pattern, 3, arg0, arg1, arg2, null);
+    }
+
+    /**
+     * Gets the cause of an event with one argument.
+     * <p>
+     * The argument is the cause if it is a {@link Throwable} and the pattern has no placeholder for it.
+     * </p>
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg the argument
+     * @return the cause or {@code null}
+     */
+    public static Throwable getThrowable(final String pattern, final Object arg) {
+        return getThrowable(pattern, 1, arg);
+    }
+
+    private static Throwable getThrowable(final String pattern, final int count, final Object last) {
+        return last instanceof Throwable && countPlaceholders(pattern) < count ? (Throwable) last : null;
+    }
+
+    /**
+     * Gets the cause of an event with an array of arguments.
+     * <p>
+     * The last argument is the cause if it is a {@link Throwable} and the pattern has no placeholder for it.
+     * </p>
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param args the arguments, may be {@code null}
+     * @return the cause or {@code null}
+     */
+    public static Throwable getThrowable(final String pattern, final Object... args) {
+        return args != null && args.length > 0 ? getThrowable(pattern, args.length, args[args.length - 1]) : null;
+    }
+
+    /**
+     * Gets the cause of an event with two arguments.
+     * <p>
+     * The second argument is the cause if it is a {@link Throwable} and the pattern has no placeholder for it.
+     * </p>
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @return the cause or {@code null}
+     */
+    public static Throwable getThrowable(final String pattern, final Object arg0, final Object arg1) {
+        return getThrowable(pattern, 2, arg1);
+    }
+
+    /**
+     * Gets the cause of an event with three arguments.
+     * <p>
+     * The third argument is the cause if it is a {@link Throwable} and the pattern has no placeholder for it.
+     * </p>
+     *
+     * @param pattern the pattern, may be {@code null}
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @return the cause or {@code null}
+     */
+    public static Throwable getThrowable(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        return getThrowable(pattern, 3, arg2);
+    }
+
+    /**
+     * Tests whether the placeholder at the given index is preceded by a single backslash.
+     */
+    private static boolean isEscaped(final String pattern, final int index) {
+        return index > 0 && pattern.charAt(index - 1) == ESCAPE && !isEscapedEscape(pattern, index);
+    }
+
+    /**
+     * Tests whether the placeholder at the given index is preceded by two backslashes, that stand for one.
+     */
+    private static boolean isEscapedEscape(final String pattern, final int index) {
+        return index > 1 && pattern.charAt(index - 1) == ESCAPE && pattern.charAt(index - 2) == ESCAPE;
+    }
+
+    /**
+     * Collects the arguments of the variable arity methods of {@link Log} in one array.
+     */
+    static Object[] toArray(final Object arg0, final Object arg1, final Object arg2, final Object[] moreArgs) {
+        final int more = moreArgs != null ? moreArgs.length : 0;
+        final Object[] args = new Object[3 + more];
+        args[0] = arg0;
+        args[1] = arg1;
+        args[2] = arg2;
+        if (more > 0) {
+            System.arraycopy(moreArgs, 0, args, 3, more);
+        }
+        return args;
+    }
+
+    private MessageFormatter() {
+        // empty
+    }
+}
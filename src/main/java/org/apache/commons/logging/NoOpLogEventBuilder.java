@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link LogEventBuilder} of disabled levels, shared by all loggers.
+ */
+final class NoOpLogEventBuilder implements LogEventBuilder {
+
+    static final NoOpLogEventBuilder INSTANCE = new NoOpLogEventBuilder();
+
+    private NoOpLogEventBuilder() {
+        // empty
+    }
+
+    @Override
+    public LogEventBuilder addKeyValue(final String key, final Object value) {
+        return this;
+    }
+
+    @Override
+    public LogEventBuilder addMarker(final String name) {
+        return this;
+    }
+
+    @Override
+    public void log(final String message) {
+        // empty
+    }
+
+    @Override
+    public void log(final Supplier<?> messageSupplier) {
+        // empty
+    }
+
+    @Override
+    public LogEventBuilder setCause(final Throwable cause) {
+        return this;
+    }
+}
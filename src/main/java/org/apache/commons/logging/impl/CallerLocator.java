@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.Set;
+
+/**
+ * Finds the callers of the adapters that locate their callers themselves, such as the JDK logging adapters.
+ * <p>
+ * This version, for Java 8, takes a snapshot of the whole stack with a {@link Throwable}. On Java 9 and later the
+ * multi-release jar replaces it with a version walking only the frames needed with a {@code StackWalker}.
+ * </p>
+ */
+final class CallerLocator {
+
+    /**
+     * Gets the caller of the logging classes: the frame following the first frames of these classes.
+     *
+     * @param classNames the fully qualified names of the logging classes
+     * @return the caller, or {@code null} if none of the classes is on the stack
+     */
+    static StackTraceElement getCaller(final Set<String> classNames) {
+        boolean found = false;
+        for (final StackTraceElement location : new Throwable().getStackTrace()) {
+            if (classNames.contains(location.getClassName())) {
+                found = true;
+            } else if (found) {
+                return location;
+            }
+        }
+        return null;
+    }
+
+    private CallerLocator() {
+    }
+}
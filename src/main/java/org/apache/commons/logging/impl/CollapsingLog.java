@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Collapses the repeats of an event logged by a {@link Log} within a time window, see
+ * {@link LogFactory#COLLAPSE_WINDOW_PROPERTY}.
+ * <p>
+ * The recent events are remembered by their fingerprint, in a fixed-size array indexed by the hash of the
+ * fingerprint: a new fingerprint replaces the one in its slot with a compare-and-set, so that the cache is bounded and
+ * takes no lock. The repeats are counted in the fingerprint of the first event of the window. The repeats of a
+ * fingerprint replaced by another one are logged with the event replacing it, rather than forgotten.
+ * </p>
+ * <p>
+ * The fingerprint is made of the level, the message, the type of the cause and the top frame of its stack trace.
+ * Reading the stack trace costs about as much as logging it, so the top frames are only compared once everything
+ * else matches: the top frame of the first event of a window is read when a repeat is compared to it, and its cause
+ * is kept until then.
+ * </p>
+ */
+final class CollapsingLog extends FilteringLog {
+
+    /**
+     * Identifies the repeats of an event, and counts them within its window.
+     */
+    private static final class Fingerprint {
+
+        /** The cause of the first event, until its top frame is read. */
+        private Throwable cause;
+
+        private final int hash;
+
+        private final int level;
+
+        private final String message;
+
+        /** The number of repeats since the start of the window. */
+        private final AtomicLong repeats = new AtomicLong();
+
+        /** The time the window started, in {@link System#nanoTime()} nanoseconds. */
+        private final long start;
+
+        private StackTraceElement topFrame;
+
+        private final Class<?> type;
+
+        Fingerprint(final int hash, final int level, final String message, final Throwable cause, final long start) {
+            this.hash = hash;
+            this.level = level;
+            this.message = message;
+            this.cause = cause;
+            this.type = cause != null ? cause.getClass() : null;
+            this.start = start;
+        }
+
+        /**
+         * Gets the top frame of the cause of the first event, read on the first call.
+         */
+        synchronized StackTraceElement getTopFrame() {
+            if (cause != null) {
+                topFrame = CollapsingLog.getTopFrame(cause);
+                cause = null;
+            }
+            return topFrame;
+        }
+
+        boolean matches(final int hash, final int level, final String message, final Throwable cause) {
+            if (this.hash != hash || this.level != level || !this.message.equals(message)) {
+                return false;
+            }
+            if (cause == null) {
+                return type == null;
+            }
+            // The stack traces are only read for the repeats of everything else
+            return type == cause.getClass() && Objects.equals(getTopFrame(), CollapsingLog.getTopFrame(cause));
+        }
+    }
+
+    /**
+     * The number of fingerprints remembered by each logger, a power of two.
+     */
+    private static final int CACHE_SIZE = 64;
+
+    /**
+     * Gets the window of a logger, from the most specific {@link LogFactory#COLLAPSE_WINDOW_PROPERTY} attribute of
+     * the factory.
+     *
+     * @param factory the factory creating the logger
+     * @param name the name of the logger
+     * @return the window in nanoseconds, zero or less if the repeats are not collapsed
+     */
+    static long getWindow(final LogFactory factory, final String name) {
+        final String value = getAttribute(factory, LogFactory.COLLAPSE_WINDOW_PROPERTY, name);
+        if (value != null) {
+            try {
+                return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.trim()));
+            } catch (final NumberFormatException e) {
+                // Not collapsed
+            }
+        }
+        return 0;
+    }
+
+    private static StackTraceElement getTopFrame(final Throwable t) {
+        final StackTraceElement[] stackTrace = t.getStackTrace();
+        return stackTrace.length > 0 ? stackTrace[0] : null;
+    }
+
+    /**
+     * Hashes the fingerprint of an event, but for the top frame of its cause.
+     */
+    static int hash(final int level, final String message, final Class<?> type) {
+        return (level * 31 + message.hashCode()) * 31 + Objects.hashCode(type);
+    }
+
+    /**
+     * Gets the slot of a fingerprint in the cache.
+     */
+    static int slot(final int hash) {
+        return (hash ^ hash >>> 16) & CACHE_SIZE - 1;
+    }
+
+    /**
+     * Appends the number of repeats to a message, if any.
+     */
+    private static String withRepeats(final String message, final long repeats) {
+        return repeats > 0 ? message + " [" + repeats + " repeats collapsed]" : message;
+    }
+
+    private final LongSupplier clock;
+
+    private final AtomicReferenceArray<Fingerprint> fingerprints = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    /** The window in nanoseconds. */
+    private final long window;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param delegate the logger to decorate
+     * @param window the window in nanoseconds
+     */
+    CollapsingLog(final Log delegate, final long window) {
+        this(delegate, window, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new instance, with the given clock.
+     *
+     * @param delegate the logger to decorate
+     * @param window the window in nanoseconds
+     * @param clock the current time in nanoseconds
+     */
+    CollapsingLog(final Log delegate, final long window, final LongSupplier clock) {
+        super(delegate);
+        this.window = window;
+        this.clock = clock;
+    }
+
+    /**
+     * Counts the event if it repeats one logged within the window, otherwise starts a window.
+     */
+    @Override
+    Object filter(final int level, final Object message, final Throwable t) {
+        if (!(message instanceof String) || !isEnabled(level)) {
+            return message;
+        }
+        final String string = (String) message;
+        final Class<?> type = t != null ? t.getClass() : null;
+        final int hash = hash(level, string, type);
+        final int index = slot(hash);
+        final long now = clock.getAsLong();
+        while (true) {
+            final Fingerprint current = fingerprints.get(index);
+            final boolean repeat = current != null && current.matches(hash, level, string, t);
+            if (repeat && now - current.start < window) {
+                current.repeats.incrementAndGet();
+                return SUPPRESSED;
+            }
+            // Otherwise replaces an expired window, or another event
+            if (fingerprints.compareAndSet(index, current, new Fingerprint(hash, level, string, t, now))) {
+                if (repeat) {
+                    return withRepeats(string, current.repeats.get());
+                }
+                final long evicted = current != null ? current.repeats.get() : 0;
+                // The repeats of the other event would be forgotten
+                return evicted > 0 ? new Summary(current.level, withRepeats(current.message, evicted), string) : string;
+            }
+        }
+    }
+}
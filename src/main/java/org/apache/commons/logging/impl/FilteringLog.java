@@ -0,0 +1,876 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogEventBuilder;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Decorates a {@link Log}, to drop or alter some of its events before they reach the logging implementation.
+ * <p>
+ * Each method asks {@link #filter(int, Object, Throwable)} whether to log, then calls the same method of the
+ * delegate. The methods are final, so that only frames of this class separate the caller from the delegate: the
+ * location-aware adapters report the caller when given {@link #FQCN} as the class to skip, however many decorators
+ * are chained.
+ * </p>
+ */
+abstract class FilteringLog implements Log {
+
+    /**
+     * An event to log after a summary of the events filtered before it.
+     */
+    static final class Summary {
+
+        private final int level;
+
+        private final Object message;
+
+        private final String text;
+
+        /**
+         * Constructs a new instance.
+         *
+         * @param level the level of the summary, which may differ from the level of the event
+         * @param text the summary, logged first
+         * @param message the message of the event, {@link #SUPPRESSED} or another summary to log after this one
+         */
+        Summary(final int level, final String text, final Object message) {
+            this.level = level;
+            this.text = text;
+            this.message = message;
+        }
+    }
+
+    /**
+     * The class the location-aware adapters skip to find the caller, when they are decorated.
+     */
+    static final String FQCN = FilteringLog.class.getName();
+
+    static final int TRACE = 0;
+    static final int DEBUG = 1;
+    static final int INFO = 2;
+    static final int WARN = 3;
+    static final int ERROR = 4;
+    static final int FATAL = 5;
+
+    /**
+     * Returned by {@link #filter(int, Object, Throwable)} for the events not to log.
+     */
+    static final Object SUPPRESSED = new Object();
+
+    /**
+     * Provides the no-op event builders of the suppressed events.
+     */
+    private static final Log DISABLED = new NoOpLog();
+
+    private static Throwable cause(final Object arg) {
+        return arg instanceof Throwable ? (Throwable) arg : null;
+    }
+
+    private static Throwable cause(final Object arg2, final Object[] moreArgs) {
+        return cause(moreArgs != null && moreArgs.length > 0 ? moreArgs[moreArgs.length - 1] : arg2);
+    }
+
+    /**
+     * Creates a logger, decorated as configured in its factory.
+     * <p>
+     * The attributes are {@link LogFactory#COLLAPSE_WINDOW_PROPERTY} and {@link LogFactory#RATE_LIMIT_PROPERTY}.
+     * </p>
+     *
+     * @param factory the factory creating the logger
+     * @param name the name of the logger
+     * @param newLog creates the logger, given the class to skip to find the caller, or {@code null} if not decorated
+     * @return the logger, decorated if needed
+     */
+    static Log decorate(final LogFactory factory, final String name, final Function<String, Log> newLog) {
+        final long[] rates = RateLimitedLog.getRates(factory, name);
+        final long window = CollapsingLog.getWindow(factory, name);
+        if (rates == null && window <= 0) {
+            return newLog.apply(null);
+        }
+        Log log = newLog.apply(FQCN);
+        if (rates != null) {
+            log = new RateLimitedLog(log, rates);
+        }
+        if (window > 0) {
+            // Repeats are collapsed before they take a token
+            log = new CollapsingLog(log, window);
+        }
+        return log;
+    }
+
+    /**
+     * Gets the most specific value of an attribute for a logger: the attribute <em>property.name</em> for the
+     * logger <em>name</em> or the nearest of its ancestors, or the attribute <em>property</em>.
+     *
+     * @param factory the factory creating the logger
+     * @param property the name of the attribute
+     * @param name the name of the logger
+     * @return the value, or {@code null}
+     */
+    static String getAttribute(final LogFactory factory, final String property, final String name) {
+        String category = name;
+        while (category != null) {
+            final Object value = factory.getAttribute(property + "." + category);
+            if (value != null) {
+                return value.toString();
+            }
+            final int dot = category.lastIndexOf('.');
+            category = dot > 0 ? category.substring(0, dot) : null;
+        }
+        final Object value = factory.getAttribute(property);
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Gets the logger decorated by one or more filtering ones.
+     *
+     * @param log a logger
+     * @return the innermost decorated logger, or the given one if not decorated
+     */
+    static Log unwrap(final Log log) {
+        Log unwrapped = log;
+        while (unwrapped instanceof FilteringLog) {
+            unwrapped = ((FilteringLog) unwrapped).delegate;
+        }
+        return unwrapped;
+    }
+
+    /**
+     * The decorated logger.
+     */
+    final Log delegate;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param delegate the logger to decorate
+     */
+    FilteringLog(final Log delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public final LogEventBuilder atDebug() {
+        return check(DEBUG, null, null) != SUPPRESSED ? delegate.atDebug() : DISABLED.atDebug();
+    }
+
+    @Override
+    public final LogEventBuilder atError() {
+        return check(ERROR, null, null) != SUPPRESSED ? delegate.atError() : DISABLED.atError();
+    }
+
+    @Override
+    public final LogEventBuilder atFatal() {
+        return check(FATAL, null, null) != SUPPRESSED ? delegate.atFatal() : DISABLED.atFatal();
+    }
+
+    @Override
+    public final LogEventBuilder atInfo() {
+        return check(INFO, null, null) != SUPPRESSED ? delegate.atInfo() : DISABLED.atInfo();
+    }
+
+    @Override
+    public final LogEventBuilder atTrace() {
+        return check(TRACE, null, null) != SUPPRESSED ? delegate.atTrace() : DISABLED.atTrace();
+    }
+
+    @Override
+    public final LogEventBuilder atWarn() {
+        return check(WARN, null, null) != SUPPRESSED ? delegate.atWarn() : DISABLED.atWarn();
+    }
+
+    /**
+     * Asks {@link #filter(int, Object, Throwable)} whether to log an event, and logs its summaries if any.
+     */
+    private Object check(final int level, final Object message, final Throwable t) {
+        Object filtered = filter(level, message, t);
+        while (filtered instanceof Summary) {
+            // Logged from this class, so that the caller is still found
+            final Summary summary = (Summary) filtered;
+            log(summary.level, summary.text);
+            filtered = summary.message;
+        }
+        return filtered;
+    }
+
+    @Override
+    public final void debug(final Object message) {
+        final Object filtered = check(DEBUG, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.debug(filtered);
+        }
+    }
+
+    @Override
+    public final void debug(final Object message, final Throwable t) {
+        final Object filtered = check(DEBUG, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.debug(filtered, t);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final char arg) {
+        final Object filtered = check(DEBUG, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final double arg) {
+        final Object filtered = check(DEBUG, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final float arg) {
+        final Object filtered = check(DEBUG, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final long arg) {
+        final Object filtered = check(DEBUG, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final Object arg) {
+        final Object filtered = check(DEBUG, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(DEBUG, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(DEBUG, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(DEBUG, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void debug(final String message, final Throwable t) {
+        final Object filtered = check(DEBUG, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.debug((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void debug(final Supplier<?> messageSupplier) {
+        if (check(DEBUG, null, null) != SUPPRESSED) {
+            delegate.debug(messageSupplier);
+        }
+    }
+
+    @Override
+    public final void error(final Object message) {
+        final Object filtered = check(ERROR, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.error(filtered);
+        }
+    }
+
+    @Override
+    public final void error(final Object message, final Throwable t) {
+        final Object filtered = check(ERROR, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.error(filtered, t);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final char arg) {
+        final Object filtered = check(ERROR, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final double arg) {
+        final Object filtered = check(ERROR, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final float arg) {
+        final Object filtered = check(ERROR, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final long arg) {
+        final Object filtered = check(ERROR, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final Object arg) {
+        final Object filtered = check(ERROR, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(ERROR, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(ERROR, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(ERROR, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void error(final String message, final Throwable t) {
+        final Object filtered = check(ERROR, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.error((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void error(final Supplier<?> messageSupplier) {
+        if (check(ERROR, null, null) != SUPPRESSED) {
+            delegate.error(messageSupplier);
+        }
+    }
+
+    @Override
+    public final void fatal(final Object message) {
+        final Object filtered = check(FATAL, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal(filtered);
+        }
+    }
+
+    @Override
+    public final void fatal(final Object message, final Throwable t) {
+        final Object filtered = check(FATAL, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal(filtered, t);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final char arg) {
+        final Object filtered = check(FATAL, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final double arg) {
+        final Object filtered = check(FATAL, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final float arg) {
+        final Object filtered = check(FATAL, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final long arg) {
+        final Object filtered = check(FATAL, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final Object arg) {
+        final Object filtered = check(FATAL, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(FATAL, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(FATAL, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(FATAL, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void fatal(final String message, final Throwable t) {
+        final Object filtered = check(FATAL, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.fatal((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void fatal(final Supplier<?> messageSupplier) {
+        if (check(FATAL, null, null) != SUPPRESSED) {
+            delegate.fatal(messageSupplier);
+        }
+    }
+
+    /**
+     * Decides whether to log an event.
+     * <p>
+     * The message is {@code null} for the events whose message is not known yet, such as those supplied by a
+     * {@link Supplier} or built by a {@link LogEventBuilder}. Their returned message is ignored.
+     * </p>
+     *
+     * @param level the level of the event, from {@link #TRACE} to {@link #FATAL}
+     * @param message the message, or the pattern of a parameterized message
+     * @param t the cause, or the last argument of a parameterized message if it is a {@link Throwable}
+     * @return the message or pattern to log, {@link #SUPPRESSED} not to log the event, or a {@link Summary} to
+     *         log before the outcome it wraps
+     */
+    abstract Object filter(int level, Object message, Throwable t);
+
+    @Override
+    public final void info(final Object message) {
+        final Object filtered = check(INFO, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.info(filtered);
+        }
+    }
+
+    @Override
+    public final void info(final Object message, final Throwable t) {
+        final Object filtered = check(INFO, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.info(filtered, t);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final char arg) {
+        final Object filtered = check(INFO, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final double arg) {
+        final Object filtered = check(INFO, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final float arg) {
+        final Object filtered = check(INFO, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final long arg) {
+        final Object filtered = check(INFO, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final Object arg) {
+        final Object filtered = check(INFO, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(INFO, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(INFO, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(INFO, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void info(final String message, final Throwable t) {
+        final Object filtered = check(INFO, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.info((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void info(final Supplier<?> messageSupplier) {
+        if (check(INFO, null, null) != SUPPRESSED) {
+            delegate.info(messageSupplier);
+        }
+    }
+
+    @Override
+    public final boolean isDebugEnabled() {
+        return delegate.isDebugEnabled();
+    }
+
+    /**
+     * Tests whether a level of the delegate is enabled.
+     *
+     * @param level the level, from {@link #TRACE} to {@link #FATAL}
+     * @return whether the level is enabled
+     */
+    final boolean isEnabled(final int level) {
+        switch (level) {
+        case TRACE:
+            return delegate.isTraceEnabled();
+        case DEBUG:
+            return delegate.isDebugEnabled();
+        case INFO:
+            return delegate.isInfoEnabled();
+        case WARN:
+            return delegate.isWarnEnabled();
+        case ERROR:
+            return delegate.isErrorEnabled();
+        default:
+            return delegate.isFatalEnabled();
+        }
+    }
+
+    @Override
+    public final boolean isErrorEnabled() {
+        return delegate.isErrorEnabled();
+    }
+
+    @Override
+    public final boolean isFatalEnabled() {
+        return delegate.isFatalEnabled();
+    }
+
+    @Override
+    public final boolean isInfoEnabled() {
+        return delegate.isInfoEnabled();
+    }
+
+    @Override
+    public final boolean isTraceEnabled() {
+        return delegate.isTraceEnabled();
+    }
+
+    @Override
+    public final boolean isWarnEnabled() {
+        return delegate.isWarnEnabled();
+    }
+
+    private void log(final int level, final Object message) {
+        switch (level) {
+        case TRACE:
+            delegate.trace(message);
+            break;
+        case DEBUG:
+            delegate.debug(message);
+            break;
+        case INFO:
+            delegate.info(message);
+            break;
+        case WARN:
+            delegate.warn(message);
+            break;
+        case ERROR:
+            delegate.error(message);
+            break;
+        default:
+            delegate.fatal(message);
+            break;
+        }
+    }
+
+    @Override
+    public final void trace(final Object message) {
+        final Object filtered = check(TRACE, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.trace(filtered);
+        }
+    }
+
+    @Override
+    public final void trace(final Object message, final Throwable t) {
+        final Object filtered = check(TRACE, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.trace(filtered, t);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final char arg) {
+        final Object filtered = check(TRACE, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final double arg) {
+        final Object filtered = check(TRACE, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final float arg) {
+        final Object filtered = check(TRACE, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final long arg) {
+        final Object filtered = check(TRACE, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final Object arg) {
+        final Object filtered = check(TRACE, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(TRACE, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(TRACE, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(TRACE, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void trace(final String message, final Throwable t) {
+        final Object filtered = check(TRACE, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.trace((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void trace(final Supplier<?> messageSupplier) {
+        if (check(TRACE, null, null) != SUPPRESSED) {
+            delegate.trace(messageSupplier);
+        }
+    }
+
+    @Override
+    public final void warn(final Object message) {
+        final Object filtered = check(WARN, message, null);
+        if (filtered != SUPPRESSED) {
+            delegate.warn(filtered);
+        }
+    }
+
+    @Override
+    public final void warn(final Object message, final Throwable t) {
+        final Object filtered = check(WARN, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.warn(filtered, t);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final char arg) {
+        final Object filtered = check(WARN, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final double arg) {
+        final Object filtered = check(WARN, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final float arg) {
+        final Object filtered = check(WARN, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final long arg) {
+        final Object filtered = check(WARN, pattern, null);
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final Object arg) {
+        final Object filtered = check(WARN, pattern, cause(arg));
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final Object arg0, final Object arg1) {
+        final Object filtered = check(WARN, pattern, cause(arg1));
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg0, arg1);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        final Object filtered = check(WARN, pattern, cause(arg2));
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg0, arg1, arg2);
+        }
+    }
+
+    @Override
+    public final void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        final Object filtered = check(WARN, pattern, cause(arg2, moreArgs));
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, arg0, arg1, arg2, moreArgs);
+        }
+    }
+
+    @Override
+    public final void warn(final String message, final Throwable t) {
+        final Object filtered = check(WARN, message, t);
+        if (filtered != SUPPRESSED) {
+            delegate.warn((String) filtered, t);
+        }
+    }
+
+    @Override
+    public final void warn(final Supplier<?> messageSupplier) {
+        if (check(WARN, null, null) != SUPPRESSED) {
+            delegate.warn(messageSupplier);
+        }
+    }
+}
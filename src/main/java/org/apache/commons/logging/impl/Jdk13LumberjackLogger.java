@@ -17,10 +17,7 @@
 
 package org.apache.commons.logging.impl;
 
-import java.io.PrintWriter;
 import java.io.Serializable;
-import java.io.StringWriter;
-import java.util.StringTokenizer;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -89,7 +86,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message) {
-        log(Level.FINE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.FINE)) {
+            log(Level.FINE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -101,7 +100,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message, final Throwable exception) {
-        log(Level.FINE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.FINE)) {
+            log(Level.FINE, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -112,7 +113,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message) {
-        log(Level.SEVERE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -124,7 +127,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message, final Throwable exception) {
-        log(Level.SEVERE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -135,7 +140,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message) {
-        log(Level.SEVERE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -147,38 +154,20 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message, final Throwable exception) {
-        log(Level.SEVERE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), exception);
+        }
     }
 
     /**
      * Gets the class and method by looking at the stack trace for the
-     * first entry that is not this class.
+     * first entry that is not this class, nor a class it is called through.
      */
     private void getClassAndMethod() {
-        try {
-            final Throwable throwable = new Throwable();
-            throwable.fillInStackTrace();
-            final StringWriter stringWriter = new StringWriter();
-            final PrintWriter printWriter = new PrintWriter(stringWriter);
-            throwable.printStackTrace(printWriter);
-            final String traceString = stringWriter.toString();
-            final StringTokenizer tokenizer = new StringTokenizer(traceString, "\n");
-            tokenizer.nextToken();
-            String line = tokenizer.nextToken();
-            while (!line.contains(this.getClass().getName())) {
-                line = tokenizer.nextToken();
-            }
-            while (line.contains(this.getClass().getName())) {
-                line = tokenizer.nextToken();
-            }
-            final int start = line.indexOf("at ") + 3;
-            final int end = line.indexOf('(');
-            final String temp = line.substring(start, end);
-            final int lastPeriod = temp.lastIndexOf('.');
-            sourceClassName = temp.substring(0, lastPeriod);
-            sourceMethodName = temp.substring(lastPeriod + 1);
-        } catch (final Exception ex) {
-            // ignore - leave class and methodname unknown
+        final StackTraceElement caller = CallerLocator.getCaller(Jdk14LogRecord.getLoggingClasses(getClass()));
+        if (caller != null) {
+            sourceClassName = caller.getClassName();
+            sourceMethodName = caller.getMethodName();
         }
         classAndMethodFound = true;
     }
@@ -203,7 +192,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message) {
-        log(Level.INFO, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.INFO)) {
+            log(Level.INFO, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -215,7 +206,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message, final Throwable exception) {
-        log(Level.INFO, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.INFO)) {
+            log(Level.INFO, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -289,7 +282,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message) {
-        log(Level.FINEST, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.FINEST)) {
+            log(Level.FINEST, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -301,7 +296,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message, final Throwable exception) {
-        log(Level.FINEST, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.FINEST)) {
+            log(Level.FINEST, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -312,7 +309,9 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message) {
-        log(Level.WARNING, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.WARNING)) {
+            log(Level.WARNING, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -324,6 +323,8 @@ public class Jdk13LumberjackLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message, final Throwable exception) {
-        log(Level.WARNING, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.WARNING)) {
+            log(Level.WARNING, String.valueOf(message), exception);
+        }
     }
 }
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * The events of {@link Jdk14Logger}, that locate their caller when a handler first asks for their source class or
+ * method.
+ * <p>
+ * Locating the caller walks the stack, which is wasted on the handlers that never print the source. Like the records
+ * of JDK logging, which infer their caller in the same way, the caller can only be located while the event is being
+ * logged: a handler passing a record to another thread must ask for its source first. Records serialized before that
+ * keep no source.
+ * </p>
+ */
+final class Jdk14LogRecord extends LogRecord {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The classes of which the frames are skipped to find the caller of each adapter class, from the adapter to the
+     * code calling it: the adapter and its superclasses, the default methods of {@link Log} and of its event builder,
+     * and the decorators of {@link FilteringLog}.
+     */
+    private static final ClassValue<Set<String>> LOGGING_CLASSES = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(final Class<?> type) {
+            final Set<String> classNames = new HashSet<>();
+            for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+                classNames.add(c.getName());
+            }
+            classNames.add(Log.class.getName());
+            classNames.add("org.apache.commons.logging.DefaultLogEventBuilder");
+            classNames.add(FilteringLog.FQCN);
+            return Collections.unmodifiableSet(classNames);
+        }
+    };
+
+    /**
+     * Gets the classes between an adapter and its caller.
+     *
+     * @param adapterClass the class of the adapter
+     * @return the fully qualified names of the classes
+     */
+    static Set<String> getLoggingClasses(final Class<?> adapterClass) {
+        return LOGGING_CLASSES.get(adapterClass);
+    }
+
+    /**
+     * The classes between the adapter and its caller, or {@code null} once the source is known.
+     */
+    private transient Set<String> loggingClasses;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param level the level
+     * @param message the message
+     * @param thrown the exception, may be {@code null}
+     * @param logger the logger the event is logged with
+     * @param adapterClass the class of the adapter calling {@code logger}
+     */
+    Jdk14LogRecord(final Level level, final String message, final Throwable thrown, final Logger logger, final Class<?> adapterClass) {
+        super(level, message);
+        setLoggerName(logger.getName());
+        setThrown(thrown);
+        // As done by Logger.logp, which the adapter used to call
+        for (Logger l = logger; l != null; l = l.getParent()) {
+            if (l.getResourceBundleName() != null) {
+                setResourceBundleName(l.getResourceBundleName());
+                setResourceBundle(l.getResourceBundle());
+                break;
+            }
+        }
+        loggingClasses = getLoggingClasses(adapterClass);
+    }
+
+    @Override
+    public String getSourceClassName() {
+        locateCaller();
+        return super.getSourceClassName();
+    }
+
+    @Override
+    public String getSourceMethodName() {
+        locateCaller();
+        return super.getSourceMethodName();
+    }
+
+    /**
+     * Sets the source from the caller, if not known yet.
+     */
+    private void locateCaller() {
+        if (loggingClasses != null) {
+            final StackTraceElement caller = CallerLocator.getCaller(loggingClasses);
+            loggingClasses = null;
+            super.setSourceClassName(caller != null ? caller.getClassName() : null);
+            super.setSourceMethodName(caller != null ? caller.getMethodName() : null);
+        }
+    }
+
+    /**
+     * Sets the source class name, which stops locating the caller, like a {@link LogRecord} does.
+     */
+    @Override
+    public void setSourceClassName(final String sourceClassName) {
+        loggingClasses = null;
+        super.setSourceClassName(sourceClassName);
+    }
+
+    /**
+     * Sets the source method name, which stops locating the caller, like a {@link LogRecord} does.
+     */
+    @Override
+    public void setSourceMethodName(final String sourceMethodName) {
+        loggingClasses = null;
+        super.setSourceMethodName(sourceMethodName);
+    }
+}
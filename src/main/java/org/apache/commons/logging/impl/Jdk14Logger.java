@@ -27,6 +27,13 @@ import org.apache.commons.logging.Log;
  * Implements the {@code org.apache.commons.logging.Log}
  * interface to wrap the standard JDK logging mechanisms that were
  * introduced in the Merlin release (JDK 1.4).
+ * <p>
+ * The source class and method of the events are those of the code calling
+ * this logger, located only when a handler asks for them. As the contract of
+ * {@link java.util.logging.LogRecord} requires, a handler keeping a record
+ * after {@code publish}, or passing it to another thread, must call
+ * {@code getSourceClassName()} or {@code getSourceMethodName()} first.
+ * </p>
  */
 public class Jdk14Logger implements Log, Serializable {
 
@@ -69,7 +76,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message) {
-        log(Level.FINE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.FINE)) {
+            log(Level.FINE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -81,7 +90,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message, final Throwable exception) {
-        log(Level.FINE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.FINE)) {
+            log(Level.FINE, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -92,7 +103,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void error(final Object message) {
-        log(Level.SEVERE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -104,7 +117,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void error(final Object message, final Throwable exception) {
-        log(Level.SEVERE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -115,7 +130,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message) {
-        log(Level.SEVERE, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -127,7 +144,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message, final Throwable exception) {
-        log(Level.SEVERE, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.SEVERE)) {
+            log(Level.SEVERE, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -150,7 +169,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void info(final Object message) {
-        log(Level.INFO, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.INFO)) {
+            log(Level.INFO, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -162,7 +183,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void info(final Object message, final Throwable exception) {
-        log(Level.INFO, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.INFO)) {
+            log(Level.INFO, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -223,22 +246,8 @@ public class Jdk14Logger implements Log, Serializable {
     protected void log(final Level level, final String msg, final Throwable ex) {
         final Logger logger = getLogger();
         if (logger.isLoggable(level)) {
-            // Hack (?) to get the stack trace.
-            final Throwable dummyException = new Throwable();
-            final StackTraceElement[] locations = dummyException.getStackTrace();
-            // LOGGING-132: use the provided logger name instead of the class name
-            final String cname = name;
-            String method = "unknown";
-            // Caller will be the third element
-            if (locations != null && locations.length > 2) {
-                final StackTraceElement caller = locations[2];
-                method = caller.getMethodName();
-            }
-            if (ex == null) {
-                logger.logp(level, cname, method, msg);
-            } else {
-                logger.logp(level, cname, method, msg, ex);
-            }
+            // The caller is only located if a handler asks for the source
+            logger.log(new Jdk14LogRecord(level, msg, ex, logger, getClass()));
         }
     }
 
@@ -250,7 +259,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message) {
-        log(Level.FINEST, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.FINEST)) {
+            log(Level.FINEST, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -262,7 +273,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message, final Throwable exception) {
-        log(Level.FINEST, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.FINEST)) {
+            log(Level.FINEST, String.valueOf(message), exception);
+        }
     }
 
     /**
@@ -273,7 +286,9 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message) {
-        log(Level.WARNING, String.valueOf(message), null);
+        if (getLogger().isLoggable(Level.WARNING)) {
+            log(Level.WARNING, String.valueOf(message), null);
+        }
     }
 
     /**
@@ -285,6 +300,8 @@ public class Jdk14Logger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message, final Throwable exception) {
-        log(Level.WARNING, String.valueOf(message), exception);
+        if (getLogger().isLoggable(Level.WARNING)) {
+            log(Level.WARNING, String.valueOf(message), exception);
+        }
     }
 }
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogConfigurationException;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Logger factory hardcoded to send everything to {@code java.util.logging}, through {@link Jdk14Logger}.
+ * <p>
+ * This is the factory discovered when no other logging API is available, and neither Log4J 1.2 nor a
+ * {@code Log} implementation is configured. It logs as {@link LogFactoryImpl} would in that case, without
+ * its discovery of the {@code Log} implementation.
+ * </p>
+ * <p>
+ * The number of events logged by each logger can be limited with the {@link LogFactory#RATE_LIMIT_PROPERTY} and
+ * {@link LogFactory#COLLAPSE_WINDOW_PROPERTY} attributes.
+ * </p>
+ * <p>
+ * If a {@code Log} implementation or one of the {@code allowFlaw*} checks of {@link LogFactoryImpl} is configured,
+ * by an attribute or by a system property, the loggers are created by a {@link LogFactoryImpl} instead.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class JulLogFactory extends LogFactory {
+
+    private static final String[] EMPTY_STRING_ARRAY = {};
+
+    /**
+     * The configuration handled by {@link LogFactoryImpl} only.
+     */
+    private static final String[] LEGACY_PROPERTIES = {
+            LogFactoryImpl.LOG_PROPERTY,
+            LogFactoryImpl.LOG_PROPERTY_OLD,
+            LogFactoryImpl.ALLOW_FLAWED_CONTEXT_PROPERTY,
+            LogFactoryImpl.ALLOW_FLAWED_DISCOVERY_PROPERTY,
+            LogFactoryImpl.ALLOW_FLAWED_HIERARCHY_PROPERTY };
+
+    /**
+     * Reads the specified system property, using an AccessController so that
+     * the property can be read if JCL has been granted the appropriate
+     * security rights even if the calling code has not.
+     */
+    private static String getSystemProperty(final String key, final String def) throws SecurityException {
+        return AccessController.doPrivileged((PrivilegedAction<String>) () -> System.getProperty(key, def));
+    }
+
+    /**
+     * Caches Log instances.
+     * <p>
+     * {@code java.util.logging} has a single log manager, so each call to {@link #getInstance(String)} should give
+     * the same result.
+     * </p>
+     */
+    private final ConcurrentMap<String, Log> loggers = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<String, Object> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * The factory handed the legacy configuration, created on first use.
+     */
+    private volatile LogFactoryImpl legacyFactory;
+
+    /**
+     * Constructs a new instance.
+     */
+    public JulLogFactory() {
+        // empty
+    }
+
+    @Override
+    public Object getAttribute(final String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public String[] getAttributeNames() {
+        return attributes.keySet().toArray(EMPTY_STRING_ARRAY);
+    }
+
+    @Override
+    public Log getInstance(final Class<?> clazz) throws LogConfigurationException {
+        return getInstance(clazz.getName());
+    }
+
+    @Override
+    public Log getInstance(final String name) {
+        final Log log = loggers.get(name);
+        // Java 8 locks in computeIfAbsent even if the key is present
+        return log != null ? log : loggers.computeIfAbsent(name, this::newLog);
+    }
+
+    /**
+     * Gets the legacy factory, with the attributes of this one.
+     *
+     * @return The legacy factory.
+     */
+    private synchronized LogFactoryImpl getLegacyFactory() {
+        if (legacyFactory == null) {
+            final LogFactoryImpl factory = new LogFactoryImpl();
+            attributes.forEach(factory::setAttribute);
+            legacyFactory = factory;
+        }
+        return legacyFactory;
+    }
+
+    /**
+     * Tests whether some configuration is only handled by {@link LogFactoryImpl}.
+     *
+     * @return Whether the loggers should be created by {@link LogFactoryImpl}.
+     */
+    private boolean isLegacyConfigured() {
+        for (final String property : LEGACY_PROPERTIES) {
+            if (attributes.containsKey(property)) {
+                return true;
+            }
+            try {
+                if (getSystemProperty(property, null) != null) {
+                    return true;
+                }
+            } catch (final SecurityException ignored) {
+                // LogFactoryImpl cannot read it either
+            }
+        }
+        return false;
+    }
+
+    private Log newLog(final String name) {
+        if (isLegacyConfigured()) {
+            // Already decorated by LogFactoryImpl
+            return getLegacyFactory().getInstance(name);
+        }
+        // The caller is located by Jdk14LogRecord, whatever the decorators
+        return FilteringLog.decorate(this, name, fqcn -> new Jdk14Logger(name));
+    }
+
+    /**
+     * Clears all the logger wrappers; the loggers managed by the {@code java.util.logging} log manager are not.
+     */
+    @Override
+    public void release() {
+        loggers.clear();
+        final LogFactoryImpl factory = legacyFactory;
+        if (factory != null) {
+            factory.release();
+        }
+    }
+
+    @Override
+    public void removeAttribute(final String name) {
+        attributes.remove(name);
+        final LogFactoryImpl factory = legacyFactory;
+        if (factory != null) {
+            factory.removeAttribute(name);
+        }
+    }
+
+    @Override
+    public void setAttribute(final String name, final Object value) {
+        if (value != null) {
+            attributes.put(name, value);
+            final LogFactoryImpl factory = legacyFactory;
+            if (factory != null) {
+                factory.setAttribute(name, value);
+            }
+        } else {
+            removeAttribute(name);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.reflect.Proxy;
+import java.util.function.Consumer;
+
+/**
+ * Helpers for the adapters that cache the enabled levels of their loggers.
+ * <p>
+ * Such an adapter keeps a bit mask of the enabled levels in a plain field, tagged with the generation of the
+ * configuration it was computed for. The current generation is the constant target of a {@link MutableCallSite},
+ * held in a static final field of the adapter: the JIT compiler folds it, so that checking a disabled level costs
+ * a field read that can be hoisted out of loops, and deoptimizes the code using it when the generation changes.
+ * The masks are recomputed whenever the backend reports a reconfiguration, through a listener registered with it.
+ * </p>
+ * <p>
+ * Caching is only safe if the answer of the backend depends on the level alone: adapters fall back to
+ * {@link #UNKNOWN}, and to asking the backend on each call, if they cannot register a listener or if the backend has
+ * filters that may look at something else, such as the calling thread.
+ * </p>
+ * <p>
+ * The listener interfaces belong to the backends (Log4j Core and Logback), that are not dependencies of this
+ * library, so listeners are implemented through dynamic proxies.
+ * </p>
+ */
+final class LevelCache {
+
+    /**
+     * Number of low bits of a mask that hold the levels, the others hold the generation.
+     */
+    private static final int LEVEL_BITS = 8;
+
+    /**
+     * Keeps the generations positive, so that they never match {@link #UNKNOWN}.
+     */
+    private static final int GENERATION_MASK = -1 >>> LEVEL_BITS + 1;
+
+    /**
+     * Value of a mask that must not be used: the backend is asked on each call.
+     */
+    static final int UNKNOWN = -1;
+
+    /**
+     * Starts a new generation, which invalidates all masks computed for the previous ones.
+     *
+     * @param generation the call site created by {@link #newGeneration()}
+     * @return the new generation, to compute masks for
+     */
+    static int advance(final MutableCallSite generation) {
+        synchronized (generation) {
+            final int next = current(generation.getTarget()) + 1 & GENERATION_MASK;
+            generation.setTarget(MethodHandles.constant(int.class, next));
+            MutableCallSite.syncAll(new MutableCallSite[] { generation });
+            return next;
+        }
+    }
+
+    /**
+     * Gets the current generation.
+     *
+     * @param generation the dynamic invoker of the call site created by {@link #newGeneration()}, which should be a
+     *        constant for the JIT compiler to fold it.
+     * @return the current generation
+     */
+    static int current(final MethodHandle generation) {
+        try {
+            return (int) generation.invokeExact();
+        } catch (final Throwable e) {
+            // A constant method handle does not throw
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tests whether a mask was computed for the current generation, and not {@link #UNKNOWN}.
+     *
+     * @param levels the mask
+     * @param generation the dynamic invoker of the call site created by {@link #newGeneration()}
+     * @return whether the mask can be used
+     */
+    static boolean isValid(final int levels, final MethodHandle generation) {
+        return levels >>> LEVEL_BITS == current(generation);
+    }
+
+    /**
+     * Creates the call site holding the current generation of the masks of an adapter.
+     *
+     * @return a call site, whose dynamic invoker returns the current generation
+     */
+    static MutableCallSite newGeneration() {
+        return new MutableCallSite(MethodHandles.constant(int.class, 0));
+    }
+
+    /**
+     * Creates a listener that runs an action on each notification of the backend.
+     * <p>
+     * Methods returning a boolean return {@code true}: this makes the Logback listeners survive a reset of their
+     * context, which is followed by the reconfiguration we want to hear about.
+     * </p>
+     *
+     * @param listenerType the listener interface
+     * @param action the action, given the name of the notified method
+     * @return the listener
+     */
+    static Object newListener(final Class<?> listenerType, final Consumer<String> action) {
+        return Proxy.newProxyInstance(listenerType.getClassLoader(), new Class<?>[] { listenerType }, (proxy, method, args) -> {
+            switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return LevelCache.class.getName() + "$Listener@" + Integer.toHexString(System.identityHashCode(proxy));
+            default:
+                if (method.getReturnType() == boolean.class) {
+                    return Boolean.TRUE;
+                }
+                action.accept(method.getName());
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Creates a mask.
+     *
+     * @param generation the generation the levels were computed for
+     * @param levels the bits of the enabled levels
+     * @return the mask
+     */
+    static int toMask(final int generation, final int levels) {
+        return generation << LEVEL_BITS | levels;
+    }
+
+    private LevelCache() {
+        // empty
+    }
+}
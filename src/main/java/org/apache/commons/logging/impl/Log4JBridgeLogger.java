@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import org.apache.log4j.Category;
+import org.apache.log4j.Priority;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.message.ObjectMessage;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.apache.logging.log4j.spi.ExtendedLogger;
+
+/**
+ * The {@link Log4JLogger} selected by {@link LogFactoryImpl} when the Log4j 1.2 API is the {@code log4j-1.2-api}
+ * bridge to the Log4j API.
+ * <p>
+ * The events are sent straight to the {@link ExtendedLogger} behind the Log4j 1.2 {@code Category}, instead of going
+ * through the {@code Category} adapter of the bridge, in the same way as the {@code Category}: the message is
+ * wrapped in an {@link ObjectMessage}, or a {@link SimpleMessage} if it is a string, that the appenders of Log4j 1.2
+ * get back as such. Only the level checks and the logging method that all the methods of {@link Log4JLogger} go
+ * through are overridden, so the caller is still located from the fully qualified name of {@link Log4JLogger}. The
+ * event builders are those of {@link Log4JLogger}, logging through the {@code Category}. The Log4j 1.2 logger is
+ * still available from {@link #getLogger()}.
+ * </p>
+ */
+@SuppressWarnings("deprecation") // Log4JLogger
+final class Log4JBridgeLogger extends Log4JLogger {
+
+    /** Serializable version identifier. */
+    private static final long serialVersionUID = 1L;
+
+    /** The fully qualified name of Log4JLogger, which declares the methods called by the callers, see {@link ExtendedLogger#logIfEnabled}. */
+    private static final String FQCN = Log4JLogger.class.getName();
+
+    /**
+     * Classes of {@code log4j-1.2-api} that are not part of Log4j 1.2, from different versions of the bridge.
+     */
+    private static final String[] BRIDGE_CLASSES = { "org.apache.log4j.bridge.AppenderAdapter", "org.apache.log4j.legacy.core.CategoryUtil" };
+
+    // Verify that the Log4j 1.2 API is the bridge, and that it logs to the Log4j API
+    // seen by this class. If an ExceptionInInitializerError is generated, then
+    // LogFactoryImpl uses Log4JLogger instead.
+    static {
+        final ClassLoader log4jClassLoader = Category.class.getClassLoader();
+        if (!isBridge(log4jClassLoader)) {
+            throw new InstantiationError("The Log4j 1.2 API is not the log4j-1.2-api bridge");
+        }
+        try {
+            if (Class.forName(LogManager.class.getName(), false, log4jClassLoader) != LogManager.class) {
+                throw new InstantiationError("The log4j-1.2-api bridge uses another copy of the Log4j API");
+            }
+        } catch (final ClassNotFoundException e) {
+            throw new InstantiationError("The log4j-1.2-api bridge uses another copy of the Log4j API");
+        }
+    }
+
+    private static boolean isBridge(final ClassLoader log4jClassLoader) {
+        for (final String className : BRIDGE_CLASSES) {
+            try {
+                Class.forName(className, false, log4jClassLoader);
+                return true;
+            } catch (final ClassNotFoundException | LinkageError e) {
+                // try the next one
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Converts a level of Log4j 1.2 to the level of the Log4j API with the same name.
+     */
+    private static Level toLevel(final Priority level) {
+        switch (level.toInt()) {
+        case Priority.FATAL_INT:
+            return Level.FATAL;
+        case Priority.ERROR_INT:
+            return Level.ERROR;
+        case Priority.WARN_INT:
+            return Level.WARN;
+        case Priority.INFO_INT:
+            return Level.INFO;
+        case Priority.DEBUG_INT:
+            return Level.DEBUG;
+        default:
+            return Level.TRACE;
+        }
+    }
+
+    /** The fully qualified name of the class to skip to find the caller. */
+    private final transient String fqcn;
+
+    /** The logger of the Log4j API the bridge logs to. */
+    private final transient ExtendedLogger log4j2Logger;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param name the name of the logger
+     */
+    public Log4JBridgeLogger(final String name) {
+        this(name, FQCN);
+    }
+
+    /**
+     * Constructs a logger called through another class, such as a decorator of the logger.
+     *
+     * @param name the name of the logger
+     * @param fqcn the fully qualified name of the class that calls this logger, skipped to find the caller
+     */
+    public Log4JBridgeLogger(final String name, final String fqcn) {
+        super(name, fqcn);
+        this.fqcn = fqcn;
+        // The bridge selects the logger context from the class loader of its caller, Log4JLogger
+        log4j2Logger = LogManager.getContext(Log4JLogger.class.getClassLoader(), false).getLogger(name);
+    }
+
+    @Override
+    boolean isEnabled(final Priority level) {
+        return log4j2Logger.isEnabled(toLevel(level));
+    }
+
+    /**
+     * Logs a message, as the {@code Category} of the bridge does.
+     */
+    @Override
+    void log(final Priority level, final Object message, final Throwable t) {
+        final Level log4j2Level = toLevel(level);
+        if (log4j2Logger.isEnabled(log4j2Level, null, message, t)) {
+            log4j2Logger.logMessage(fqcn, log4j2Level, null, message instanceof String ? new SimpleMessage((String) message) : new ObjectMessage(message), t);
+        }
+    }
+
+    /**
+     * Replaces a deserialized instance by a new one, bound to the logger of its name.
+     */
+    private Object readResolve() {
+        return new Log4JBridgeLogger(getLogger().getName());
+    }
+}
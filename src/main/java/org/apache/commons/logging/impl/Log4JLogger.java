@@ -18,8 +18,11 @@
 package org.apache.commons.logging.impl;
 
 import java.io.Serializable;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogEventBuilder;
+import org.apache.commons.logging.MessageFormatter;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.Priority;
@@ -50,6 +53,63 @@ import org.apache.log4j.Priority;
 @Deprecated
 public class Log4JLogger implements Log, Serializable {
 
+    /**
+     * Builds the events of {@link Log4JLogger#atInfo()} and the other {@code at} methods.
+     * <p>
+     * Like the default builder of {@code Log}, it appends the key/value pairs to the message. The caller is located
+     * from the fully qualified name of this class, which the default builder would hide.
+     * </p>
+     */
+    private static final class EventBuilder implements LogEventBuilder {
+
+        private static final String FQCN = EventBuilder.class.getName();
+
+        private Throwable cause;
+
+        private StringBuilder keyValues;
+
+        private final Priority level;
+
+        private final Logger logger;
+
+        EventBuilder(final Logger logger, final Priority level) {
+            this.logger = logger;
+            this.level = level;
+        }
+
+        @Override
+        public LogEventBuilder addKeyValue(final String key, final Object value) {
+            if (keyValues == null) {
+                keyValues = new StringBuilder();
+            }
+            keyValues.append(' ').append(key).append('=').append(value);
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder addMarker(final String name) {
+            // No markers
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+            logger.log(FQCN, level, keyValues != null ? message + keyValues : message, cause);
+        }
+
+        @Override
+        public void log(final Supplier<?> messageSupplier) {
+            // Only enabled levels have a builder
+            log(String.valueOf(messageSupplier != null ? messageSupplier.get() : null));
+        }
+
+        @Override
+        public LogEventBuilder setCause(final Throwable cause) {
+            this.cause = cause;
+            return this;
+        }
+    }
+
     /** Serializable version identifier. */
     private static final long serialVersionUID = 5160705895411730424L;
 
@@ -86,17 +146,39 @@ public class Log4JLogger implements Log, Serializable {
         TRACE_LEVEL = traceLevel;
     }
 
+    /**
+     * Flattens the arguments of the {@code Log} methods taking more than three, for {@link MessageFormatter}.
+     */
+    private static Object[] toArray(final Object arg0, final Object arg1, final Object arg2, final Object[] moreArgs) {
+        final int more = moreArgs != null ? moreArgs.length : 0;
+        final Object[] args = new Object[3 + more];
+        args[0] = arg0;
+        args[1] = arg1;
+        args[2] = arg2;
+        if (more > 0) {
+            System.arraycopy(moreArgs, 0, args, 3, more);
+        }
+        return args;
+    }
+
     /** Log to this logger */
     private transient volatile Logger logger;
 
     /** Logger name */
     private final String name;
 
+    /**
+     * The fully qualified name of the class to skip to find the caller, this class unless the logger is decorated.
+     * Decorated loggers are not serializable, so a deserialized logger uses this class again.
+     */
+    private final transient String fqcn;
+
     /**
      * Constructs a new instance.
      */
     public Log4JLogger() {
         name = null;
+        fqcn = FQCN;
     }
 
     /**
@@ -110,6 +192,7 @@ public class Log4JLogger implements Log, Serializable {
         }
         this.name = logger.getName();
         this.logger = logger;
+        this.fqcn = FQCN;
     }
 
     /**
@@ -118,10 +201,88 @@ public class Log4JLogger implements Log, Serializable {
      * @param name name.
      */
     public Log4JLogger(final String name) {
+        this(name, FQCN);
+    }
+
+    /**
+     * Constructs a logger called through another class, such as a decorator of the logger.
+     *
+     * @param name name.
+     * @param fqcn the fully qualified name of the class that calls this logger, skipped to find the caller.
+     * @since 1.5.0
+     */
+    public Log4JLogger(final String name, final String fqcn) {
         this.name = name;
+        this.fqcn = fqcn;
         this.logger = getLogger();
     }
 
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.DEBUG}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atDebug()
+     */
+    @Override
+    public LogEventBuilder atDebug() {
+        return isDebugEnabled() ? new EventBuilder(getLogger(), Level.DEBUG) : Log.super.atDebug();
+    }
+
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.ERROR}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atError()
+     */
+    @Override
+    public LogEventBuilder atError() {
+        return isErrorEnabled() ? new EventBuilder(getLogger(), Level.ERROR) : Log.super.atError();
+    }
+
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.FATAL}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atFatal()
+     */
+    @Override
+    public LogEventBuilder atFatal() {
+        return isFatalEnabled() ? new EventBuilder(getLogger(), Level.FATAL) : Log.super.atFatal();
+    }
+
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.INFO}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atInfo()
+     */
+    @Override
+    public LogEventBuilder atInfo() {
+        return isInfoEnabled() ? new EventBuilder(getLogger(), Level.INFO) : Log.super.atInfo();
+    }
+
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.TRACE}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atTrace()
+     */
+    @Override
+    public LogEventBuilder atTrace() {
+        return isTraceEnabled() ? new EventBuilder(getLogger(), TRACE_LEVEL) : Log.super.atTrace();
+    }
+
+    /**
+     * Starts building a log event with {@code org.apache.log4j.Priority.WARN}.
+     *
+     * @return a builder, which does nothing if the level is disabled
+     * @see org.apache.commons.logging.Log#atWarn()
+     */
+    @Override
+    public LogEventBuilder atWarn() {
+        return isWarnEnabled() ? new EventBuilder(getLogger(), Level.WARN) : Log.super.atWarn();
+    }
+
     /**
      * Logs a message with {@code org.apache.log4j.Priority.DEBUG}.
      *
@@ -130,7 +291,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message) {
-        getLogger().log(FQCN, Level.DEBUG, message, null);
+        log(Level.DEBUG, message, null);
     }
 
     /**
@@ -142,7 +303,156 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message, final Throwable t) {
-        getLogger().log(FQCN, Level.DEBUG, message, t);
+        log(Level.DEBUG, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.DEBUG}.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#debug(String, Throwable)
+     */
+    @Override
+    public void debug(final String message, final Throwable t) {
+        log(Level.DEBUG, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, Object)
+     */
+    @Override
+    public void debug(final String pattern, final Object arg) {
+        logIfEnabled(Level.DEBUG, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#debug(String, Object, Object)
+     */
+    @Override
+    public void debug(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(Level.DEBUG, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#debug(String, Object, Object, Object)
+     */
+    @Override
+    public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(Level.DEBUG, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, char)
+     */
+    @Override
+    public void debug(final String pattern, final char arg) {
+        logIfEnabled(Level.DEBUG, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, double)
+     */
+    @Override
+    public void debug(final String pattern, final double arg) {
+        logIfEnabled(Level.DEBUG, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, float)
+     */
+    @Override
+    public void debug(final String pattern, final float arg) {
+        logIfEnabled(Level.DEBUG, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, long)
+     */
+    @Override
+    public void debug(final String pattern, final long arg) {
+        logIfEnabled(Level.DEBUG, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.DEBUG}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#debug(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(Level.DEBUG, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.DEBUG}.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#debug(Supplier)
+     */
+    @Override
+    public void debug(final Supplier<?> messageSupplier) {
+        logIfEnabled(Level.DEBUG, messageSupplier);
     }
 
     /**
@@ -153,7 +463,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message) {
-        getLogger().log(FQCN, Level.ERROR, message, null);
+        log(Level.ERROR, message, null);
     }
 
     /**
@@ -165,7 +475,156 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message, final Throwable t) {
-        getLogger().log(FQCN, Level.ERROR, message, t);
+        log(Level.ERROR, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.ERROR}.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#error(String, Throwable)
+     */
+    @Override
+    public void error(final String message, final Throwable t) {
+        log(Level.ERROR, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, Object)
+     */
+    @Override
+    public void error(final String pattern, final Object arg) {
+        logIfEnabled(Level.ERROR, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#error(String, Object, Object)
+     */
+    @Override
+    public void error(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(Level.ERROR, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#error(String, Object, Object, Object)
+     */
+    @Override
+    public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(Level.ERROR, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, char)
+     */
+    @Override
+    public void error(final String pattern, final char arg) {
+        logIfEnabled(Level.ERROR, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, double)
+     */
+    @Override
+    public void error(final String pattern, final double arg) {
+        logIfEnabled(Level.ERROR, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, float)
+     */
+    @Override
+    public void error(final String pattern, final float arg) {
+        logIfEnabled(Level.ERROR, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, long)
+     */
+    @Override
+    public void error(final String pattern, final long arg) {
+        logIfEnabled(Level.ERROR, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.ERROR}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#error(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(Level.ERROR, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.ERROR}.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#error(Supplier)
+     */
+    @Override
+    public void error(final Supplier<?> messageSupplier) {
+        logIfEnabled(Level.ERROR, messageSupplier);
     }
 
     /**
@@ -176,7 +635,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message) {
-        getLogger().log(FQCN, Level.FATAL, message, null);
+        log(Level.FATAL, message, null);
     }
 
     /**
@@ -188,7 +647,156 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message, final Throwable t) {
-        getLogger().log(FQCN, Level.FATAL, message, t);
+        log(Level.FATAL, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.FATAL}.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#fatal(String, Throwable)
+     */
+    @Override
+    public void fatal(final String message, final Throwable t) {
+        log(Level.FATAL, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, Object)
+     */
+    @Override
+    public void fatal(final String pattern, final Object arg) {
+        logIfEnabled(Level.FATAL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#fatal(String, Object, Object)
+     */
+    @Override
+    public void fatal(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(Level.FATAL, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#fatal(String, Object, Object, Object)
+     */
+    @Override
+    public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(Level.FATAL, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, char)
+     */
+    @Override
+    public void fatal(final String pattern, final char arg) {
+        logIfEnabled(Level.FATAL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, double)
+     */
+    @Override
+    public void fatal(final String pattern, final double arg) {
+        logIfEnabled(Level.FATAL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, float)
+     */
+    @Override
+    public void fatal(final String pattern, final float arg) {
+        logIfEnabled(Level.FATAL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, long)
+     */
+    @Override
+    public void fatal(final String pattern, final long arg) {
+        logIfEnabled(Level.FATAL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.FATAL}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#fatal(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(Level.FATAL, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.FATAL}.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#fatal(Supplier)
+     */
+    @Override
+    public void fatal(final Supplier<?> messageSupplier) {
+        logIfEnabled(Level.FATAL, messageSupplier);
     }
 
     /**
@@ -217,7 +825,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message) {
-        getLogger().log(FQCN, Level.INFO, message, null);
+        log(Level.INFO, message, null);
     }
 
     /**
@@ -229,7 +837,156 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message, final Throwable t) {
-        getLogger().log(FQCN, Level.INFO, message, t);
+        log(Level.INFO, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.INFO}.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#info(String, Throwable)
+     */
+    @Override
+    public void info(final String message, final Throwable t) {
+        log(Level.INFO, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, Object)
+     */
+    @Override
+    public void info(final String pattern, final Object arg) {
+        logIfEnabled(Level.INFO, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#info(String, Object, Object)
+     */
+    @Override
+    public void info(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(Level.INFO, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#info(String, Object, Object, Object)
+     */
+    @Override
+    public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(Level.INFO, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, char)
+     */
+    @Override
+    public void info(final String pattern, final char arg) {
+        logIfEnabled(Level.INFO, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, double)
+     */
+    @Override
+    public void info(final String pattern, final double arg) {
+        logIfEnabled(Level.INFO, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, float)
+     */
+    @Override
+    public void info(final String pattern, final float arg) {
+        logIfEnabled(Level.INFO, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, long)
+     */
+    @Override
+    public void info(final String pattern, final long arg) {
+        logIfEnabled(Level.INFO, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.INFO}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#info(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(Level.INFO, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.INFO}.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#info(Supplier)
+     */
+    @Override
+    public void info(final Supplier<?> messageSupplier) {
+        logIfEnabled(Level.INFO, messageSupplier);
     }
 
     /**
@@ -237,7 +994,17 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isDebugEnabled() {
-        return getLogger().isDebugEnabled();
+        return isEnabled(Level.DEBUG);
+    }
+
+    /**
+     * Tests whether a level is enabled, for the other methods of this class.
+     *
+     * @param level the level to test
+     * @return whether the level is enabled
+     */
+    boolean isEnabled(final Priority level) {
+        return getLogger().isEnabledFor(level);
     }
 
     /**
@@ -245,7 +1012,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isErrorEnabled() {
-        return getLogger().isEnabledFor(Level.ERROR);
+        return isEnabled(Level.ERROR);
     }
 
     /**
@@ -253,7 +1020,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isFatalEnabled() {
-        return getLogger().isEnabledFor(Level.FATAL);
+        return isEnabled(Level.FATAL);
     }
 
     /**
@@ -261,7 +1028,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isInfoEnabled() {
-        return getLogger().isInfoEnabled();
+        return isEnabled(Level.INFO);
     }
 
     /**
@@ -271,7 +1038,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isTraceEnabled() {
-        return getLogger().isEnabledFor(TRACE_LEVEL);
+        return isEnabled(TRACE_LEVEL);
     }
 
     /**
@@ -279,7 +1046,84 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public boolean isWarnEnabled() {
-        return getLogger().isEnabledFor(Level.WARN);
+        return isEnabled(Level.WARN);
+    }
+
+    /**
+     * Logs a message, if the level is enabled.
+     * <p>
+     * The other methods of this class log through this one, which a subclass overrides to log elsewhere. The caller
+     * is located from {@link #fqcn}.
+     * </p>
+     *
+     * @param level the level of the event
+     * @param message the message to log
+     * @param t the cause of the event, may be null
+     */
+    void log(final Priority level, final Object message, final Throwable t) {
+        getLogger().log(fqcn, level, message, t);
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final char arg) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final double arg) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final float arg) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final long arg) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final Object arg) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg), MessageFormatter.getThrowable(pattern, arg));
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final Object arg0, final Object arg1) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg0, arg1), MessageFormatter.getThrowable(pattern, arg0, arg1));
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        if (isEnabled(level)) {
+            log(level, MessageFormatter.format(pattern, arg0, arg1, arg2), MessageFormatter.getThrowable(pattern, arg0, arg1, arg2));
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object[] moreArgs) {
+        if (isEnabled(level)) {
+            final Object[] args = toArray(arg0, arg1, arg2, moreArgs);
+            log(level, MessageFormatter.format(pattern, args), MessageFormatter.getThrowable(pattern, args));
+        }
+    }
+
+    private void logIfEnabled(final Priority level, final Supplier<?> messageSupplier) {
+        if (isEnabled(level)) {
+            log(level, messageSupplier != null ? messageSupplier.get() : null, null);
+        }
+    }
+
+    /**
+     * Replaces a deserialized instance by a new one, which skips this class to find the caller.
+     */
+    private Object readResolve() {
+        return name != null ? new Log4JLogger(name) : new Log4JLogger();
     }
 
     /**
@@ -292,7 +1136,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message) {
-        getLogger().log(FQCN, TRACE_LEVEL, message, null);
+        log(TRACE_LEVEL, message, null);
     }
 
     /**
@@ -306,7 +1150,176 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void trace(final Object message, final Throwable t) {
-        getLogger().log(FQCN, TRACE_LEVEL, message, t);
+        log(TRACE_LEVEL, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#trace(String, Throwable)
+     */
+    @Override
+    public void trace(final String message, final Throwable t) {
+        log(TRACE_LEVEL, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, Object)
+     */
+    @Override
+    public void trace(final String pattern, final Object arg) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#trace(String, Object, Object)
+     */
+    @Override
+    public void trace(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#trace(String, Object, Object, Object)
+     */
+    @Override
+    public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, char)
+     */
+    @Override
+    public void trace(final String pattern, final char arg) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, double)
+     */
+    @Override
+    public void trace(final String pattern, final double arg) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, float)
+     */
+    @Override
+    public void trace(final String pattern, final float arg) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, long)
+     */
+    @Override
+    public void trace(final String pattern, final long arg) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#trace(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(TRACE_LEVEL, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.TRACE}.
+     * When using a Log4j version that does not support the {@code TRACE}
+     * level, the message will be logged at the {@code DEBUG} level.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#trace(Supplier)
+     */
+    @Override
+    public void trace(final Supplier<?> messageSupplier) {
+        logIfEnabled(TRACE_LEVEL, messageSupplier);
     }
 
     /**
@@ -317,7 +1330,7 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message) {
-        getLogger().log(FQCN, Level.WARN, message, null);
+        log(Level.WARN, message, null);
     }
 
     /**
@@ -329,7 +1342,156 @@ public class Log4JLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message, final Throwable t) {
-        getLogger().log(FQCN, Level.WARN, message, t);
+        log(Level.WARN, message, t);
+    }
+
+    /**
+     * Logs a message with {@code org.apache.log4j.Priority.WARN}.
+     *
+     * @param message to log
+     * @param t log this cause
+     * @see org.apache.commons.logging.Log#warn(String, Throwable)
+     */
+    @Override
+    public void warn(final String message, final Throwable t) {
+        log(Level.WARN, message, t);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, Object)
+     */
+    @Override
+    public void warn(final String pattern, final Object arg) {
+        logIfEnabled(Level.WARN, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @see org.apache.commons.logging.Log#warn(String, Object, Object)
+     */
+    @Override
+    public void warn(final String pattern, final Object arg0, final Object arg1) {
+        logIfEnabled(Level.WARN, pattern, arg0, arg1);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @see org.apache.commons.logging.Log#warn(String, Object, Object, Object)
+     */
+    @Override
+    public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+        logIfEnabled(Level.WARN, pattern, arg0, arg1, arg2);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, char)
+     */
+    @Override
+    public void warn(final String pattern, final char arg) {
+        logIfEnabled(Level.WARN, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, double)
+     */
+    @Override
+    public void warn(final String pattern, final double arg) {
+        logIfEnabled(Level.WARN, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, float)
+     */
+    @Override
+    public void warn(final String pattern, final float arg) {
+        logIfEnabled(Level.WARN, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, long)
+     */
+    @Override
+    public void warn(final String pattern, final long arg) {
+        logIfEnabled(Level.WARN, pattern, arg);
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.log4j.Priority.WARN}.
+     * <p>
+     * The message is only formatted if the level is enabled.
+     * </p>
+     *
+     * @param pattern the message pattern
+     * @param arg0 the first argument
+     * @param arg1 the second argument
+     * @param arg2 the third argument
+     * @param moreArgs the other arguments
+     * @see org.apache.commons.logging.Log#warn(String, Object, Object, Object, Object...)
+     */
+    @Override
+    public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+        logIfEnabled(Level.WARN, pattern, arg0, arg1, arg2, moreArgs);
+    }
+
+    /**
+     * Logs a supplied message with {@code org.apache.log4j.Priority.WARN}.
+     *
+     * @param messageSupplier supplies the message to log, called only if the level is enabled
+     * @see org.apache.commons.logging.Log#warn(Supplier)
+     */
+    @Override
+    public void warn(final Supplier<?> messageSupplier) {
+        logIfEnabled(Level.WARN, messageSupplier);
     }
 
 }
@@ -16,27 +16,66 @@
  */
 package org.apache.commons.logging.impl;
 
-import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogEventBuilder;
 import org.apache.commons.logging.LogFactory;
+import org.apache.logging.log4j.BridgeAware;
 import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogBuilder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.Logger;
 import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.spi.AbstractLoggerAdapter;
 import org.apache.logging.log4j.spi.ExtendedLogger;
-import org.apache.logging.log4j.spi.LoggerAdapter;
 import org.apache.logging.log4j.spi.LoggerContext;
 import org.apache.logging.log4j.util.StackLocatorUtil;
+import org.apache.logging.log4j.util.Unbox;
 
 /**
  * Logger factory hardcoded to send everything to Log4j API.
  * <p>
  * Based on the `log4j-jcl` artifact from Apache Logging Services.
  * </p>
+ * <p>
+ * With Log4j Core, the enabled levels of each logger are cached and refreshed whenever the configuration of its
+ * logger context changes, unless the configuration has a global filter. A filter added to the current configuration
+ * without calling {@code LoggerContext.updateLoggers()} is only taken into account at the next change.
+ * </p>
+ * <p>
+ * If Log4j Core is <a href="https://logging.apache.org/log4j/2.x/manual/garbagefree.html">garbage-free</a>, so
+ * is this factory: once the thread has logged its first events, the following calls allocate nothing, as long as
+ * they pass
+ * </p>
+ * <ul>
+ * <li>a {@link CharSequence} message,</li>
+ * <li>a pattern with up to three arguments, or one primitive argument, which is boxed with {@link Unbox},</li>
+ * <li>or no key/value pair to a {@link LogEventBuilder}.</li>
+ * </ul>
+ * <p>
+ * Patterns with more arguments need an array, messages supplied by a {@link Supplier} need a Log4j supplier, and
+ * key/value pairs are put in the {@link ThreadContext}, which is only garbage-free if configured so. Calls at a
+ * disabled level allocate nothing, except patterns with more than three arguments if the configuration has a
+ * global filter.
+ * </p>
  *
  * @since 1.3.0
  */
@@ -46,10 +85,72 @@ public final class Log4jApiLogFactory extends LogFactory {
 
         private static final String FQCN = Log4j2Log.class.getName();
 
+        private static final Level[] LEVELS = { Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG, Level.TRACE };
+
+        /**
+         * The generation of the configurations of all logger contexts, see {@link LevelCache}.
+         * <p>
+         * Shared by all factories, so that the JIT compiler can fold it: a reconfiguration refreshes the loggers of
+         * all contexts.
+         * </p>
+         */
+        private static final MutableCallSite GENERATION = LevelCache.newGeneration();
+
+        private static final MethodHandle CURRENT_GENERATION = GENERATION.dynamicInvoker();
+
+        /**
+         * The class to skip to find the caller, this one or {@link FilteringLog#FQCN}.
+         */
+        private final String fqcn;
+
         private final ExtendedLogger logger;
 
-        public Log4j2Log(final ExtendedLogger logger) {
+        /**
+         * Bit {@code 1 << level.intLevel() / 100} is set for each enabled standard level, below the generation, or
+         * {@link LevelCache#UNKNOWN}.
+         */
+        private int enabledLevels = LevelCache.UNKNOWN;
+
+        /**
+         * The marker of all events, or {@code null}, see {@link LogFactory#MARKER_PROPERTY}.
+         */
+        private volatile Marker marker;
+
+        public Log4j2Log(final ExtendedLogger logger, final String fqcn, final Marker marker, final boolean cacheLevels) {
             this.logger = logger;
+            this.fqcn = fqcn;
+            this.marker = marker;
+            refreshLevels(cacheLevels);
+        }
+
+        @Override
+        public LogEventBuilder atDebug() {
+            return LOG_BUILDER && isEnabled(Level.DEBUG) ? Log4jLogEventBuilder.start(logger, marker, Level.DEBUG) : Log.super.atDebug();
+        }
+
+        @Override
+        public LogEventBuilder atError() {
+            return LOG_BUILDER && isEnabled(Level.ERROR) ? Log4jLogEventBuilder.start(logger, marker, Level.ERROR) : Log.super.atError();
+        }
+
+        @Override
+        public LogEventBuilder atFatal() {
+            return LOG_BUILDER && isEnabled(Level.FATAL) ? Log4jLogEventBuilder.start(logger, marker, Level.FATAL) : Log.super.atFatal();
+        }
+
+        @Override
+        public LogEventBuilder atInfo() {
+            return LOG_BUILDER && isEnabled(Level.INFO) ? Log4jLogEventBuilder.start(logger, marker, Level.INFO) : Log.super.atInfo();
+        }
+
+        @Override
+        public LogEventBuilder atTrace() {
+            return LOG_BUILDER && isEnabled(Level.TRACE) ? Log4jLogEventBuilder.start(logger, marker, Level.TRACE) : Log.super.atTrace();
+        }
+
+        @Override
+        public LogEventBuilder atWarn() {
+            return LOG_BUILDER && isEnabled(Level.WARN) ? Log4jLogEventBuilder.start(logger, marker, Level.WARN) : Log.super.atWarn();
         }
 
         @Override
@@ -62,6 +163,64 @@ public final class Log4jApiLogFactory extends LogFactory {
             logIfEnabled(Level.DEBUG, message, t);
         }
 
+        @Override
+        public void debug(final String message, final Throwable t) {
+            logIfEnabled(Level.DEBUG, message, t);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg) {
+            if (!isDisabled(Level.DEBUG)) {
+                logger.logIfEnabled(fqcn, Level.DEBUG, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.DEBUG)) {
+                logger.logIfEnabled(fqcn, Level.DEBUG, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.DEBUG)) {
+                logger.logIfEnabled(fqcn, Level.DEBUG, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final char arg) {
+            logIfEnabled(Level.DEBUG, pattern, arg);
+        }
+
+        @Override
+        public void debug(final String pattern, final double arg) {
+            logIfEnabled(Level.DEBUG, pattern, arg);
+        }
+
+        @Override
+        public void debug(final String pattern, final float arg) {
+            logIfEnabled(Level.DEBUG, pattern, arg);
+        }
+
+        @Override
+        public void debug(final String pattern, final long arg) {
+            logIfEnabled(Level.DEBUG, pattern, arg);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.DEBUG)) {
+                logger.logIfEnabled(fqcn, Level.DEBUG, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void debug(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.DEBUG, messageSupplier);
+        }
+
         @Override
         public void error(final Object message) {
             logIfEnabled(Level.ERROR, message, null);
@@ -72,6 +231,64 @@ public final class Log4jApiLogFactory extends LogFactory {
             logIfEnabled(Level.ERROR, message, t);
         }
 
+        @Override
+        public void error(final String message, final Throwable t) {
+            logIfEnabled(Level.ERROR, message, t);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg) {
+            if (!isDisabled(Level.ERROR)) {
+                logger.logIfEnabled(fqcn, Level.ERROR, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.ERROR)) {
+                logger.logIfEnabled(fqcn, Level.ERROR, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.ERROR)) {
+                logger.logIfEnabled(fqcn, Level.ERROR, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final char arg) {
+            logIfEnabled(Level.ERROR, pattern, arg);
+        }
+
+        @Override
+        public void error(final String pattern, final double arg) {
+            logIfEnabled(Level.ERROR, pattern, arg);
+        }
+
+        @Override
+        public void error(final String pattern, final float arg) {
+            logIfEnabled(Level.ERROR, pattern, arg);
+        }
+
+        @Override
+        public void error(final String pattern, final long arg) {
+            logIfEnabled(Level.ERROR, pattern, arg);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.ERROR)) {
+                logger.logIfEnabled(fqcn, Level.ERROR, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void error(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.ERROR, messageSupplier);
+        }
+
         @Override
         public void fatal(final Object message) {
             logIfEnabled(Level.FATAL, message, null);
@@ -82,6 +299,64 @@ public final class Log4jApiLogFactory extends LogFactory {
             logIfEnabled(Level.FATAL, message, t);
         }
 
+        @Override
+        public void fatal(final String message, final Throwable t) {
+            logIfEnabled(Level.FATAL, message, t);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg) {
+            if (!isDisabled(Level.FATAL)) {
+                logger.logIfEnabled(fqcn, Level.FATAL, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.FATAL)) {
+                logger.logIfEnabled(fqcn, Level.FATAL, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.FATAL)) {
+                logger.logIfEnabled(fqcn, Level.FATAL, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void fatal(final String pattern, final char arg) {
+            logIfEnabled(Level.FATAL, pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final double arg) {
+            logIfEnabled(Level.FATAL, pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final float arg) {
+            logIfEnabled(Level.FATAL, pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final long arg) {
+            logIfEnabled(Level.FATAL, pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.FATAL)) {
+                logger.logIfEnabled(fqcn, Level.FATAL, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void fatal(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.FATAL, messageSupplier);
+        }
+
         @Override
         public void info(final Object message) {
             logIfEnabled(Level.INFO, message, null);
@@ -92,13 +367,80 @@ public final class Log4jApiLogFactory extends LogFactory {
             logIfEnabled(Level.INFO, message, t);
         }
 
+        @Override
+        public void info(final String message, final Throwable t) {
+            logIfEnabled(Level.INFO, message, t);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg) {
+            if (!isDisabled(Level.INFO)) {
+                logger.logIfEnabled(fqcn, Level.INFO, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.INFO)) {
+                logger.logIfEnabled(fqcn, Level.INFO, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.INFO)) {
+                logger.logIfEnabled(fqcn, Level.INFO, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final char arg) {
+            logIfEnabled(Level.INFO, pattern, arg);
+        }
+
+        @Override
+        public void info(final String pattern, final double arg) {
+            logIfEnabled(Level.INFO, pattern, arg);
+        }
+
+        @Override
+        public void info(final String pattern, final float arg) {
+            logIfEnabled(Level.INFO, pattern, arg);
+        }
+
+        @Override
+        public void info(final String pattern, final long arg) {
+            logIfEnabled(Level.INFO, pattern, arg);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.INFO)) {
+                logger.logIfEnabled(fqcn, Level.INFO, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void info(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.INFO, messageSupplier);
+        }
+
         @Override
         public boolean isDebugEnabled() {
             return isEnabled(Level.DEBUG);
         }
 
+        /**
+         * Tests whether the cached levels rule out a level; the backend still checks the levels that are not.
+         */
+        private boolean isDisabled(final Level level) {
+            final int levels = enabledLevels;
+            return LevelCache.isValid(levels, CURRENT_GENERATION) && (levels & 1 << level.intLevel() / 100) == 0;
+        }
+
         private boolean isEnabled(final Level level) {
-            return logger.isEnabled(level, MARKER, null);
+            final int levels = enabledLevels;
+            return LevelCache.isValid(levels, CURRENT_GENERATION) ? (levels & 1 << level.intLevel() / 100) != 0 : logger.isEnabled(level, marker, null);
         }
 
         @Override
@@ -126,11 +468,67 @@ public final class Log4jApiLogFactory extends LogFactory {
             return isEnabled(Level.WARN);
         }
 
+        private void logIfEnabled(final Level level, final String pattern, final char arg) {
+            // Checked first, so that disabled levels do not use a slot of the Unbox ring buffer
+            if (isEnabled(level)) {
+                logger.logIfEnabled(fqcn, level, marker, pattern, Unbox.box(arg));
+            }
+        }
+
+        private void logIfEnabled(final Level level, final String pattern, final double arg) {
+            if (isEnabled(level)) {
+                logger.logIfEnabled(fqcn, level, marker, pattern, Unbox.box(arg));
+            }
+        }
+
+        private void logIfEnabled(final Level level, final String pattern, final float arg) {
+            if (isEnabled(level)) {
+                logger.logIfEnabled(fqcn, level, marker, pattern, Unbox.box(arg));
+            }
+        }
+
+        private void logIfEnabled(final Level level, final String pattern, final long arg) {
+            if (isEnabled(level)) {
+                logger.logIfEnabled(fqcn, level, marker, pattern, Unbox.box(arg));
+            }
+        }
+
         private void logIfEnabled(final Level level, final Object message, final Throwable t) {
+            if (isDisabled(level)) {
+                return;
+            }
             if (message instanceof CharSequence) {
-                logger.logIfEnabled(FQCN, level, MARKER, (CharSequence) message, t);
+                logger.logIfEnabled(fqcn, level, marker, (CharSequence) message, t);
+            } else {
+                logger.logIfEnabled(fqcn, level, marker, message, t);
+            }
+        }
+
+        private void logIfEnabled(final Level level, final Supplier<?> messageSupplier) {
+            // Checked first, so that disabled levels do not allocate the Log4j supplier
+            if (isEnabled(level)) {
+                final org.apache.logging.log4j.util.Supplier<?> log4jSupplier = messageSupplier != null ? messageSupplier::get : null;
+                logger.logIfEnabled(fqcn, level, marker, log4jSupplier, null);
+            }
+        }
+
+        /**
+         * Recomputes the enabled levels, after a reconfiguration of the logger context.
+         *
+         * @param cacheLevels whether the enabled levels can be cached, otherwise the backend is asked on each call
+         */
+        void refreshLevels(final boolean cacheLevels) {
+            if (cacheLevels) {
+                final int generation = LevelCache.current(CURRENT_GENERATION);
+                int levels = 0;
+                for (final Level level : LEVELS) {
+                    if (logger.isEnabled(level, marker, null)) {
+                        levels |= 1 << level.intLevel() / 100;
+                    }
+                }
+                enabledLevels = LevelCache.toMask(generation, levels);
             } else {
-                logger.logIfEnabled(FQCN, level, MARKER, message, t);
+                enabledLevels = LevelCache.UNKNOWN;
             }
         }
 
@@ -144,6 +542,64 @@ public final class Log4jApiLogFactory extends LogFactory {
             logIfEnabled(Level.TRACE, message, t);
         }
 
+        @Override
+        public void trace(final String message, final Throwable t) {
+            logIfEnabled(Level.TRACE, message, t);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg) {
+            if (!isDisabled(Level.TRACE)) {
+                logger.logIfEnabled(fqcn, Level.TRACE, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.TRACE)) {
+                logger.logIfEnabled(fqcn, Level.TRACE, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.TRACE)) {
+                logger.logIfEnabled(fqcn, Level.TRACE, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final char arg) {
+            logIfEnabled(Level.TRACE, pattern, arg);
+        }
+
+        @Override
+        public void trace(final String pattern, final double arg) {
+            logIfEnabled(Level.TRACE, pattern, arg);
+        }
+
+        @Override
+        public void trace(final String pattern, final float arg) {
+            logIfEnabled(Level.TRACE, pattern, arg);
+        }
+
+        @Override
+        public void trace(final String pattern, final long arg) {
+            logIfEnabled(Level.TRACE, pattern, arg);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.TRACE)) {
+                logger.logIfEnabled(fqcn, Level.TRACE, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void trace(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.TRACE, messageSupplier);
+        }
+
         @Override
         public void warn(final Object message) {
             logIfEnabled(Level.WARN, message, null);
@@ -153,18 +609,372 @@ public final class Log4jApiLogFactory extends LogFactory {
         public void warn(final Object message, final Throwable t) {
             logIfEnabled(Level.WARN, message, t);
         }
+
+        @Override
+        public void warn(final String message, final Throwable t) {
+            logIfEnabled(Level.WARN, message, t);
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg) {
+            if (!isDisabled(Level.WARN)) {
+                logger.logIfEnabled(fqcn, Level.WARN, marker, pattern, arg);
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1) {
+            if (!isDisabled(Level.WARN)) {
+                logger.logIfEnabled(fqcn, Level.WARN, marker, pattern, arg0, arg1);
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (!isDisabled(Level.WARN)) {
+                logger.logIfEnabled(fqcn, Level.WARN, marker, pattern, arg0, arg1, arg2);
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final char arg) {
+            logIfEnabled(Level.WARN, pattern, arg);
+        }
+
+        @Override
+        public void warn(final String pattern, final double arg) {
+            logIfEnabled(Level.WARN, pattern, arg);
+        }
+
+        @Override
+        public void warn(final String pattern, final float arg) {
+            logIfEnabled(Level.WARN, pattern, arg);
+        }
+
+        @Override
+        public void warn(final String pattern, final long arg) {
+            logIfEnabled(Level.WARN, pattern, arg);
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isEnabled(Level.WARN)) {
+                logger.logIfEnabled(fqcn, Level.WARN, marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void warn(final Supplier<?> messageSupplier) {
+            logIfEnabled(Level.WARN, messageSupplier);
+        }
+
+    }
+
+    /**
+     * Passes an event to a {@link LogBuilder} of the Log4j API, which is garbage-free if the backend is.
+     * <p>
+     * The Log4j API has no key/value pairs of its own: they are put in the {@link ThreadContext} while the event is
+     * logged, as the Log4j implementation of SLF4J 2 does. Like the {@code LogBuilder} of the thread, this builder is
+     * reused by the following events of the thread.
+     * </p>
+     */
+    private static final class Log4jLogEventBuilder implements LogEventBuilder {
+
+        private static final String FQCN = Log4jLogEventBuilder.class.getName();
+
+        private static final ThreadLocal<Log4jLogEventBuilder> BUILDERS = ThreadLocal.withInitial(Log4jLogEventBuilder::new);
+
+        /**
+         * Starts building an event, for an enabled level.
+         */
+        static LogEventBuilder start(final ExtendedLogger logger, final Marker marker, final Level level) {
+            final LogBuilder builder = logger.atLevel(level);
+            if (builder instanceof BridgeAware) {
+                ((BridgeAware) builder).setEntryPoint(FQCN);
+            }
+            Log4jLogEventBuilder eventBuilder = BUILDERS.get();
+            if (eventBuilder.inUse) {
+                // An argument or the supplier of the event being built logs in turn
+                eventBuilder = new Log4jLogEventBuilder();
+            }
+            eventBuilder.inUse = true;
+            eventBuilder.builder = marker != null ? builder.withMarker(marker) : builder;
+            eventBuilder.size = 0;
+            return eventBuilder;
+        }
+
+        private LogBuilder builder;
+
+        /**
+         * Keys at even indexes, followed by their value.
+         */
+        private String[] keyValues = new String[8];
+
+        /**
+         * Whether the builder was handed out for an event not logged yet.
+         */
+        private boolean inUse;
+
+        /**
+         * The values of the keys in the thread context before the event.
+         */
+        private String[] previousValues = new String[4];
+
+        private int size;
+
+        @Override
+        public LogEventBuilder addKeyValue(final String key, final Object value) {
+            if (size == keyValues.length) {
+                keyValues = Arrays.copyOf(keyValues, size * 2);
+                previousValues = Arrays.copyOf(previousValues, size);
+            }
+            keyValues[size++] = key;
+            keyValues[size++] = String.valueOf(value);
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder addMarker(final String name) {
+            builder.withMarker(getMarker(name));
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+            try {
+                for (int i = 0; i < size; i += 2) {
+                    previousValues[i / 2] = ThreadContext.get(keyValues[i]);
+                    ThreadContext.put(keyValues[i], keyValues[i + 1]);
+                }
+                builder.log(message);
+            } finally {
+                for (int i = size - 2; i >= 0; i -= 2) {
+                    final String previousValue = previousValues[i / 2];
+                    if (previousValue != null) {
+                        ThreadContext.put(keyValues[i], previousValue);
+                    } else {
+                        ThreadContext.remove(keyValues[i]);
+                    }
+                }
+                reset();
+            }
+        }
+
+        @Override
+        public void log(final Supplier<?> messageSupplier) {
+            // Only enabled levels have a builder
+            final String message;
+            try {
+                message = String.valueOf(messageSupplier != null ? messageSupplier.get() : null);
+            } catch (final RuntimeException | Error e) {
+                reset();
+                throw e;
+            }
+            log(message);
+        }
+
+        /**
+         * Releases the references to the event, once logged.
+         */
+        private void reset() {
+            Arrays.fill(keyValues, 0, size, null);
+            Arrays.fill(previousValues, 0, size / 2, null);
+            size = 0;
+            builder = null;
+            inUse = false;
+        }
+
+        @Override
+        public LogEventBuilder setCause(final Throwable cause) {
+            builder.withThrowable(cause);
+            return this;
+        }
     }
+
     private static final class LogAdapter extends AbstractLoggerAdapter<Log> {
 
+        /**
+         * Refreshes the enabled levels of the loggers of a Log4j Core logger context, when its configuration changes.
+         */
+        private final class ContextListener {
+
+            /** Weak, as the listener is a value of {@link LogAdapter#listeners}. */
+            private final Reference<LoggerContext> context;
+
+            /** The {@code PropertyChangeListener} registered with the context, or {@code null}. */
+            private final Object listener;
+
+            private volatile boolean cacheLevels;
+
+            ContextListener(final LoggerContext context) {
+                this.context = new WeakReference<>(context);
+                Object registered;
+                try {
+                    // Log4j Core notifies java.beans listeners, which would make us depend on the java.desktop module
+                    final Class<?> listenerType = Class.forName("java.beans.PropertyChangeListener");
+                    registered = LevelCache.newListener(listenerType, event -> refreshLevels());
+                    context.getClass().getMethod("addPropertyChangeListener", listenerType).invoke(context, registered);
+                    cacheLevels = isLevelOnly(context);
+                } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+                    // Not Log4j Core: ask the backend on each call
+                    registered = null;
+                }
+                listener = registered;
+            }
+
+            private void refreshLevels() {
+                final LoggerContext loggerContext = context.get();
+                if (loggerContext != null) {
+                    cacheLevels = isLevelOnly(loggerContext);
+                    refreshAll();
+                }
+            }
+
+            void remove() {
+                final LoggerContext loggerContext = context.get();
+                if (listener != null && loggerContext != null) {
+                    // The proxy implements PropertyChangeListener only
+                    final Class<?> listenerType = listener.getClass().getInterfaces()[0];
+                    try {
+                        loggerContext.getClass().getMethod("removePropertyChangeListener", listenerType).invoke(loggerContext, listener);
+                    } catch (final ReflectiveOperationException | RuntimeException ignored) {
+                        // empty
+                    }
+                }
+            }
+        }
+
+        /**
+         * The adapters of all factories, whose loggers share {@link Log4j2Log#GENERATION}, guarded by itself.
+         */
+        private static final Set<LogAdapter> ADAPTERS = Collections.newSetFromMap(new WeakHashMap<>());
+
+        /**
+         * Tests whether the enabled levels of the loggers only depend on their configured level.
+         * <p>
+         * This is the case of Log4j Core without a global filter, which takes part in each level check.
+         * </p>
+         */
+        private static boolean isLevelOnly(final LoggerContext context) {
+            try {
+                final Object configuration = context.getClass().getMethod("getConfiguration").invoke(context);
+                return configuration != null && configuration.getClass().getMethod("getFilter").invoke(configuration) == null;
+            } catch (final ReflectiveOperationException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        /**
+         * The listener registered with each logger context, guarded by itself.
+         */
+        private final Map<LoggerContext, ContextListener> listeners = new WeakHashMap<>();
+
+        /**
+         * The factory holding the attributes of the decorators, see {@link FilteringLog}.
+         */
+        private final LogFactory factory;
+
+        /**
+         * Counts the reconfigurations, so that a logger created during one is not left with stale levels.
+         */
+        private final AtomicInteger reconfigurations = new AtomicInteger();
+
+        /**
+         * The marker of all events, or {@code null} if disabled by {@link LogFactory#MARKER_PROPERTY}.
+         */
+        private volatile Marker marker = MARKER;
+
+        /**
+         * Recomputes the enabled levels of the loggers of all factories and logger contexts.
+         * <p>
+         * Advancing the shared generation invalidates all the cached levels, not only those of the reconfigured
+         * context, so all of them must be cached again.
+         * </p>
+         */
+        private static void refreshAll() {
+            final List<LogAdapter> adapters;
+            synchronized (ADAPTERS) {
+                adapters = new ArrayList<>(ADAPTERS);
+            }
+            adapters.forEach(adapter -> adapter.reconfigurations.incrementAndGet());
+            LevelCache.advance(Log4j2Log.GENERATION);
+            adapters.forEach(LogAdapter::refreshLevels);
+        }
+
+        LogAdapter(final LogFactory factory) {
+            this.factory = factory;
+            synchronized (ADAPTERS) {
+                ADAPTERS.add(this);
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (ADAPTERS) {
+                ADAPTERS.remove(this);
+            }
+            synchronized (listeners) {
+                listeners.values().forEach(ContextListener::remove);
+                listeners.clear();
+            }
+            super.close();
+        }
+
         @Override
         protected LoggerContext getContext() {
             return getContext(LogManager.getFactory().isClassLoaderDependent() ? StackLocatorUtil.getCallerClass(
                     LogFactory.class) : null);
         }
 
+        @Override
+        public Log getLogger(final String name) {
+            final int count = reconfigurations.get();
+            final Log log = super.getLogger(name);
+            if (count != reconfigurations.get()) {
+                // The listener may have missed this logger: stop caching until the next reconfiguration
+                ((Log4j2Log) FilteringLog.unwrap(log)).refreshLevels(false);
+            }
+            return log;
+        }
+
+        private ContextListener listen(final LoggerContext context) {
+            synchronized (listeners) {
+                return listeners.computeIfAbsent(context, ContextListener::new);
+            }
+        }
+
         @Override
         protected Log newLogger(final String name, final LoggerContext context) {
-            return new Log4j2Log(context.getLogger(name));
+            final ExtendedLogger logger = context.getLogger(name);
+            final boolean cacheLevels = listen(context).cacheLevels;
+            return FilteringLog.decorate(factory, name, fqcn -> new Log4j2Log(logger, fqcn != null ? fqcn : Log4j2Log.FQCN, marker, cacheLevels));
+        }
+
+        /**
+         * Recomputes the enabled levels of the loggers of each logger context, with the caching policy of the context.
+         */
+        private void refreshLevels() {
+            final Map<LoggerContext, ContextListener> contexts;
+            synchronized (listeners) {
+                contexts = new HashMap<>(listeners);
+            }
+            contexts.forEach((context, listener) -> {
+                final boolean cache = listener.cacheLevels;
+                getLoggersInContext(context).values().forEach(log -> ((Log4j2Log) FilteringLog.unwrap(log)).refreshLevels(cache));
+            });
+        }
+
+        /**
+         * Sets the marker of all events, for the loggers to come and the existing ones.
+         * <p>
+         * The cached levels stay valid: they are only cached without a global filter, the only filter seeing the
+         * marker when checking a level.
+         * </p>
+         */
+        void setMarker(final Marker marker) {
+            this.marker = marker;
+            getLoggerContexts().forEach(context -> getLoggersInContext(context).values()
+                    .forEach(log -> ((Log4j2Log) FilteringLog.unwrap(log)).marker = marker));
         }
 
     }
@@ -176,10 +986,52 @@ public final class Log4jApiLogFactory extends LogFactory {
      */
     private static final Marker MARKER = MarkerManager.getMarker("COMMONS-LOGGING");
 
+    /**
+     * Caches the markers added to events by name.
+     */
+    private static final ConcurrentMap<String, Marker> MARKERS = new ConcurrentHashMap<>();
+
+    /**
+     * Whether the Log4j API has a {@link LogBuilder} that reports the caller of a bridge, since version 2.20.0.
+     */
+    private static final boolean LOG_BUILDER = isLogBuilderAvailable();
+
+    /**
+     * Gets a marker by name, from the cache rather than from the {@link MarkerManager}.
+     */
+    private static Marker getMarker(final String name) {
+        final Marker marker = MARKERS.get(name);
+        // Java 8 locks in computeIfAbsent even if the key is present
+        return marker != null ? marker : MARKERS.computeIfAbsent(name, MarkerManager::getMarker);
+    }
+
+    private static boolean isLogBuilderAvailable() {
+        try {
+            return BridgeAware.class != null && Logger.class.getMethod("atLevel", Level.class) != null;
+        } catch (final NoSuchMethodException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Flattens the arguments of the {@code Log} methods taking more than three, for {@link ExtendedLogger}.
+     */
+    private static Object[] toArray(final Object arg0, final Object arg1, final Object arg2, final Object[] moreArgs) {
+        final int more = moreArgs != null ? moreArgs.length : 0;
+        final Object[] args = new Object[3 + more];
+        args[0] = arg0;
+        args[1] = arg1;
+        args[2] = arg2;
+        if (more > 0) {
+            System.arraycopy(moreArgs, 0, args, 3, more);
+        }
+        return args;
+    }
+
     /**
      * Caches Log instances
      */
-    private final LoggerAdapter<Log> adapter = new LogAdapter();
+    private final LogAdapter adapter = new LogAdapter(this);
 
     private final ConcurrentMap<String, Object> attributes = new ConcurrentHashMap<>();
 
@@ -216,22 +1068,24 @@ public final class Log4jApiLogFactory extends LogFactory {
      */
     @Override
     public void release() {
-        try {
-            adapter.close();
-        } catch (final IOException ignored) {
-            // Ignore
-        }
+        adapter.close();
     }
 
     @Override
     public void removeAttribute(final String name) {
         attributes.remove(name);
+        if (MARKER_PROPERTY.equals(name)) {
+            adapter.setMarker(MARKER);
+        }
     }
 
     @Override
     public void setAttribute(final String name, final Object value) {
         if (value != null) {
             attributes.put(name, value);
+            if (MARKER_PROPERTY.equals(name)) {
+                adapter.setMarker("false".equalsIgnoreCase(value.toString()) ? null : MARKER);
+            }
         } else {
             removeAttribute(name);
         }
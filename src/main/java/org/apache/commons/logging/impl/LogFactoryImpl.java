@@ -17,6 +17,8 @@
 
 package org.apache.commons.logging.impl;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.reflect.Constructor;
@@ -25,8 +27,17 @@ import java.lang.reflect.Method;
 import java.net.URL;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collection;
+import java.util.Enumeration;
 import java.util.Hashtable;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.apache.commons.logging.DiscoverySupport;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogConfigurationException;
 import org.apache.commons.logging.LogFactory;
@@ -42,7 +53,9 @@ import org.apache.commons.logging.LogFactory;
  * <li>Use the {@code org.apache.commons.logging.Log} system property
  *     to identify the requested implementation class.</li>
  * <li>If <em>Log4J</em> is available, return an instance of
- *     {@code org.apache.commons.logging.impl.Log4JLogger}.</li>
+ *     {@code org.apache.commons.logging.impl.Log4JLogger}. If the Log4J 1.2
+ *     API is the {@code log4j-1.2-api} bridge, the instance is of a subclass
+ *     logging straight to the Log4j API.</li>
  * <li>If <em>JDK 1.4 or later</em> is available, return an instance of
  *     {@code org.apache.commons.logging.impl.Jdk14Logger}.</li>
  * <li>Otherwise, return an instance of
@@ -60,12 +73,198 @@ import org.apache.commons.logging.LogFactory;
  * for the same name, and will return them on repeated requests to the
  * {@code getInstance()} method.
  * </p>
+ * <p>
+ * The number of events logged by each of them can be limited with the
+ * {@link LogFactory#RATE_LIMIT_PROPERTY} and {@link LogFactory#COLLAPSE_WINDOW_PROPERTY}
+ * attributes.
+ * </p>
  */
 public class LogFactoryImpl extends LogFactory {
 
+    /**
+     * {@code Hashtable} backed by a {@link ConcurrentHashMap}, published in {@link LogFactoryImpl#instances}
+     * so that looking up loggers does not contend on a table-wide monitor. The methods of
+     * {@code Hashtable} are all overridden to use the backing map.
+     * <p>
+     * The backing map is transient: an instance is serialized as a plain {@code Hashtable} holding a copy
+     * of its mappings, and reads back as one.
+     * </p>
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of values.
+     */
+    private static final class ConcurrentHashtable<K, V> extends Hashtable<K, V> {
+
+        /** Serializable version identifier. */
+        private static final long serialVersionUID = 4207372424165718958L;
+
+        private final transient ConcurrentHashMap<K, V> map = new ConcurrentHashMap<>();
+
+        @Override
+        public void clear() {
+            map.clear();
+        }
+
+        @Override
+        public Object clone() {
+            return new Hashtable<>(map);
+        }
+
+        @Override
+        public V compute(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return map.compute(key, remappingFunction);
+        }
+
+        @Override
+        public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+            return map.computeIfAbsent(key, mappingFunction);
+        }
+
+        @Override
+        public V computeIfPresent(final K key, final BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+            return map.computeIfPresent(key, remappingFunction);
+        }
+
+        @Override
+        public boolean contains(final Object value) {
+            return map.containsValue(value);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public boolean containsValue(final Object value) {
+            return map.containsValue(value);
+        }
+
+        @Override
+        public Enumeration<V> elements() {
+            return map.elements();
+        }
+
+        @Override
+        public Set<Map.Entry<K, V>> entrySet() {
+            return map.entrySet();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return map.equals(o);
+        }
+
+        @Override
+        public void forEach(final BiConsumer<? super K, ? super V> action) {
+            map.forEach(action);
+        }
+
+        @Override
+        public V get(final Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public V getOrDefault(final Object key, final V defaultValue) {
+            return map.getOrDefault(key, defaultValue);
+        }
+
+        @Override
+        public int hashCode() {
+            return map.hashCode();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return map.isEmpty();
+        }
+
+        @Override
+        public Enumeration<K> keys() {
+            return map.keys();
+        }
+
+        @Override
+        public Set<K> keySet() {
+            return map.keySet();
+        }
+
+        @Override
+        public V merge(final K key, final V value, final BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+            return map.merge(key, value, remappingFunction);
+        }
+
+        @Override
+        public V put(final K key, final V value) {
+            return map.put(key, value);
+        }
+
+        @Override
+        public void putAll(final Map<? extends K, ? extends V> t) {
+            map.putAll(t);
+        }
+
+        @Override
+        public V putIfAbsent(final K key, final V value) {
+            return map.putIfAbsent(key, value);
+        }
+
+        @Override
+        public V remove(final Object key) {
+            return map.remove(key);
+        }
+
+        @Override
+        public boolean remove(final Object key, final Object value) {
+            return map.remove(key, value);
+        }
+
+        @Override
+        public V replace(final K key, final V value) {
+            return map.replace(key, value);
+        }
+
+        @Override
+        public boolean replace(final K key, final V oldValue, final V newValue) {
+            return map.replace(key, oldValue, newValue);
+        }
+
+        @Override
+        public void replaceAll(final BiFunction<? super K, ? super V, ? extends V> function) {
+            map.replaceAll(function);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public String toString() {
+            return map.toString();
+        }
+
+        @Override
+        public Collection<V> values() {
+            return map.values();
+        }
+
+        private Object writeReplace() {
+            return new Hashtable<>(map);
+        }
+
+        private void readObject(final ObjectInputStream in) throws InvalidObjectException {
+            throw new InvalidObjectException("Serialized as a Hashtable");
+        }
+    }
+
     /** Log4JLogger class name */
     private static final String LOGGING_IMPL_LOG4J_LOGGER = "org.apache.commons.logging.impl.Log4JLogger";
 
+    /** Log4JBridgeLogger class name */
+    private static final String LOGGING_IMPL_LOG4J_BRIDGE_LOGGER = "org.apache.commons.logging.impl.Log4JBridgeLogger";
+
     /** Jdk14Logger class name */
     private static final String LOGGING_IMPL_JDK14_LOGGER = "org.apache.commons.logging.impl.Jdk14Logger";
 
@@ -259,8 +458,11 @@ public class LogFactoryImpl extends LogFactory {
     /**
      * The {@link org.apache.commons.logging.Log} instances that have
      * already been created, keyed by logger name.
+     * <p>
+     * The default table is backed by a {@code ConcurrentHashMap}; lookups do not lock it.
+     * </p>
      */
-    protected Hashtable<String, Log> instances = new Hashtable<>();
+    protected Hashtable<String, Log> instances = new ConcurrentHashtable<>();
 
     /**
      * Name of the class implementing the Log interface.
@@ -273,14 +475,25 @@ public class LogFactoryImpl extends LogFactory {
      * implementation class that will be used to create new instances.
      * This value is initialized by {@code getLogConstructor()},
      * and then returned repeatedly.
+     * <p>
+     * Discovery assigns this field last, so a thread seeing it set also sees
+     * {@link #logMethod}.
+     * </p>
      */
-    protected Constructor<?> logConstructor;
+    protected volatile Constructor<?> logConstructor;
 
     /**
      * The signature of the Constructor to be used.
      */
     protected Class<?>[] logConstructorSignature = { String.class };
 
+    /**
+     * The constructor of {@link Log4JLogger} also taking the class that calls the logger, used to create the
+     * decorated loggers, or {@code null} if another implementation was discovered. Discovery assigns it before
+     * {@link #logConstructor}.
+     */
+    private Constructor<?> callerLogConstructor;
+
     /**
      * The one-argument {@code setLogFactory} method of the selected
      * {@link org.apache.commons.logging.Log} method, if it exists.
@@ -363,31 +576,29 @@ public class LogFactoryImpl extends LogFactory {
                         logDiagnostic("Class '" + logAdapterClassName + "' was found at '" + url + "'");
                     }
                 }
-                Class<?> clazz;
-                try {
-                    clazz = Class.forName(logAdapterClassName, true, currentCL);
-                } catch (final ClassNotFoundException originalClassNotFoundException) {
+                Class<?> clazz = DiscoverySupport.forNameOrNull(logAdapterClassName, true, currentCL);
+                if (clazz == null) {
                     // The current class loader was unable to find the log adapter
                     // in this or any ancestor class loader. There's no point in
                     // trying higher up in the hierarchy in this case.
-                    String msg = originalClassNotFoundException.getMessage();
-                    logDiagnostic("The log adapter '" + logAdapterClassName + "' is not available via class loader " + objectId(currentCL) + ": " + trim(msg));
-                    try {
-                        // Try the class class loader.
-                        // This may work in cases where the TCCL
-                        // does not contain the code executed or JCL.
-                        // This behavior indicates that the application
-                        // classloading strategy is not consistent with the
-                        // Java 1.2 classloading guidelines but JCL can
-                        // and so should handle this case.
-                        clazz = Class.forName(logAdapterClassName);
-                    } catch (final ClassNotFoundException secondaryClassNotFoundException) {
+                    logDiagnostic("The log adapter '" + logAdapterClassName + "' is not available via class loader " + objectId(currentCL));
+                    // Try the class class loader.
+                    // This may work in cases where the TCCL
+                    // does not contain the code executed or JCL.
+                    // This behavior indicates that the application
+                    // classloading strategy is not consistent with the
+                    // Java 1.2 classloading guidelines but JCL can
+                    // and so should handle this case.
+                    clazz = DiscoverySupport.forNameOrNull(logAdapterClassName, true, getClassLoader(LogFactoryImpl.class));
+                    if (clazz == null) {
                         // no point continuing: this adapter isn't available
-                        msg = secondaryClassNotFoundException.getMessage();
-                        logDiagnostic("The log adapter '" + logAdapterClassName + "' is not available via the LogFactoryImpl class class loader: " + trim(msg));
+                        logDiagnostic("The log adapter '" + logAdapterClassName + "' is not available via the LogFactoryImpl class class loader");
                         break;
                     }
                 }
+                if (LOGGING_IMPL_LOG4J_LOGGER.equals(logAdapterClassName)) {
+                    clazz = getLog4JBridgeLogger(clazz);
+                }
                 constructor = clazz.getConstructor(logConstructorSignature);
                 final Object o = constructor.newInstance(params);
                 // Note that we do this test after trying to create an instance
@@ -452,7 +663,6 @@ public class LogFactoryImpl extends LogFactory {
         if (logAdapterClass != null && affectState) {
             // We've succeeded, so set instance fields
             this.logClassName = logAdapterClassName;
-            this.logConstructor = constructor;
             // Identify the {@code setLogFactory} method (if there is one)
             try {
                 this.logMethod = logAdapterClass.getMethod("setLogFactory", logMethodSignature);
@@ -465,6 +675,9 @@ public class LogFactoryImpl extends LogFactory {
             }
             logDiagnostic("Log adapter '" + logAdapterClassName + "' from class loader " + objectId(logAdapterClass.getClassLoader()) +
                     " has been selected for use.");
+            this.callerLogConstructor = getCallerLogConstructor(logAdapterClassName, logAdapterClass);
+            // Publish the constructor last, see logConstructor
+            this.logConstructor = constructor;
         }
         return logAdapter;
     }
@@ -779,7 +992,18 @@ public class LogFactoryImpl extends LogFactory {
      */
     @Override
     public Log getInstance(final String name) throws LogConfigurationException {
-        return instances.computeIfAbsent(name, this::newInstance);
+        Log instance = instances.get(name);
+        if (instance == null) {
+            // Create the instance without holding any lock, so that other
+            // loggers can be looked up meanwhile. If another thread created
+            // one for the same name in the meantime, use that one.
+            instance = FilteringLog.decorate(this, name, fqcn -> fqcn != null ? newInstance(name, fqcn) : newInstance(name));
+            final Log existing = instances.putIfAbsent(name, instance);
+            if (existing != null) {
+                instance = existing;
+            }
+        }
+        return instance;
     }
 
     /**
@@ -817,6 +1041,51 @@ public class LogFactoryImpl extends LogFactory {
     }
     //  ------------------------------------------------------ Private Methods
 
+    /**
+     * Gets the constructor of the {@code Log4JLogger} adapters taking the class that calls them, so that a decorated
+     * logger reports the caller of its decorator.
+     *
+     * @param logAdapterClassName the name of the adapter discovered
+     * @param logAdapterClass the class instantiated
+     * @return the constructor, or {@code null} if the adapter is not {@code Log4JLogger} or predates it
+     */
+    private Constructor<?> getCallerLogConstructor(final String logAdapterClassName, final Class<?> logAdapterClass) {
+        if (!LOGGING_IMPL_LOG4J_LOGGER.equals(logAdapterClassName)) {
+            return null;
+        }
+        try {
+            return logAdapterClass.getConstructor(String.class, String.class);
+        } catch (final NoSuchMethodException | SecurityException e) {
+            logDiagnostic("'" + logAdapterClass.getName() + "' cannot locate the callers of decorated loggers: " + trim(e.getMessage()));
+            return null;
+        }
+    }
+
+    /**
+     * Gets the subclass of {@code Log4JLogger} logging straight to the Log4j API, if the Log4j 1.2 API
+     * is the {@code log4j-1.2-api} bridge.
+     *
+     * @param log4jLoggerClass the {@code Log4JLogger} class found
+     * @return the class to instantiate
+     */
+    private Class<?> getLog4JBridgeLogger(final Class<?> log4jLoggerClass) {
+        final ClassLoader classLoader = getClassLoader(log4jLoggerClass);
+        // The subclass is not public: it can only be instantiated from its own runtime package
+        if (classLoader != getClassLoader(LogFactoryImpl.class)) {
+            return log4jLoggerClass;
+        }
+        try {
+            final Class<?> bridgeLoggerClass = Class.forName(LOGGING_IMPL_LOG4J_BRIDGE_LOGGER, true, classLoader);
+            logDiagnostic("The Log4j 1.2 API is the log4j-1.2-api bridge: using '" + LOGGING_IMPL_LOG4J_BRIDGE_LOGGER + "'");
+            return bridgeLoggerClass;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            // An ExceptionInInitializerError means that the Log4j 1.2 API is not the bridge
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            logDiagnostic("Not using '" + LOGGING_IMPL_LOG4J_BRIDGE_LOGGER + "': " + trim(cause.getMessage()));
+            return log4jLoggerClass;
+        }
+    }
+
     /**
      * Given two related class loaders, return the one which is a child of
      * the other.
@@ -1196,6 +1465,37 @@ public class LogFactoryImpl extends LogFactory {
         }
     }
 
+    /**
+     * Creates a {@link Log} instance to decorate, which skips the decorator to find the caller if it can.
+     *
+     * @param name Name of the new logger
+     * @param fqcn The fully qualified name of the decorator calling the logger
+     * @return A new {@link Log}
+     * @throws LogConfigurationException if a new instance cannot be created
+     */
+    private Log newInstance(final String name, final String fqcn) throws LogConfigurationException {
+        if (logConstructor == null) {
+            // Discovery creates the first logger
+            final Log instance = newInstance(name);
+            if (callerLogConstructor == null) {
+                return instance;
+            }
+        }
+        final Constructor<?> constructor = callerLogConstructor;
+        if (constructor == null) {
+            return newInstance(name);
+        }
+        try {
+            return (Log) constructor.newInstance(name, fqcn);
+        } catch (final InvocationTargetException e) {
+            final Throwable c = e.getTargetException();
+            throw new LogConfigurationException(c == null ? e : c);
+        } catch (final Throwable t) {
+            handleThrowable(t); // may re-throw t
+            throw new LogConfigurationException(t);
+        }
+    }
+
     /**
      * Releases any internal references to previously created
      * {@link org.apache.commons.logging.Log}
@@ -66,7 +66,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message) {
-        if (message != null) {
+        if (message != null && getLogger().isDebugEnabled()) {
             getLogger().debug(String.valueOf(message));
         }
     }
@@ -80,7 +80,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void debug(final Object message, final Throwable t) {
-        if (message != null) {
+        if (message != null && getLogger().isDebugEnabled()) {
             getLogger().debug(String.valueOf(message), t);
         }
     }
@@ -93,7 +93,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message) {
-        if (message != null) {
+        if (message != null && getLogger().isErrorEnabled()) {
             getLogger().error(String.valueOf(message));
         }
     }
@@ -107,7 +107,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void error(final Object message, final Throwable t) {
-        if (message != null) {
+        if (message != null && getLogger().isErrorEnabled()) {
             getLogger().error(String.valueOf(message), t);
         }
     }
@@ -120,7 +120,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message) {
-        if (message != null) {
+        if (message != null && getLogger().isFatalErrorEnabled()) {
             getLogger().fatalError(String.valueOf(message));
         }
     }
@@ -134,7 +134,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void fatal(final Object message, final Throwable t) {
-        if (message != null) {
+        if (message != null && getLogger().isFatalErrorEnabled()) {
             getLogger().fatalError(String.valueOf(message), t);
         }
     }
@@ -165,7 +165,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message) {
-        if (message != null) {
+        if (message != null && getLogger().isInfoEnabled()) {
             getLogger().info(String.valueOf(message));
         }
     }
@@ -179,7 +179,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void info(final Object message, final Throwable t) {
-        if (message != null) {
+        if (message != null && getLogger().isInfoEnabled()) {
             getLogger().info(String.valueOf(message), t);
         }
     }
@@ -263,7 +263,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message) {
-        if (message != null) {
+        if (message != null && getLogger().isWarnEnabled()) {
             getLogger().warn(String.valueOf(message));
         }
     }
@@ -277,7 +277,7 @@ public class LogKitLogger implements Log, Serializable {
      */
     @Override
     public void warn(final Object message, final Throwable t) {
-        if (message != null) {
+        if (message != null && getLogger().isWarnEnabled()) {
             getLogger().warn(String.valueOf(message), t);
         }
     }
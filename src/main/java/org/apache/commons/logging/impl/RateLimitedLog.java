@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Limits the number of events logged per second by a {@link Log}, see {@link LogFactory#RATE_LIMIT_PROPERTY}.
+ * <p>
+ * Each limited level has a token bucket holding up to one second of events, refilled continuously. The bucket is a
+ * single {@link AtomicLong}, the theoretical arrival time of the next event: an event is logged if that time is
+ * less than a second ahead, and pushes it by the interval between two events. The events of disabled levels do not
+ * take a token. The events over the limit are counted, and the count is logged, at most once per second, before the
+ * next event logged at their level. A count left over a second is logged before the next call at any level, so that
+ * the end of a burst is reported even if the level is not used again.
+ * </p>
+ */
+final class RateLimitedLog extends FilteringLog {
+
+    /**
+     * Counts the tokens of a level.
+     */
+    private static final class Bucket {
+
+        /** Nanoseconds between two events. */
+        private final long interval;
+
+        /** The theoretical arrival time of the next event, in {@link System#nanoTime()} nanoseconds. */
+        private final AtomicLong nextArrival;
+
+        /** The time after which the suppressed events can be reported. */
+        private final AtomicLong nextReport;
+
+        /** The number of events suppressed since the last report. */
+        private final AtomicLong suppressed = new AtomicLong();
+
+        /** The time of the oldest event suppressed since the last report. */
+        private volatile long firstSuppressed;
+
+        Bucket(final long rate, final long now) {
+            interval = Math.max(1, ONE_SECOND / rate);
+            nextArrival = new AtomicLong(now);
+            nextReport = new AtomicLong(now);
+        }
+
+        /**
+         * Counts an event over the limit.
+         */
+        void suppress(final long now) {
+            if (suppressed.getAndIncrement() == 0) {
+                firstSuppressed = now;
+            }
+        }
+
+        /**
+         * Gets the number of suppressed events to report, if the oldest one is over a second old and the last report
+         * too.
+         */
+        long takeStaleSuppressed(final long now) {
+            return suppressed.get() == 0 || now - firstSuppressed < ONE_SECOND ? 0 : takeSuppressed(now);
+        }
+
+        /**
+         * Takes a token, if there is one.
+         */
+        boolean tryAcquire(final long now) {
+            while (true) {
+                final long arrival = nextArrival.get();
+                final long next = (arrival - now < 0 ? now : arrival) + interval;
+                if (next - now > ONE_SECOND) {
+                    return false;
+                }
+                if (nextArrival.compareAndSet(arrival, next)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * Gets the number of suppressed events to report, if any and if the last report is over a second old.
+         */
+        long takeSuppressed(final long now) {
+            if (suppressed.get() == 0) {
+                return 0;
+            }
+            final long report = nextReport.get();
+            if (report - now > 0 || !nextReport.compareAndSet(report, now + ONE_SECOND)) {
+                return 0;
+            }
+            return suppressed.getAndSet(0);
+        }
+    }
+
+    /**
+     * The names of the levels in the attribute, by index.
+     */
+    private static final String[] LEVEL_NAMES = { "trace", "debug", "info", "warn", "error", "fatal" };
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static Summary summary(final int level, final long suppressed, final Object message) {
+        return new Summary(level, suppressed + " messages suppressed by the rate limit", message);
+    }
+
+    /**
+     * Gets the limits of a logger, from the most specific {@link LogFactory#RATE_LIMIT_PROPERTY} attribute of the
+     * factory.
+     *
+     * @param factory the factory creating the logger
+     * @param name the name of the logger
+     * @return the events per second of each level, zero for no limit, or {@code null} if no level is limited
+     */
+    static long[] getRates(final LogFactory factory, final String name) {
+        final String value = getAttribute(factory, LogFactory.RATE_LIMIT_PROPERTY, name);
+        return value != null ? parseRates(value) : null;
+    }
+
+    /**
+     * Parses a comma-separated list of {@code level=rate} entries, or of rates applying to all levels. Malformed
+     * entries are ignored.
+     */
+    private static long[] parseRates(final String value) {
+        final long[] rates = new long[LEVEL_NAMES.length];
+        for (final String entry : value.split(",")) {
+            final int equals = entry.indexOf('=');
+            final String level = equals < 0 ? null : entry.substring(0, equals).trim().toLowerCase(Locale.ROOT);
+            final long rate;
+            try {
+                rate = Long.parseLong(entry.substring(equals + 1).trim());
+            } catch (final NumberFormatException e) {
+                continue;
+            }
+            for (int i = 0; i < LEVEL_NAMES.length; i++) {
+                if (level == null || level.equals(LEVEL_NAMES[i])) {
+                    rates[i] = Math.max(0, rate);
+                }
+            }
+        }
+        for (final long rate : rates) {
+            if (rate > 0) {
+                return rates;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * The bucket of each level, {@code null} for the levels without limit.
+     */
+    private final Bucket[] buckets;
+
+    private final LongSupplier clock;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param delegate the logger to decorate
+     * @param rates the events per second of each level, zero for no limit
+     */
+    RateLimitedLog(final Log delegate, final long[] rates) {
+        this(delegate, rates, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new instance, with the given clock.
+     *
+     * @param delegate the logger to decorate
+     * @param rates the events per second of each level, zero for no limit
+     * @param clock the current time in nanoseconds
+     */
+    RateLimitedLog(final Log delegate, final long[] rates, final LongSupplier clock) {
+        super(delegate);
+        this.clock = clock;
+        final long now = clock.getAsLong();
+        buckets = new Bucket[LEVEL_NAMES.length];
+        for (int i = 0; i < buckets.length; i++) {
+            if (rates[i] > 0) {
+                buckets[i] = new Bucket(rates[i], now);
+            }
+        }
+    }
+
+    /**
+     * Takes a token of the level of the event, if limited and enabled.
+     */
+    @Override
+    Object filter(final int level, final Object message, final Throwable t) {
+        final Bucket bucket = buckets[level];
+        final Object filtered;
+        if (bucket == null) {
+            filtered = message;
+        } else if (!isEnabled(level)) {
+            filtered = SUPPRESSED;
+        } else {
+            final long now = clock.getAsLong();
+            if (bucket.tryAcquire(now)) {
+                final long suppressed = bucket.takeSuppressed(now);
+                filtered = suppressed > 0 ? summary(level, suppressed, message) : message;
+            } else {
+                bucket.suppress(now);
+                filtered = SUPPRESSED;
+            }
+        }
+        return flush(filtered);
+    }
+
+    /**
+     * Adds the reports of the levels whose suppressed events wait for over a second.
+     * <p>
+     * The clock is only read if some events were suppressed.
+     * </p>
+     */
+    private Object flush(final Object filtered) {
+        Object result = filtered;
+        long now = 0;
+        boolean timed = false;
+        for (int level = buckets.length - 1; level >= 0; level--) {
+            final Bucket bucket = buckets[level];
+            if (bucket != null && bucket.suppressed.get() > 0 && isEnabled(level)) {
+                if (!timed) {
+                    now = clock.getAsLong();
+                    timed = true;
+                }
+                final long suppressed = bucket.takeStaleSuppressed(now);
+                if (suppressed > 0) {
+                    result = summary(level, suppressed, result);
+                }
+            }
+        }
+        return result;
+    }
+}
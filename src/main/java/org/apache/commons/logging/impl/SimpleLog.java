@@ -33,6 +33,7 @@ import java.util.Properties;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogConfigurationException;
+import org.apache.commons.logging.MessageFormatter;
 
 /**
  * Simple implementation of Log that sends all enabled log messages,
@@ -235,6 +236,23 @@ public class SimpleLog implements Log, Serializable {
         return prop == null ? defaultValue : prop;
     }
 
+    /**
+     * Tests whether a subclass overrides {@link #log(int, Object, Throwable)}.
+     */
+    private static boolean isLogOverridden(final Class<?> clazz) {
+        for (Class<?> c = clazz; c != SimpleLog.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("log", int.class, Object.class, Throwable.class);
+                return true;
+            } catch (final NoSuchMethodException ignored) {
+                // look in the superclass
+            } catch (final SecurityException e) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /** The name of this simple log instance */
     protected volatile String logName;
 
@@ -244,6 +262,12 @@ public class SimpleLog implements Log, Serializable {
     /** The short name of this simple log instance */
     private volatile String shortLogName;
 
+    /**
+     * Whether messages with a primitive argument can be formatted directly into the output, which is only
+     * the case if {@link #log(int, Object, Throwable)} is not overridden. Deserialized instances always call it.
+     */
+    private final transient boolean formatDirectly;
+
     /**
      * Constructs a simple log with given name.
      *
@@ -251,6 +275,7 @@ public class SimpleLog implements Log, Serializable {
      */
     public SimpleLog(String name) {
         logName = name;
+        formatDirectly = !isLogOverridden(getClass());
 
         // Set initial log level
         // Used to be: set default log level to ERROR
@@ -333,6 +358,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_DEBUG},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void debug(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_DEBUG)) {
+            log(LOG_LEVEL_DEBUG, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_DEBUG},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void debug(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_DEBUG)) {
+            log(LOG_LEVEL_DEBUG, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_DEBUG},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void debug(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_DEBUG)) {
+            log(LOG_LEVEL_DEBUG, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_DEBUG},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#debug(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void debug(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_DEBUG)) {
+            log(LOG_LEVEL_DEBUG, pattern, arg);
+        }
+    }
+
     /**
      * Logs a message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_ERROR}.
      *
@@ -360,6 +449,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_ERROR},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void error(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_ERROR)) {
+            log(LOG_LEVEL_ERROR, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_ERROR},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void error(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_ERROR)) {
+            log(LOG_LEVEL_ERROR, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_ERROR},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void error(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_ERROR)) {
+            log(LOG_LEVEL_ERROR, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_ERROR},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#error(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void error(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_ERROR)) {
+            log(LOG_LEVEL_ERROR, pattern, arg);
+        }
+    }
+
     /**
      * Log a message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_FATAL}.
      *
@@ -387,6 +540,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_FATAL},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void fatal(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_FATAL)) {
+            log(LOG_LEVEL_FATAL, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_FATAL},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void fatal(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_FATAL)) {
+            log(LOG_LEVEL_FATAL, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_FATAL},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void fatal(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_FATAL)) {
+            log(LOG_LEVEL_FATAL, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_FATAL},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#fatal(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void fatal(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_FATAL)) {
+            log(LOG_LEVEL_FATAL, pattern, arg);
+        }
+    }
+
     /**
      * Gets logging level.
      *
@@ -423,6 +640,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_INFO},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void info(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_INFO)) {
+            log(LOG_LEVEL_INFO, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_INFO},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void info(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_INFO)) {
+            log(LOG_LEVEL_INFO, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_INFO},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void info(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_INFO)) {
+            log(LOG_LEVEL_INFO, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_INFO},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#info(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void info(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_INFO)) {
+            log(LOG_LEVEL_INFO, pattern, arg);
+        }
+    }
+
     /**
      * Tests whether debug messages are enabled.
      * <p>
@@ -525,6 +806,87 @@ public class SimpleLog implements Log, Serializable {
      * @param t The exception whose stack trace should be logged
      */
     protected void log(final int type, final Object message, final Throwable t) {
+        final StringBuilder buf = newBuffer(type);
+
+        // Append the message
+        buf.append(String.valueOf(message));
+
+        // Append stack trace if not null
+        if (t != null) {
+            buf.append(" <");
+            buf.append(t.toString());
+            buf.append(">");
+
+            final StringWriter sw = new StringWriter(1024);
+            try (PrintWriter pw = new PrintWriter(sw)) {
+                t.printStackTrace(pw);
+            }
+            buf.append(sw.toString());
+        }
+
+        // Print to the appropriate destination
+        write(buf);
+    }
+
+    /**
+     * Logs a parameterized message with a {@code char} argument, formatting it directly into the output if possible.
+     */
+    private void log(final int type, final String pattern, final char arg) {
+        if (formatDirectly) {
+            final StringBuilder buf = newBuffer(type);
+            MessageFormatter.formatTo(buf, pattern, arg);
+            write(buf);
+        } else {
+            log(type, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with a {@code double} argument, formatting it directly into the output if possible.
+     */
+    private void log(final int type, final String pattern, final double arg) {
+        if (formatDirectly) {
+            final StringBuilder buf = newBuffer(type);
+            MessageFormatter.formatTo(buf, pattern, arg);
+            write(buf);
+        } else {
+            log(type, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with a {@code float} argument, formatting it directly into the output if possible.
+     */
+    private void log(final int type, final String pattern, final float arg) {
+        if (formatDirectly) {
+            final StringBuilder buf = newBuffer(type);
+            MessageFormatter.formatTo(buf, pattern, arg);
+            write(buf);
+        } else {
+            log(type, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with a {@code long} argument, formatting it directly into the output if possible.
+     */
+    private void log(final int type, final String pattern, final long arg) {
+        if (formatDirectly) {
+            final StringBuilder buf = newBuffer(type);
+            MessageFormatter.formatTo(buf, pattern, arg);
+            write(buf);
+        } else {
+            log(type, MessageFormatter.format(pattern, arg), null);
+        }
+    }
+
+    /**
+     * Creates the buffer of a message, starting with the date, the level and the name of this log, as configured.
+     *
+     * @param type One of the LOG_LEVEL_XXX constants defining the log level
+     * @return a new buffer
+     */
+    private StringBuilder newBuffer(final int type) {
         // Use a string buffer for better performance
         final StringBuilder buf = new StringBuilder();
 
@@ -577,24 +939,7 @@ public class SimpleLog implements Log, Serializable {
             buf.append(String.valueOf(logName)).append(" - ");
         }
 
-        // Append the message
-        buf.append(String.valueOf(message));
-
-        // Append stack trace if not null
-        if (t != null) {
-            buf.append(" <");
-            buf.append(t.toString());
-            buf.append(">");
-
-            final StringWriter sw = new StringWriter(1024);
-            try (PrintWriter pw = new PrintWriter(sw)) {
-                t.printStackTrace(pw);
-            }
-            buf.append(sw.toString());
-        }
-
-        // Print to the appropriate destination
-        write(buf);
+        return buf;
     }
 
     /**
@@ -633,6 +978,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_TRACE},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void trace(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_TRACE)) {
+            log(LOG_LEVEL_TRACE, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_TRACE},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void trace(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_TRACE)) {
+            log(LOG_LEVEL_TRACE, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_TRACE},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void trace(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_TRACE)) {
+            log(LOG_LEVEL_TRACE, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_TRACE},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#trace(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void trace(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_TRACE)) {
+            log(LOG_LEVEL_TRACE, pattern, arg);
+        }
+    }
+
     /**
      * Logs a message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_WARN}.
      *
@@ -660,6 +1069,70 @@ public class SimpleLog implements Log, Serializable {
         }
     }
 
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_WARN},
+     * formatting the {@code char} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, char)
+     * @since 1.5.0
+     */
+    @Override
+    public void warn(final String pattern, final char arg) {
+        if (isLevelEnabled(LOG_LEVEL_WARN)) {
+            log(LOG_LEVEL_WARN, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_WARN},
+     * formatting the {@code double} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, double)
+     * @since 1.5.0
+     */
+    @Override
+    public void warn(final String pattern, final double arg) {
+        if (isLevelEnabled(LOG_LEVEL_WARN)) {
+            log(LOG_LEVEL_WARN, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_WARN},
+     * formatting the {@code float} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, float)
+     * @since 1.5.0
+     */
+    @Override
+    public void warn(final String pattern, final float arg) {
+        if (isLevelEnabled(LOG_LEVEL_WARN)) {
+            log(LOG_LEVEL_WARN, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a parameterized message with {@code org.apache.commons.logging.impl.SimpleLog.LOG_LEVEL_WARN},
+     * formatting the {@code long} argument directly into the output.
+     *
+     * @param pattern the message pattern
+     * @param arg the argument
+     * @see org.apache.commons.logging.Log#warn(String, long)
+     * @since 1.5.0
+     */
+    @Override
+    public void warn(final String pattern, final long arg) {
+        if (isLevelEnabled(LOG_LEVEL_WARN)) {
+            log(LOG_LEVEL_WARN, pattern, arg);
+        }
+    }
+
     /**
      * Writes the content of the message accumulated in the specified
      * {@code StringBuffer} to the appropriate output destination.  The
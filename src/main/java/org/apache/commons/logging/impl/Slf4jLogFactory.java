@@ -22,34 +22,230 @@ import static org.slf4j.spi.LocationAwareLogger.INFO_INT;
 import static org.slf4j.spi.LocationAwareLogger.TRACE_INT;
 import static org.slf4j.spi.LocationAwareLogger.WARN_INT;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MutableCallSite;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogConfigurationException;
+import org.apache.commons.logging.LogEventBuilder;
 import org.apache.commons.logging.LogFactory;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.CallerBoundaryAware;
 import org.slf4j.spi.LocationAwareLogger;
+import org.slf4j.spi.LoggingEventBuilder;
 
 /**
  * Logger factory hardcoded to send everything to SLF4J.
+ * <p>
+ * With Logback, the enabled levels of each logger are cached and refreshed whenever a level changes or the logger
+ * context is reset. The cache is only used while the context has no turbo filters: the list of turbo filters is read
+ * on each level check, so that a turbo filter added outside of a configuration is taken into account at once.
+ * </p>
  *
  * @since 1.3.0
  */
 public final class Slf4jLogFactory extends LogFactory {
 
+    /**
+     * Sends events through the fluent API of SLF4J 2.
+     * <p>
+     * Kept apart from the {@code Log} implementations, so that they still load with SLF4J 1.7.
+     * </p>
+     */
+    private static final class EventBuilders {
+
+        static void log(final Logger logger, final String fqcn, final Marker marker, final Level level, final Supplier<?> messageSupplier) {
+            final LoggingEventBuilder builder = newBuilder(logger, fqcn, marker, level);
+            builder.setMessage(() -> getMessage(messageSupplier)).log();
+        }
+
+        private static LoggingEventBuilder newBuilder(final Logger logger, final String fqcn, final Marker marker, final Level level) {
+            final LoggingEventBuilder builder = logger.makeLoggingEventBuilder(level);
+            if (fqcn != null && builder instanceof CallerBoundaryAware) {
+                ((CallerBoundaryAware) builder).setCallerBoundary(fqcn);
+            }
+            return marker != null ? builder.addMarker(marker) : builder;
+        }
+
+        /**
+         * Starts building an event, for an enabled level.
+         */
+        static LogEventBuilder start(final Logger logger, final Marker marker, final Level level) {
+            return Slf4jLogEventBuilder.get(newBuilder(logger, Slf4jLogEventBuilder.FQCN, marker, level));
+        }
+    }
+
+    /**
+     * Passes the key/value pairs of an event to a {@link LoggingEventBuilder} of SLF4J 2.
+     * <p>
+     * SLF4J creates a builder for each event, but this wrapper is reused by the following events of the thread, once
+     * the event it was handed out for is logged.
+     * </p>
+     */
+    private static final class Slf4jLogEventBuilder implements LogEventBuilder {
+
+        private static final String FQCN = Slf4jLogEventBuilder.class.getName();
+
+        private static final ThreadLocal<Slf4jLogEventBuilder> BUILDERS = ThreadLocal.withInitial(Slf4jLogEventBuilder::new);
+
+        static Slf4jLogEventBuilder get(final LoggingEventBuilder builder) {
+            Slf4jLogEventBuilder eventBuilder = BUILDERS.get();
+            if (eventBuilder.inUse) {
+                // An argument or the supplier of the event being built logs in turn
+                eventBuilder = new Slf4jLogEventBuilder();
+            }
+            eventBuilder.inUse = true;
+            eventBuilder.builder = builder;
+            return eventBuilder;
+        }
+
+        private LoggingEventBuilder builder;
+
+        /**
+         * Whether the builder was handed out for an event not logged yet.
+         */
+        private boolean inUse;
+
+        @Override
+        public LogEventBuilder addKeyValue(final String key, final Object value) {
+            builder.addKeyValue(key, value);
+            return this;
+        }
+
+        @Override
+        public LogEventBuilder addMarker(final String name) {
+            builder.addMarker(getMarker(name));
+            return this;
+        }
+
+        @Override
+        public void log(final String message) {
+            try {
+                builder.log(message);
+            } finally {
+                reset();
+            }
+        }
+
+        @Override
+        public void log(final Supplier<?> messageSupplier) {
+            // Only enabled levels have a builder
+            final String message;
+            try {
+                message = getMessage(messageSupplier);
+            } catch (final RuntimeException | Error e) {
+                reset();
+                throw e;
+            }
+            log(message);
+        }
+
+        /**
+         * Releases the SLF4J builder, once the event is logged.
+         */
+        private void reset() {
+            builder = null;
+            inUse = false;
+        }
+
+        @Override
+        public LogEventBuilder setCause(final Throwable cause) {
+            builder.setCause(cause);
+            return this;
+        }
+    }
+
     private static final class Slf4jLocationAwareLog implements Log {
 
         private static final String FQCN = Slf4jLocationAwareLog.class.getName();
 
+        /**
+         * The generation of the Logback configuration, see {@link LevelCache}.
+         * <p>
+         * Shared by all factories, so that the JIT compiler can fold it: a reconfiguration refreshes the loggers of
+         * all factories.
+         * </p>
+         */
+        private static final MutableCallSite GENERATION = LevelCache.newGeneration();
+
+        private static final MethodHandle CURRENT_GENERATION = GENERATION.dynamicInvoker();
+
+        /**
+         * The class to skip to find the caller, this one or {@link FilteringLog#FQCN}.
+         */
+        private final String fqcn;
+
         private final LocationAwareLogger logger;
 
-        public Slf4jLocationAwareLog(final LocationAwareLogger logger) {
+        /**
+         * The turbo filters of the Logback context, which can be added without a notification, see
+         * {@link #isCached(int)}.
+         */
+        private final Collection<?> turboFilters;
+
+        /**
+         * Bit {@code 1 << (level / 10)} is set for each enabled SLF4J level, below the generation, or
+         * {@link LevelCache#UNKNOWN}.
+         */
+        private int enabledLevels = LevelCache.UNKNOWN;
+
+        /**
+         * The marker of all events, or {@code null}, see {@link LogFactory#MARKER_PROPERTY}.
+         */
+        private volatile Marker marker;
+
+        public Slf4jLocationAwareLog(final LocationAwareLogger logger, final String fqcn, final Marker marker, final Collection<?> turboFilters,
+                final boolean cacheLevels) {
             this.logger = logger;
+            this.fqcn = fqcn;
+            this.marker = marker;
+            this.turboFilters = turboFilters;
+            refreshLevels(cacheLevels);
+        }
+
+        @Override
+        public LogEventBuilder atDebug() {
+            return FLUENT_API && isDebugEnabled() ? EventBuilders.start(logger, marker, Level.DEBUG) : Log.super.atDebug();
+        }
+
+        @Override
+        public LogEventBuilder atError() {
+            return FLUENT_API && isErrorEnabled() ? EventBuilders.start(logger, marker, Level.ERROR) : Log.super.atError();
+        }
+
+        @Override
+        public LogEventBuilder atFatal() {
+            return FLUENT_API && isFatalEnabled() ? EventBuilders.start(logger, marker, Level.ERROR) : Log.super.atFatal();
+        }
+
+        @Override
+        public LogEventBuilder atInfo() {
+            return FLUENT_API && isInfoEnabled() ? EventBuilders.start(logger, marker, Level.INFO) : Log.super.atInfo();
+        }
+
+        @Override
+        public LogEventBuilder atTrace() {
+            return FLUENT_API && isTraceEnabled() ? EventBuilders.start(logger, marker, Level.TRACE) : Log.super.atTrace();
+        }
+
+        @Override
+        public LogEventBuilder atWarn() {
+            return FLUENT_API && isWarnEnabled() ? EventBuilders.start(logger, marker, Level.WARN) : Log.super.atWarn();
         }
 
         @Override
@@ -62,6 +258,74 @@ public final class Slf4jLogFactory extends LogFactory {
             log(DEBUG_INT, message, t);
         }
 
+        @Override
+        public void debug(final String message, final Throwable t) {
+            log(DEBUG_INT, message, t);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg0, arg1 });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg0, arg1, arg2 });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final char arg) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final double arg) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final float arg) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final long arg) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isDebugEnabled()) {
+                log(DEBUG_INT, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void debug(final Supplier<?> messageSupplier) {
+            if (isDebugEnabled()) {
+                log(Level.DEBUG, messageSupplier);
+            }
+        }
+
         @Override
         public void error(final Object message) {
             log(ERROR_INT, message, null);
@@ -72,6 +336,74 @@ public final class Slf4jLogFactory extends LogFactory {
             log(ERROR_INT, message, t);
         }
 
+        @Override
+        public void error(final String message, final Throwable t) {
+            log(ERROR_INT, message, t);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg0, arg1 });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg0, arg1, arg2 });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final char arg) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final double arg) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final float arg) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final long arg) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isErrorEnabled()) {
+                log(ERROR_INT, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void error(final Supplier<?> messageSupplier) {
+            if (isErrorEnabled()) {
+                log(Level.ERROR, messageSupplier);
+            }
+        }
+
         @Override
         public void fatal(final Object message) {
             error(message);
@@ -82,6 +414,56 @@ public final class Slf4jLogFactory extends LogFactory {
             error(message, t);
         }
 
+        @Override
+        public void fatal(final String message, final Throwable t) {
+            error(message, t);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1) {
+            error(pattern, arg0, arg1);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            error(pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void fatal(final String pattern, final char arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final double arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final float arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final long arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            error(pattern, arg0, arg1, arg2, moreArgs);
+        }
+
+        @Override
+        public void fatal(final Supplier<?> messageSupplier) {
+            error(messageSupplier);
+        }
+
         @Override
         public void info(final Object message) {
             log(INFO_INT, message, null);
@@ -92,14 +474,113 @@ public final class Slf4jLogFactory extends LogFactory {
             log(INFO_INT, message, t);
         }
 
+        @Override
+        public void info(final String message, final Throwable t) {
+            log(INFO_INT, message, t);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg0, arg1 });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg0, arg1, arg2 });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final char arg) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final double arg) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final float arg) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final long arg) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isInfoEnabled()) {
+                log(INFO_INT, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void info(final Supplier<?> messageSupplier) {
+            if (isInfoEnabled()) {
+                log(Level.INFO, messageSupplier);
+            }
+        }
+
         @Override
         public boolean isDebugEnabled() {
-            return logger.isDebugEnabled(MARKER);
+            final int levels = enabledLevels;
+            return isCached(levels) ? (levels & 1 << DEBUG_INT / 10) != 0 : logger.isDebugEnabled(marker);
+        }
+
+        /**
+         * Tests whether the given mask can be used.
+         * <p>
+         * Turbo filters are called for each event and can be added to the Logback context at any time, without a
+         * notification. The mask is therefore only used while there are none.
+         * </p>
+         */
+        private boolean isCached(final int levels) {
+            return LevelCache.isValid(levels, CURRENT_GENERATION) && turboFilters.isEmpty();
+        }
+
+        /**
+         * Asks the backend whether a level is enabled.
+         */
+        private boolean isEnabled(final int level) {
+            switch (level) {
+            case TRACE_INT:
+                return logger.isTraceEnabled(marker);
+            case DEBUG_INT:
+                return logger.isDebugEnabled(marker);
+            case INFO_INT:
+                return logger.isInfoEnabled(marker);
+            case WARN_INT:
+                return logger.isWarnEnabled(marker);
+            default:
+                return logger.isErrorEnabled(marker);
+            }
         }
 
         @Override
         public boolean isErrorEnabled() {
-            return logger.isErrorEnabled(MARKER);
+            final int levels = enabledLevels;
+            return isCached(levels) ? (levels & 1 << ERROR_INT / 10) != 0 : logger.isErrorEnabled(marker);
         }
 
         @Override
@@ -109,21 +590,67 @@ public final class Slf4jLogFactory extends LogFactory {
 
         @Override
         public boolean isInfoEnabled() {
-            return logger.isInfoEnabled(MARKER);
+            final int levels = enabledLevels;
+            return isCached(levels) ? (levels & 1 << INFO_INT / 10) != 0 : logger.isInfoEnabled(marker);
         }
 
         @Override
         public boolean isTraceEnabled() {
-            return logger.isTraceEnabled(MARKER);
+            final int levels = enabledLevels;
+            return isCached(levels) ? (levels & 1 << TRACE_INT / 10) != 0 : logger.isTraceEnabled(marker);
         }
 
         @Override
         public boolean isWarnEnabled() {
-            return logger.isWarnEnabled(MARKER);
+            final int levels = enabledLevels;
+            return isCached(levels) ? (levels & 1 << WARN_INT / 10) != 0 : logger.isWarnEnabled(marker);
         }
 
         private void log(final int level, final Object message, final Throwable t) {
-            logger.log(MARKER, FQCN, level, String.valueOf(message), EMPTY_OBJECT_ARRAY, t);
+            final int levels = enabledLevels;
+            final boolean enabled;
+            if (isCached(levels)) {
+                enabled = (levels & 1 << level / 10) != 0;
+            } else {
+                // The backend checks the level again, but only after the message is rendered
+                enabled = message instanceof String || isEnabled(level);
+            }
+            if (enabled) {
+                logger.log(marker, fqcn, level, String.valueOf(message), EMPTY_OBJECT_ARRAY, t);
+            }
+        }
+
+        /**
+         * Logs a parameterized message, that SLF4J formats and searches for a trailing {@link Throwable}.
+         */
+        private void log(final int level, final String pattern, final Object[] args) {
+            logger.log(marker, fqcn, level, pattern, args, null);
+        }
+
+        private void log(final Level level, final Supplier<?> messageSupplier) {
+            if (FLUENT_API) {
+                EventBuilders.log(logger, fqcn, marker, level, messageSupplier);
+            } else {
+                logger.log(marker, fqcn, level.toInt(), getMessage(messageSupplier), EMPTY_OBJECT_ARRAY, null);
+            }
+        }
+
+        /**
+         * Recomputes the enabled levels, after a reconfiguration of the backend.
+         *
+         * @param cacheLevels whether the enabled levels can be cached, otherwise the backend is asked on each call
+         */
+        void refreshLevels(final boolean cacheLevels) {
+            if (cacheLevels) {
+                final int generation = LevelCache.current(CURRENT_GENERATION);
+                enabledLevels = LevelCache.toMask(generation, (logger.isTraceEnabled(marker) ? 1 << TRACE_INT / 10 : 0) |
+                        (logger.isDebugEnabled(marker) ? 1 << DEBUG_INT / 10 : 0) |
+                        (logger.isInfoEnabled(marker) ? 1 << INFO_INT / 10 : 0) |
+                        (logger.isWarnEnabled(marker) ? 1 << WARN_INT / 10 : 0) |
+                        (logger.isErrorEnabled(marker) ? 1 << ERROR_INT / 10 : 0));
+            } else {
+                enabledLevels = LevelCache.UNKNOWN;
+            }
         }
 
         @Override
@@ -136,6 +663,74 @@ public final class Slf4jLogFactory extends LogFactory {
             log(TRACE_INT, message, t);
         }
 
+        @Override
+        public void trace(final String message, final Throwable t) {
+            log(TRACE_INT, message, t);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg0, arg1 });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg0, arg1, arg2 });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final char arg) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final double arg) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final float arg) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final long arg) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isTraceEnabled()) {
+                log(TRACE_INT, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void trace(final Supplier<?> messageSupplier) {
+            if (isTraceEnabled()) {
+                log(Level.TRACE, messageSupplier);
+            }
+        }
+
         @Override
         public void warn(final Object message) {
             log(WARN_INT, message, null);
@@ -145,33 +740,204 @@ public final class Slf4jLogFactory extends LogFactory {
         public void warn(final Object message, final Throwable t) {
             log(WARN_INT, message, t);
         }
+
+        @Override
+        public void warn(final String message, final Throwable t) {
+            log(WARN_INT, message, t);
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg0, arg1 });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg0, arg1, arg2 });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final char arg) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final double arg) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final float arg) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final long arg) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, new Object[] { arg });
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isWarnEnabled()) {
+                log(WARN_INT, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void warn(final Supplier<?> messageSupplier) {
+            if (isWarnEnabled()) {
+                log(Level.WARN, messageSupplier);
+            }
+        }
+
     }
     private static class Slf4jLog implements Log {
 
         private final Logger logger;
 
-        public Slf4jLog(final Logger logger) {
+        /**
+         * The marker of all events, or {@code null}, see {@link LogFactory#MARKER_PROPERTY}.
+         */
+        private volatile Marker marker;
+
+        public Slf4jLog(final Logger logger, final Marker marker) {
             this.logger = logger;
+            this.marker = marker;
+        }
+
+        @Override
+        public LogEventBuilder atDebug() {
+            return FLUENT_API && isDebugEnabled() ? EventBuilders.start(logger, marker, Level.DEBUG) : Log.super.atDebug();
+        }
+
+        @Override
+        public LogEventBuilder atError() {
+            return FLUENT_API && isErrorEnabled() ? EventBuilders.start(logger, marker, Level.ERROR) : Log.super.atError();
+        }
+
+        @Override
+        public LogEventBuilder atFatal() {
+            return FLUENT_API && isFatalEnabled() ? EventBuilders.start(logger, marker, Level.ERROR) : Log.super.atFatal();
+        }
+
+        @Override
+        public LogEventBuilder atInfo() {
+            return FLUENT_API && isInfoEnabled() ? EventBuilders.start(logger, marker, Level.INFO) : Log.super.atInfo();
+        }
+
+        @Override
+        public LogEventBuilder atTrace() {
+            return FLUENT_API && isTraceEnabled() ? EventBuilders.start(logger, marker, Level.TRACE) : Log.super.atTrace();
+        }
+
+        @Override
+        public LogEventBuilder atWarn() {
+            return FLUENT_API && isWarnEnabled() ? EventBuilders.start(logger, marker, Level.WARN) : Log.super.atWarn();
         }
 
         @Override
         public void debug(final Object message) {
-            logger.debug(MARKER, String.valueOf(message));
+            if (message instanceof String || logger.isDebugEnabled(marker)) {
+                logger.debug(marker, String.valueOf(message));
+            }
         }
 
         @Override
         public void debug(final Object message, final Throwable t) {
-            logger.debug(MARKER, String.valueOf(message), t);
+            if (message instanceof String || logger.isDebugEnabled(marker)) {
+                logger.debug(marker, String.valueOf(message), t);
+            }
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg) {
+            logger.debug(marker, pattern, arg);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1) {
+            logger.debug(marker, pattern, arg0, arg1);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            logger.debug(marker, pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void debug(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isDebugEnabled()) {
+                logger.debug(marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void debug(final Supplier<?> messageSupplier) {
+            if (isDebugEnabled()) {
+                log(Level.DEBUG, messageSupplier);
+            }
         }
 
         @Override
         public void error(final Object message) {
-            logger.error(MARKER, String.valueOf(message));
+            if (message instanceof String || logger.isErrorEnabled(marker)) {
+                logger.error(marker, String.valueOf(message));
+            }
         }
 
         @Override
         public void error(final Object message, final Throwable t) {
-            logger.error(MARKER, String.valueOf(message), t);
+            if (message instanceof String || logger.isErrorEnabled(marker)) {
+                logger.error(marker, String.valueOf(message), t);
+            }
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg) {
+            logger.error(marker, pattern, arg);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1) {
+            logger.error(marker, pattern, arg0, arg1);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            logger.error(marker, pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void error(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isErrorEnabled()) {
+                logger.error(marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void error(final Supplier<?> messageSupplier) {
+            if (isErrorEnabled()) {
+                log(Level.ERROR, messageSupplier);
+            }
         }
 
         @Override
@@ -184,24 +950,82 @@ public final class Slf4jLogFactory extends LogFactory {
             error(message, t);
         }
 
+        @Override
+        public void fatal(final String pattern, final Object arg) {
+            error(pattern, arg);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1) {
+            error(pattern, arg0, arg1);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            error(pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void fatal(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            error(pattern, arg0, arg1, arg2, moreArgs);
+        }
+
+        @Override
+        public void fatal(final Supplier<?> messageSupplier) {
+            error(messageSupplier);
+        }
+
         @Override
         public void info(final Object message) {
-            logger.info(MARKER, String.valueOf(message));
+            if (message instanceof String || logger.isInfoEnabled(marker)) {
+                logger.info(marker, String.valueOf(message));
+            }
         }
 
         @Override
         public void info(final Object message, final Throwable t) {
-            logger.info(MARKER, String.valueOf(message), t);
+            if (message instanceof String || logger.isInfoEnabled(marker)) {
+                logger.info(marker, String.valueOf(message), t);
+            }
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg) {
+            logger.info(marker, pattern, arg);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1) {
+            logger.info(marker, pattern, arg0, arg1);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            logger.info(marker, pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void info(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isInfoEnabled()) {
+                logger.info(marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void info(final Supplier<?> messageSupplier) {
+            if (isInfoEnabled()) {
+                log(Level.INFO, messageSupplier);
+            }
         }
 
         @Override
         public boolean isDebugEnabled() {
-            return logger.isDebugEnabled(MARKER);
+            return logger.isDebugEnabled(marker);
         }
 
         @Override
         public boolean isErrorEnabled() {
-            return logger.isErrorEnabled(MARKER);
+            return logger.isErrorEnabled(marker);
         }
 
         @Override
@@ -211,42 +1035,139 @@ public final class Slf4jLogFactory extends LogFactory {
 
         @Override
         public boolean isInfoEnabled() {
-            return logger.isInfoEnabled(MARKER);
+            return logger.isInfoEnabled(marker);
         }
 
         @Override
         public boolean isTraceEnabled() {
-            return logger.isTraceEnabled(MARKER);
+            return logger.isTraceEnabled(marker);
         }
 
         @Override
         public boolean isWarnEnabled() {
-            return logger.isWarnEnabled(MARKER);
+            return logger.isWarnEnabled(marker);
+        }
+
+        private void log(final Level level, final Supplier<?> messageSupplier) {
+            if (FLUENT_API) {
+                EventBuilders.log(logger, null, marker, level, messageSupplier);
+                return;
+            }
+            final String message = getMessage(messageSupplier);
+            switch (level) {
+            case ERROR:
+                logger.error(marker, message);
+                break;
+            case WARN:
+                logger.warn(marker, message);
+                break;
+            case INFO:
+                logger.info(marker, message);
+                break;
+            case DEBUG:
+                logger.debug(marker, message);
+                break;
+            default:
+                logger.trace(marker, message);
+                break;
+            }
         }
 
         @Override
         public void trace(final Object message) {
-            logger.trace(MARKER, String.valueOf(message));
+            if (message instanceof String || logger.isTraceEnabled(marker)) {
+                logger.trace(marker, String.valueOf(message));
+            }
         }
 
         @Override
         public void trace(final Object message, final Throwable t) {
-            logger.trace(MARKER, String.valueOf(message), t);
+            if (message instanceof String || logger.isTraceEnabled(marker)) {
+                logger.trace(marker, String.valueOf(message), t);
+            }
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg) {
+            logger.trace(marker, pattern, arg);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1) {
+            logger.trace(marker, pattern, arg0, arg1);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            logger.trace(marker, pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void trace(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isTraceEnabled()) {
+                logger.trace(marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void trace(final Supplier<?> messageSupplier) {
+            if (isTraceEnabled()) {
+                log(Level.TRACE, messageSupplier);
+            }
         }
 
         @Override
         public void warn(final Object message) {
-            logger.warn(MARKER, String.valueOf(message));
+            if (message instanceof String || logger.isWarnEnabled(marker)) {
+                logger.warn(marker, String.valueOf(message));
+            }
         }
 
         @Override
         public void warn(final Object message, final Throwable t) {
-            logger.warn(MARKER, String.valueOf(message), t);
+            if (message instanceof String || logger.isWarnEnabled(marker)) {
+                logger.warn(marker, String.valueOf(message), t);
+            }
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg) {
+            logger.warn(marker, pattern, arg);
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1) {
+            logger.warn(marker, pattern, arg0, arg1);
         }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2) {
+            logger.warn(marker, pattern, arg0, arg1, arg2);
+        }
+
+        @Override
+        public void warn(final String pattern, final Object arg0, final Object arg1, final Object arg2, final Object... moreArgs) {
+            if (isWarnEnabled()) {
+                logger.warn(marker, pattern, toArray(arg0, arg1, arg2, moreArgs));
+            }
+        }
+
+        @Override
+        public void warn(final Supplier<?> messageSupplier) {
+            if (isWarnEnabled()) {
+                log(Level.WARN, messageSupplier);
+            }
+        }
+
     }
 
     private static final Object[] EMPTY_OBJECT_ARRAY = {};
 
+    /**
+     * Whether the fluent logging API of SLF4J 2 is available.
+     */
+    private static final boolean FLUENT_API = isFluentApiAvailable();
+
     private static final String[] EMPTY_STRING_ARRAY = {};
 
     /**
@@ -254,6 +1175,16 @@ public final class Slf4jLogFactory extends LogFactory {
      */
     private static final Marker MARKER = MarkerFactory.getMarker("COMMONS-LOGGING");
 
+    /**
+     * Caches the markers added to events by name.
+     */
+    private static final ConcurrentMap<String, Marker> MARKERS = new ConcurrentHashMap<>();
+
+    /**
+     * The factories which created loggers, that all share {@link Slf4jLocationAwareLog#GENERATION}, guarded by itself.
+     */
+    private static final Set<Slf4jLogFactory> FACTORIES = Collections.newSetFromMap(new WeakHashMap<>());
+
     /**
      * Caches Log instances.
      * <p>
@@ -266,6 +1197,72 @@ public final class Slf4jLogFactory extends LogFactory {
 
     private final ConcurrentMap<String, Object> attributes = new ConcurrentHashMap<>();
 
+    /**
+     * Whether the enabled levels of the loggers can be cached, see {@link #refreshLevels()}.
+     */
+    private volatile boolean cacheLevels;
+
+    /**
+     * The turbo filters of the Logback context, or an empty list for other backends.
+     */
+    private volatile Collection<?> turboFilters = Collections.emptyList();
+
+    /**
+     * Counts the reconfigurations of the backend, so that a logger created during one is not left with stale levels.
+     */
+    private final AtomicInteger reconfigurations = new AtomicInteger();
+
+    /**
+     * Whether {@link #listen()} was called.
+     */
+    private boolean listening;
+
+    /**
+     * The listener registered with the Logback logger context, or {@code null}.
+     */
+    private volatile Object contextListener;
+
+    /**
+     * The marker of all events, or {@code null} if disabled by {@link LogFactory#MARKER_PROPERTY}.
+     */
+    private volatile Marker marker = MARKER;
+
+    /**
+     * Gets a marker by name, from the cache rather than from the marker factory of SLF4J.
+     */
+    private static Marker getMarker(final String name) {
+        final Marker marker = MARKERS.get(name);
+        // Java 8 locks in computeIfAbsent even if the key is present
+        return marker != null ? marker : MARKERS.computeIfAbsent(name, MarkerFactory::getMarker);
+    }
+
+    private static String getMessage(final Supplier<?> messageSupplier) {
+        return String.valueOf(messageSupplier != null ? messageSupplier.get() : null);
+    }
+
+    private static boolean isFluentApiAvailable() {
+        try {
+            return Logger.class.getMethod("makeLoggingEventBuilder", Level.class) != null;
+        } catch (final NoSuchMethodException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Flattens the arguments of the {@code Log} methods taking more than three, as SLF4J expects an array.
+     */
+    private static Object[] toArray(final Object arg0, final Object arg1, final Object arg2, final Object[] moreArgs) {
+        final int more = moreArgs != null ? moreArgs.length : 0;
+        final Object[] args = new Object[3 + more];
+        args[0] = arg0;
+        args[1] = arg1;
+        args[2] = arg2;
+        if (more > 0) {
+            System.arraycopy(moreArgs, 0, args, 3, more);
+        }
+        return args;
+    }
+
     /**
      * Constructs a new instance.
      */
@@ -290,10 +1287,102 @@ public final class Slf4jLogFactory extends LogFactory {
 
     @Override
     public Log getInstance(final String name) {
-        return loggers.computeIfAbsent(name, n -> {
-            final Logger logger = LoggerFactory.getLogger(n);
-            return logger instanceof LocationAwareLogger ? new Slf4jLocationAwareLog((LocationAwareLogger) logger) : new Slf4jLog(
-                    logger);
+        final int count = reconfigurations.get();
+        final Log log = loggers.computeIfAbsent(name, this::newLog);
+        final Log backend = FilteringLog.unwrap(log);
+        if (count != reconfigurations.get() && backend instanceof Slf4jLocationAwareLog) {
+            // The listener may have missed this logger: stop caching until the next reconfiguration
+            ((Slf4jLocationAwareLog) backend).refreshLevels(false);
+        }
+        return log;
+    }
+
+    /**
+     * Gets the turbo filters of a Logback context, a live list that is never replaced.
+     *
+     * @return the turbo filters, or {@code null} if the factory is not a Logback context
+     */
+    private static Collection<?> getTurboFilters(final ILoggerFactory factory) {
+        try {
+            final Object turboFilters = factory.getClass().getMethod("getTurboFilterList").invoke(factory);
+            return turboFilters instanceof Collection ? (Collection<?>) turboFilters : null;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Registers a listener with the Logback logger context, if SLF4J is bound to it, to cache the enabled levels.
+     */
+    private synchronized void listen() {
+        if (listening) {
+            return;
+        }
+        listening = true;
+        synchronized (FACTORIES) {
+            FACTORIES.add(this);
+        }
+        final ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        final Collection<?> filters = getTurboFilters(factory);
+        if (filters == null) {
+            // Not Logback: ask the backend on each call
+            cacheLevels = false;
+            return;
+        }
+        try {
+            final Class<?> listenerType = Class.forName("ch.qos.logback.classic.spi.LoggerContextListener", false,
+                    factory.getClass().getClassLoader());
+            final Object listener = LevelCache.newListener(listenerType, event -> {
+                // A reset clears the levels, that the configuration which follows sets again
+                final boolean stopped = "onReset".equals(event) || "onStop".equals(event);
+                refreshLevels(!stopped);
+            });
+            factory.getClass().getMethod("addListener", listenerType).invoke(factory, listener);
+            contextListener = listener;
+            turboFilters = filters;
+            cacheLevels = true;
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+            // Not Logback: ask the backend on each call
+            cacheLevels = false;
+        }
+    }
+
+    private Log newLog(final String name) {
+        listen();
+        final Logger logger = LoggerFactory.getLogger(name);
+        return FilteringLog.decorate(this, name, fqcn -> logger instanceof LocationAwareLogger
+                ? new Slf4jLocationAwareLog((LocationAwareLogger) logger, fqcn != null ? fqcn : Slf4jLocationAwareLog.FQCN, marker,
+                        turboFilters, cacheLevels)
+                : new Slf4jLog(logger, marker));
+    }
+
+    /**
+     * Recomputes the enabled levels of all loggers, after the backend was reconfigured.
+     *
+     * @param cache whether the enabled levels can be cached
+     */
+    private void refreshLevels(final boolean cache) {
+        cacheLevels = cache;
+        // The generation is shared by all factories: refresh the loggers of all of them
+        final List<Slf4jLogFactory> factories;
+        synchronized (FACTORIES) {
+            factories = new ArrayList<>(FACTORIES);
+        }
+        factories.forEach(factory -> factory.reconfigurations.incrementAndGet());
+        LevelCache.advance(Slf4jLocationAwareLog.GENERATION);
+        factories.forEach(Slf4jLogFactory::refreshLoggers);
+    }
+
+    /**
+     * Recomputes the enabled levels of the loggers of this factory, with its caching policy.
+     */
+    private void refreshLoggers() {
+        final boolean cache = cacheLevels;
+        loggers.values().forEach(log -> {
+            final Log backend = FilteringLog.unwrap(log);
+            if (backend instanceof Slf4jLocationAwareLog) {
+                ((Slf4jLocationAwareLog) backend).refreshLevels(cache);
+            }
         });
     }
 
@@ -307,6 +1396,20 @@ public final class Slf4jLogFactory extends LogFactory {
     @Override
     public void release() {
         final ILoggerFactory factory = LoggerFactory.getILoggerFactory();
+        synchronized (this) {
+            if (contextListener != null) {
+                // The proxy implements the Logback listener interface only
+                final Class<?> listenerType = contextListener.getClass().getInterfaces()[0];
+                try {
+                    factory.getClass().getMethod("removeListener", listenerType).invoke(factory, contextListener);
+                } catch (final ReflectiveOperationException ignored) {
+                    // empty
+                }
+                contextListener = null;
+                refreshLevels(false);
+            }
+            listening = false;
+        }
         try {
             factory.getClass().getMethod("stop").invoke(factory);
         } catch (final ReflectiveOperationException ignored) {
@@ -317,14 +1420,38 @@ public final class Slf4jLogFactory extends LogFactory {
     @Override
     public void removeAttribute(final String name) {
         attributes.remove(name);
+        if (MARKER_PROPERTY.equals(name)) {
+            setMarker(MARKER);
+        }
     }
 
     @Override
     public void setAttribute(final String name, final Object value) {
         if (value != null) {
             attributes.put(name, value);
+            if (MARKER_PROPERTY.equals(name)) {
+                setMarker("false".equalsIgnoreCase(value.toString()) ? null : MARKER);
+            }
         } else {
             removeAttribute(name);
         }
     }
+
+    /**
+     * Sets the marker of all events, for the loggers to come and the existing ones.
+     * <p>
+     * The cached levels stay valid: they are only cached without turbo filters, the only filters seeing the marker.
+     * </p>
+     */
+    private void setMarker(final Marker marker) {
+        this.marker = marker;
+        loggers.values().forEach(log -> {
+            final Log backend = FilteringLog.unwrap(log);
+            if (backend instanceof Slf4jLocationAwareLog) {
+                ((Slf4jLocationAwareLog) backend).marker = marker;
+            } else {
+                ((Slf4jLog) backend).marker = marker;
+            }
+        });
+    }
 }
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.FactoryStore;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Default {@link FactoryStore} used by {@link LogFactory}.
+ * <p>
+ * Class loaders are held through weak references and compared by identity, so that they can be reclaimed by the
+ * garbage collector without the need to call {@link LogFactory#release(ClassLoader)}. The associated factories are
+ * retained using strong references; see {@link WeakHashtable} for the (unusual) scenarios in which this prevents a
+ * class loader from being collected.
+ * </p>
+ * <p>
+ * Lookups are lock-free and do not allocate: the table is an immutable snapshot published through a volatile field.
+ * Updates are serialized on the store instance and replace the whole table. This is a good tradeoff for
+ * {@code LogFactory}, which looks up a factory on every {@code getLog()} call, but only adds one whenever a context
+ * class loader is seen for the first time.
+ * </p>
+ * <p>
+ * Entries whose class loader has been garbage collected are purged on the next update.
+ * </p>
+ *
+ * @since 1.5.0
+ */
+public final class WeakFactoryStore implements FactoryStore {
+
+    /** Immutable hash bucket node. */
+    private static final class Entry {
+
+        private final WeakReference<ClassLoader> reference;
+        private final int hash;
+        private final LogFactory factory;
+        private final Entry next;
+
+        private Entry(final WeakReference<ClassLoader> reference, final int hash, final LogFactory factory, final Entry next) {
+            this.reference = reference;
+            this.hash = hash;
+            this.factory = factory;
+            this.next = next;
+        }
+    }
+
+    /** Initial number of buckets, must be a power of two. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static int hash(final ClassLoader classLoader) {
+        final int h = System.identityHashCode(classLoader);
+        return h ^ h >>> 16;
+    }
+
+    /** Receives the references of class loaders that have been garbage collected. */
+    private final ReferenceQueue<ClassLoader> queue = new ReferenceQueue<>();
+
+    /** Current snapshot; the length is always a power of two. */
+    private volatile Entry[] table = new Entry[INITIAL_CAPACITY];
+
+    /** Number of entries in the current snapshot, guarded by {@code this}. */
+    private int size;
+
+    /**
+     * Constructs a new instance.
+     */
+    public WeakFactoryStore() {
+        // empty
+    }
+
+    @Override
+    public synchronized void clear() {
+        while (queue.poll() != null) {
+            // discard
+        }
+        table = new Entry[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super ClassLoader, ? super LogFactory> action) {
+        for (final Entry head : table) {
+            for (Entry e = head; e != null; e = e.next) {
+                final ClassLoader classLoader = e.reference.get();
+                if (classLoader != null) {
+                    action.accept(classLoader, e.factory);
+                }
+            }
+        }
+    }
+
+    @Override
+    public LogFactory get(final ClassLoader classLoader) {
+        if (classLoader == null) {
+            return null;
+        }
+        final Entry[] tab = table;
+        final int hash = hash(classLoader);
+        for (Entry e = tab[hash & tab.length - 1]; e != null; e = e.next) {
+            if (e.hash == hash && e.reference.get() == classLoader) {
+                return e.factory;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized LogFactory put(final ClassLoader classLoader, final LogFactory factory) {
+        Objects.requireNonNull(classLoader, "classLoader");
+        Objects.requireNonNull(factory, "factory");
+        return update(classLoader, factory);
+    }
+
+    @Override
+    public synchronized LogFactory remove(final ClassLoader classLoader) {
+        if (get(classLoader) == null && queue.poll() == null) {
+            // nothing to remove and nothing to purge
+            return null;
+        }
+        return update(classLoader, null);
+    }
+
+    /**
+     * Gets the number of entries in this store, including those whose class loader has been garbage collected since the
+     * last update.
+     *
+     * @return The number of entries.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Publishes a new snapshot without the mapping for {@code classLoader} and without the entries whose class loader
+     * has been garbage collected. If {@code factory} is not {@code null}, it is then mapped to {@code classLoader}.
+     * <p>
+     * Must be called while holding the lock on {@code this}.
+     * </p>
+     */
+    private LogFactory update(final ClassLoader classLoader, final LogFactory factory) {
+        // Every cleared entry is dropped below, so the queue only needs to be emptied.
+        while (queue.poll() != null) {
+            // discard
+        }
+        final Entry[] oldTable = table;
+        int capacity = oldTable.length;
+        if (factory != null && (size + 1) * 4 > capacity * 3) {
+            capacity <<= 1;
+        }
+        final Entry[] newTable = new Entry[capacity];
+        LogFactory previous = null;
+        int newSize = 0;
+        for (final Entry head : oldTable) {
+            for (Entry e = head; e != null; e = e.next) {
+                final ClassLoader key = e.reference.get();
+                if (key == null) {
+                    continue;
+                }
+                if (key == classLoader) {
+                    previous = e.factory;
+                    continue;
+                }
+                final int index = e.hash & capacity - 1;
+                newTable[index] = new Entry(e.reference, e.hash, e.factory, newTable[index]);
+                newSize++;
+            }
+        }
+        if (factory != null) {
+            final int hash = hash(classLoader);
+            final int index = hash & capacity - 1;
+            newTable[index] = new Entry(new WeakReference<>(classLoader, queue), hash, factory, newTable[index]);
+            newSize++;
+        }
+        size = newSize;
+        table = newTable;
+        return previous;
+    }
+}
@@ -163,23 +163,31 @@ public final class WeakHashtable extends Hashtable {
         }
     }
 
-    /** Wrapper giving correct symantics for equals and hash code */
+    /**
+     * Wrapper giving correct symantics for equals and hash code.
+     * <p>
+     * A {@code Referenced} is also equal to its (non-cleared) referant. This lets
+     * lookups probe the table with the raw key: {@code Hashtable} compares with
+     * {@code storedKey.equals(probe)}, and the hash code of a {@code Referenced}
+     * is the one of its referant.
+     * </p>
+     * <p>
+     * This equality is deliberately asymmetric: the referant does not know about
+     * its wrapper, so {@code referant.equals(referenced)} is {@code false}. The
+     * raw-key lookups in {@link WeakHashtable#get(Object)},
+     * {@link WeakHashtable#containsKey(Object)} and {@link WeakHashtable#remove(Object)}
+     * therefore rely on {@code Hashtable} calling {@code equals} on the stored key
+     * with the probe as argument, and never the other way round. This holds for
+     * every {@code Hashtable} implementation to date and is checked by
+     * {@code WeakHashtableTestCase}; a {@code Referenced} must never be used as a
+     * key of any other collection.
+     * </p>
+     */
     private final static class Referenced {
 
         private final WeakReference reference;
         private final int hashCode;
 
-        /**
-         *
-         * @throws NullPointerException if referant is {@code null}
-         */
-        private Referenced(final Object referant) {
-            reference = new WeakReference(referant);
-            // Calc a permanent hashCode so calls to Hashtable.remove()
-            // work if the WeakReference has been cleared
-            hashCode = referant.hashCode();
-        }
-
         /**
          *
          * @throws NullPointerException if key is {@code null}
@@ -214,6 +222,10 @@ public final class WeakHashtable extends Hashtable {
                 } else {
                     result = thisKeyValue.equals(otherKeyValue);
                 }
+            } else if (o != null) {
+                // lookup with a raw key, see the class Javadoc
+                final Object thisKeyValue = getValue();
+                result = thisKeyValue != null && thisKeyValue.equals(o);
             }
             return result;
         }
@@ -282,7 +294,8 @@ public final class WeakHashtable extends Hashtable {
     @Override
     public boolean containsKey(final Object key) {
         // purge should not be required
-        return super.containsKey(new Referenced(key));
+        // probe with the raw key to avoid allocating a Referenced wrapper
+        return super.containsKey(Objects.requireNonNull(key, "key"));
     }
 
     /**
@@ -321,7 +334,8 @@ public final class WeakHashtable extends Hashtable {
     @Override
     public Object get(final Object key) {
         // for performance reasons, no purge
-        return super.get(new Referenced(key));
+        // probe with the raw key to avoid allocating a Referenced wrapper
+        return super.get(Objects.requireNonNull(key, "key"));
     }
 
     /**
@@ -466,7 +480,7 @@ public final class WeakHashtable extends Hashtable {
         else if (changeCount % PARTIAL_PURGE_COUNT == 0) {
             purgeOne();
         }
-        return super.remove(new Referenced(key));
+        return super.remove(Objects.requireNonNull(key, "key"));
     }
 
     /**
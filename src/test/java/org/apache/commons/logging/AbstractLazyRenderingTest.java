@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging;
+
+import junit.framework.TestCase;
+
+/**
+ * Generic tests, checking that the messages of disabled levels are never rendered, that can be applied to any log
+ * adapter by subclassing this class and defining method getDisabledLogs appropriately.
+ */
+public abstract class AbstractLazyRenderingTest extends TestCase {
+
+    /**
+     * A message counting the calls to its {@code toString()} method.
+     */
+    private static final class Message {
+
+        private int renderings;
+
+        @Override
+        public String toString() {
+            renderings++;
+            return "message";
+        }
+    }
+
+    private static final Throwable T = new RuntimeException();
+
+    /**
+     * Gets the loggers to test.
+     *
+     * @return loggers with all their levels disabled
+     */
+    protected abstract Log[] getDisabledLogs();
+
+    public void testDisabledLevelsDoNotRender() {
+        for (final Log log : getDisabledLogs()) {
+            assertFalse("Fatal disabled", log.isFatalEnabled());
+            final Message message = new Message();
+            log.trace(message);
+            log.trace(message, T);
+            log.trace("{}", message);
+            log.trace("{} {}", message, message);
+            log.trace("{} {} {}", message, message, message);
+            log.trace("{} {} {} {}", message, message, message, message);
+            log.trace(() -> message);
+            log.atTrace().addKeyValue("key", message).log("event");
+            log.debug(message);
+            log.debug(message, T);
+            log.debug("{}", message);
+            log.debug("{} {}", message, message);
+            log.debug("{} {} {}", message, message, message);
+            log.debug("{} {} {} {}", message, message, message, message);
+            log.debug(() -> message);
+            log.atDebug().addKeyValue("key", message).log("event");
+            log.info(message);
+            log.info(message, T);
+            log.info("{}", message);
+            log.info("{} {}", message, message);
+            log.info("{} {} {}", message, message, message);
+            log.info("{} {} {} {}", message, message, message, message);
+            log.info(() -> message);
+            log.atInfo().addKeyValue("key", message).log("event");
+            log.warn(message);
+            log.warn(message, T);
+            log.warn("{}", message);
+            log.warn("{} {}", message, message);
+            log.warn("{} {} {}", message, message, message);
+            log.warn("{} {} {} {}", message, message, message, message);
+            log.warn(() -> message);
+            log.atWarn().addKeyValue("key", message).log("event");
+            log.error(message);
+            log.error(message, T);
+            log.error("{}", message);
+            log.error("{} {}", message, message);
+            log.error("{} {} {}", message, message, message);
+            log.error("{} {} {} {}", message, message, message, message);
+            log.error(() -> message);
+            log.atError().addKeyValue("key", message).log("event");
+            log.fatal(message);
+            log.fatal(message, T);
+            log.fatal("{}", message);
+            log.fatal("{} {}", message, message);
+            log.fatal("{} {} {}", message, message, message);
+            log.fatal("{} {} {} {}", message, message, message, message);
+            log.fatal(() -> message);
+            log.atFatal().addKeyValue("key", message).log("event");
+            assertEquals("Renderings by " + log.getClass().getName(), 0, message.renderings);
+        }
+    }
+}
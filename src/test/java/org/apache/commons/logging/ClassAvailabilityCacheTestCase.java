@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that {@link LogFactory#forNameOrNull(String, boolean, ClassLoader)} remembers missing classes.
+ */
+public class ClassAvailabilityCacheTestCase extends TestCase {
+
+    /**
+     * Counts the attempts to load a class.
+     */
+    private static final class CountingClassLoader extends ClassLoader {
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        CountingClassLoader() {
+            super(CountingClassLoader.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(MISSING_PACKAGE)) {
+                loadCount.incrementAndGet();
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+
+    private static final String MISSING_PACKAGE = "org.apache.commons.logging.missing.";
+
+    private static final String MISSING_CLASS = MISSING_PACKAGE + "MissingClass";
+
+    @Override
+    public void tearDown() throws Exception {
+        LogFactory.releaseAll();
+    }
+
+    public void testAvailableClass() {
+        assertSame(String.class, LogFactory.forNameOrNull(String.class.getName(), false, null));
+        assertSame(LogFactory.class, LogFactory.forNameOrNull(LogFactory.class.getName(), false, new CountingClassLoader()));
+    }
+
+    public void testMissingClassIsRemembered() {
+        final CountingClassLoader loader = new CountingClassLoader();
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, loader));
+        assertEquals(1, loader.loadCount.get());
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, loader));
+        assertEquals(1, loader.loadCount.get());
+        // other class loaders are not affected
+        final CountingClassLoader otherLoader = new CountingClassLoader();
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, otherLoader));
+        assertEquals(1, otherLoader.loadCount.get());
+    }
+
+    public void testRelease() {
+        final CountingClassLoader loader = new CountingClassLoader();
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, loader));
+        LogFactory.release(loader);
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, loader));
+        assertEquals(2, loader.loadCount.get());
+        LogFactory.releaseAll();
+        assertNull(LogFactory.forNameOrNull(MISSING_CLASS, true, loader));
+        assertEquals(3, loader.loadCount.get());
+    }
+}
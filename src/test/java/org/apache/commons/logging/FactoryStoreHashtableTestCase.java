@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Hashtable;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.impl.LogFactoryImpl;
+
+/**
+ * Tests the {@code Hashtable} published as {@link LogFactory#factories} when the factory store is not a {@code Hashtable}.
+ */
+public class FactoryStoreHashtableTestCase extends TestCase {
+
+    private URLClassLoader loader;
+
+    private ClassLoader originalContextClassLoader;
+
+    private LogFactory getFactory() {
+        Thread.currentThread().setContextClassLoader(loader);
+        try {
+            return LogFactory.getFactory();
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        assertNotSame("Not a view", Hashtable.class, LogFactory.factories.getClass());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        LogFactory.releaseAll();
+        loader.close();
+    }
+
+    public void testClone() {
+        final LogFactory factory = getFactory();
+        final Object clone = LogFactory.factories.clone();
+        assertSame(Hashtable.class, clone.getClass());
+        assertSame(factory, ((Hashtable<?, ?>) clone).get(loader));
+        assertEquals(clone, LogFactory.factories);
+        assertEquals(clone.hashCode(), LogFactory.factories.hashCode());
+    }
+
+    public void testCompoundWrites() {
+        final LogFactory factory1 = new LogFactoryImpl();
+        final LogFactory factory2 = new LogFactoryImpl();
+        assertNull(LogFactory.factories.putIfAbsent(loader, factory1));
+        assertSame(factory1, getFactory());
+        assertSame(factory1, LogFactory.factories.putIfAbsent(loader, factory2));
+        assertSame(factory1, LogFactory.factories.getOrDefault(loader, factory2));
+        assertFalse(LogFactory.factories.replace(loader, factory2, factory1));
+        assertTrue(LogFactory.factories.replace(loader, factory1, factory2));
+        assertSame(factory2, getFactory());
+        assertSame(factory1, LogFactory.factories.merge(loader, factory1, (oldValue, value) -> value));
+        assertSame(factory1, getFactory());
+        assertFalse(LogFactory.factories.remove(loader, factory2));
+        assertTrue(LogFactory.factories.remove(loader, factory1));
+        assertNull(LogFactory.factories.getOrDefault(loader, null));
+        assertSame(factory2, LogFactory.factories.computeIfAbsent(loader, key -> factory2));
+        assertSame(factory2, getFactory());
+        assertNull(LogFactory.factories.computeIfPresent(loader, (key, value) -> null));
+        assertFalse(LogFactory.factories.containsKey(loader));
+    }
+
+    public void testViews() {
+        final LogFactory factory = getFactory();
+        assertTrue(LogFactory.factories.containsValue(factory));
+        final LogFactory[] seen = new LogFactory[1];
+        LogFactory.factories.forEach((key, value) -> {
+            if (key == loader) {
+                seen[0] = value;
+            }
+        });
+        assertSame(factory, seen[0]);
+        try {
+            LogFactory.factories.keySet().remove(loader);
+            fail("The key set is a snapshot");
+        } catch (final UnsupportedOperationException e) {
+            // expected
+        }
+        assertSame(factory, getFactory());
+    }
+}
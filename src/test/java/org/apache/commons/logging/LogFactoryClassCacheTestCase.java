@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.apache.commons.logging.impl.NoOpLog;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the per-class cache of {@link LogFactory#getLog(Class)}.
+ */
+public class LogFactoryClassCacheTestCase extends TestCase {
+
+    /**
+     * A factory returning a new logger on each call.
+     */
+    public static final class NonCachingLogFactory extends LogFactory {
+
+        @Override
+        public Object getAttribute(final String name) {
+            return null;
+        }
+
+        @Override
+        public String[] getAttributeNames() {
+            return new String[0];
+        }
+
+        @Override
+        public Log getInstance(final Class<?> clazz) {
+            return getInstance(clazz.getName());
+        }
+
+        @Override
+        public Log getInstance(final String name) {
+            return new NoOpLog(name);
+        }
+
+        @Override
+        public void release() {
+            // nothing to release
+        }
+
+        @Override
+        public void removeAttribute(final String name) {
+            // no attributes
+        }
+
+        @Override
+        public void setAttribute(final String name, final Object value) {
+            // no attributes
+        }
+    }
+
+    private ClassLoader originalContextClassLoader;
+
+    private Log getLog(final ClassLoader contextClassLoader, final Class<?> clazz) {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        try {
+            return LogFactory.getLog(clazz);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        LogFactory.releaseAll();
+    }
+
+    public void testContextClassLoaders() throws Exception {
+        try (URLClassLoader loader1 = new URLClassLoader(new URL[0], getClass().getClassLoader());
+                URLClassLoader loader2 = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            final Log log1 = getLog(loader1, getClass());
+            final Log log2 = getLog(loader2, getClass());
+            assertSame(log1, getLog(loader1, getClass()));
+            assertSame(log2, getLog(loader2, getClass()));
+            Thread.currentThread().setContextClassLoader(loader2);
+            assertSame(log2, LogFactory.getFactory().getInstance(getClass()));
+        }
+    }
+
+    public void testNonCachingFactory() throws Exception {
+        final Path dir = Files.createTempDirectory("commons-logging");
+        try {
+            final Properties props = new Properties();
+            props.setProperty(LogFactory.FACTORY_PROPERTY, NonCachingLogFactory.class.getName());
+            try (OutputStream out = Files.newOutputStream(dir.resolve(LogFactory.FACTORY_PROPERTIES))) {
+                props.store(out, null);
+            }
+            try (URLClassLoader loader = new URLClassLoader(new URL[] { dir.toUri().toURL() }, getClass().getClassLoader())) {
+                final Log log = getLog(loader, getClass());
+                assertTrue(log instanceof NoOpLog);
+                assertNotSame(log, getLog(loader, getClass()));
+            }
+        } finally {
+            Files.delete(dir.resolve(LogFactory.FACTORY_PROPERTIES));
+            Files.delete(dir);
+        }
+    }
+
+    public void testRelease() {
+        final Log log = LogFactory.getLog(getClass());
+        assertSame(log, LogFactory.getLog(getClass()));
+        LogFactory.releaseAll();
+        final Log newLog = LogFactory.getLog(getClass());
+        assertSame(newLog, LogFactory.getFactory().getInstance(getClass()));
+        assertSame(newLog, LogFactory.getLog(getClass()));
+    }
+
+    public void testSameAsFactory() {
+        final Log log = LogFactory.getLog(getClass());
+        assertSame(log, LogFactory.getFactory().getInstance(getClass()));
+        assertSame(log, LogFactory.getLog(getClass()));
+        assertNotSame(log, LogFactory.getLog(String.class));
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.impl.LogFactoryImpl;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that concurrent calls to {@link LogFactory#getFactory()} for a new context class loader
+ * run the discovery only once.
+ */
+public class LogFactorySingleFlightTestCase extends TestCase {
+
+    /**
+     * Factory named in {@code singleflight/commons-logging.properties}, slow to construct.
+     */
+    public static class SlowLogFactory extends LogFactoryImpl {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public SlowLogFactory() throws InterruptedException {
+            INSTANCES.incrementAndGet();
+            Thread.sleep(500);
+        }
+    }
+
+    private static final int THREAD_COUNT = 8;
+
+    @Override
+    public void tearDown() throws Exception {
+        LogFactory.releaseAll();
+    }
+
+    public void testConcurrentDiscovery() throws Exception {
+        final URL url = getClass().getClassLoader().getResource("org/apache/commons/logging/singleflight/");
+        assertNotNull(url);
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { url }, getClass().getClassLoader())) {
+            SlowLogFactory.INSTANCES.set(0);
+            final CountDownLatch startSignal = new CountDownLatch(1);
+            final LogFactory[] factories = new LogFactory[THREAD_COUNT];
+            final Thread[] threads = new Thread[THREAD_COUNT];
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final int index = i;
+                threads[i] = new Thread(() -> {
+                    Thread.currentThread().setContextClassLoader(loader);
+                    try {
+                        startSignal.await();
+                        factories[index] = LogFactory.getFactory();
+                    } catch (final InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                threads[i].start();
+            }
+            startSignal.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+
+            // Each discovery would construct its own factory
+            assertEquals("Discoveries", 1, SlowLogFactory.INSTANCES.get());
+            assertTrue(factories[0] instanceof SlowLogFactory);
+            for (final LogFactory factory : factories) {
+                assertSame(factories[0], factory);
+            }
+        }
+    }
+}
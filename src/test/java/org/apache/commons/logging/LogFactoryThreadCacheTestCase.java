@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the per-thread cache of the last factory returned by {@link LogFactory#getFactory()}.
+ */
+public class LogFactoryThreadCacheTestCase extends TestCase {
+
+    private static final long MAX_WAIT_FOR_REF_NULLED_BY_GC = 15_000;
+
+    private ClassLoader originalContextClassLoader;
+
+    private LogFactory getFactory(final ClassLoader contextClassLoader) {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        try {
+            return LogFactory.getFactory();
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    private URLClassLoader newLoader() {
+        return new URLClassLoader(new URL[0], getClass().getClassLoader());
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        LogFactory.releaseAll();
+    }
+
+    public void testAlternatingLoaders() throws Exception {
+        try (URLClassLoader loader1 = newLoader();
+                URLClassLoader loader2 = newLoader()) {
+            final LogFactory factory1 = getFactory(loader1);
+            final LogFactory factory2 = getFactory(loader2);
+            assertNotSame(factory1, factory2);
+            assertSame(factory1, getFactory(loader1));
+            assertSame(factory2, getFactory(loader2));
+            assertSame(factory1, getFactory(loader1));
+        }
+    }
+
+    public void testDoesNotPinContextClassLoader() throws Exception {
+        URLClassLoader loader = newLoader();
+        final WeakReference<ClassLoader> loaderRef = new WeakReference<>(loader);
+        assertSame(getFactory(loader), getFactory(loader));
+        loader.close();
+        loader = null;
+
+        final long start = System.currentTimeMillis();
+        while (loaderRef.get() != null) {
+            if (System.currentTimeMillis() - start > MAX_WAIT_FOR_REF_NULLED_BY_GC) {
+                fail("After waiting " + MAX_WAIT_FOR_REF_NULLED_BY_GC + "ms, the context class loader is still reachable.");
+            }
+            System.gc();
+            Thread.sleep(100);
+        }
+    }
+
+    public void testOtherThreadSeesRelease() throws Exception {
+        try (URLClassLoader loader = newLoader()) {
+            final LogFactory factory = getFactory(loader);
+            final LogFactory[] seen = new LogFactory[2];
+            final Thread thread = new Thread(() -> {
+                Thread.currentThread().setContextClassLoader(loader);
+                seen[0] = LogFactory.getFactory();
+                LogFactory.release(loader);
+                seen[1] = LogFactory.getFactory();
+            });
+            thread.start();
+            thread.join();
+            assertSame(factory, seen[0]);
+            assertNotSame(factory, seen[1]);
+            assertSame(seen[1], getFactory(loader));
+        }
+    }
+
+    public void testRelease() throws Exception {
+        try (URLClassLoader loader = newLoader()) {
+            final LogFactory factory = getFactory(loader);
+            assertSame(factory, getFactory(loader));
+            LogFactory.release(loader);
+            final LogFactory newFactory = getFactory(loader);
+            assertNotSame(factory, newFactory);
+            assertSame(newFactory, getFactory(loader));
+        }
+    }
+
+    public void testReleaseAll() throws Exception {
+        try (URLClassLoader loader = newLoader()) {
+            final LogFactory factory = getFactory(loader);
+            assertSame(factory, getFactory(loader));
+            LogFactory.releaseAll();
+            assertNotSame(factory, getFactory(loader));
+        }
+    }
+}
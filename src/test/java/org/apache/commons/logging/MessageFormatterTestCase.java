@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link MessageFormatter}.
+ */
+public class MessageFormatterTestCase extends TestCase {
+
+    public void testArrays() {
+        assertEquals("a [1, 2] b", MessageFormatter.format("a {} b", new int[] { 1, 2 }));
+        assertEquals("[x, [y]] [true]", MessageFormatter.format("{} {}", new Object[] { "x", new String[] { "y" } }, new boolean[] { true }));
+    }
+
+    public void testBrokenToString() {
+        final Object broken = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("broken");
+            }
+        };
+        final String message = MessageFormatter.format("a {} b", broken);
+        assertTrue(message, message.startsWith("a ["));
+        assertTrue(message, message.contains("IllegalStateException: broken"));
+        assertTrue(message, message.endsWith("] b"));
+    }
+
+    public void testEscapedPlaceholder() {
+        assertEquals("a {} b 1", MessageFormatter.format("a \\{} b {}", 1));
+        assertEquals("a \\1 b", MessageFormatter.format("a \\\\{} b", 1));
+        assertEquals(1, MessageFormatter.countPlaceholders("a \\{} b {}"));
+    }
+
+    public void testFixedArity() {
+        assertEquals("a 1", MessageFormatter.format("a {}", 1));
+        assertEquals("a 1 2", MessageFormatter.format("a {} {}", 1, 2));
+        assertEquals("a 1 2 3", MessageFormatter.format("a {} {} {}", 1, 2, 3));
+        assertEquals("1 2 3 4", MessageFormatter.format("{} {} {} {}", 1, 2, 3, 4));
+    }
+
+    public void testFormatTo() {
+        final StringBuilder buffer = new StringBuilder("> ");
+        MessageFormatter.formatTo(buffer, "{}+{}={}", 1, 2, 3);
+        assertEquals("> 1+2=3", buffer.toString());
+    }
+
+    public void testMissingArguments() {
+        assertEquals("a 1 {}", MessageFormatter.format("a {} {}", 1));
+        assertEquals("a 1", MessageFormatter.format("a {}", 1, 2));
+        assertEquals("a null", MessageFormatter.format("a {}", (Object) null));
+    }
+
+    public void testNoPlaceholder() {
+        final String pattern = "no placeholder";
+        assertSame(pattern, MessageFormatter.format(pattern, 1));
+        assertSame(pattern, MessageFormatter.format(pattern, (Object[]) null));
+        assertNull(MessageFormatter.format(null, 1));
+    }
+
+    public void testPrimitives() {
+        assertEquals("a 42 b", MessageFormatter.format("a {} b", 42L));
+        assertEquals("a 1.5", MessageFormatter.format("a {}", 1.5d));
+        assertEquals("a 0.1", MessageFormatter.format("a {}", 0.1f));
+        assertEquals("a x", MessageFormatter.format("a {}", 'x'));
+        assertEquals("a {} 7 {}", MessageFormatter.format("a \\{} {} {}", 7L));
+        assertNull(MessageFormatter.format(null, 1L));
+        final StringBuilder buffer = new StringBuilder("> ");
+        MessageFormatter.formatTo(buffer, "{}", Long.MIN_VALUE);
+        assertEquals("> " + Long.MIN_VALUE, buffer.toString());
+    }
+
+    public void testThrowable() {
+        final Throwable t = new DummyException();
+        assertSame(t, MessageFormatter.getThrowable("a", t));
+        assertNull(MessageFormatter.getThrowable("a {}", t));
+        assertSame(t, MessageFormatter.getThrowable("a {}", 1, t));
+        assertNull(MessageFormatter.getThrowable("a {} {}", 1, t));
+        assertSame(t, MessageFormatter.getThrowable("a {} {}", 1, 2, t));
+        assertSame(t, MessageFormatter.getThrowable("a {} {} {}", 1, 2, 3, t));
+        assertNull(MessageFormatter.getThrowable("a {}", t, 1));
+        assertNull(MessageFormatter.getThrowable("a", (Object[]) null));
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.PathableClassLoader;
+import org.apache.commons.logging.impl.Jdk13LumberjackLogger;
+import org.apache.commons.logging.impl.Jdk14Logger;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures the cost of logging at an enabled level through the JDK logging adapters, which locate their callers.
+ * <p>
+ * The adapters are loaded from the multi-release jar, which locates the callers with a {@code StackWalker} on Java 9
+ * and later, and from the classes compiled for Java 8, which take a snapshot of the whole stack. Both run in their
+ * own {@link PathableClassLoader}, together with {@link Loop}. The events are sent to a handler reading their source
+ * and discarding them.
+ * </p>
+ * <p>
+ * This class is not run with the tests. Run it with {@code mvn verify -Pbenchmark}; the system property
+ * {@code benchmark.iterations} controls the number of samples.
+ * </p>
+ */
+public class CallerLocationBenchmark extends TestCase {
+
+    /**
+     * Reads the source of the events, like a formatter would, and discards them.
+     */
+    private static final class SourceHandler extends Handler {
+
+        private int sources;
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+        @Override
+        public void publish(final LogRecord record) {
+            if (record.getSourceClassName() != null && record.getSourceMethodName() != null) {
+                sources++;
+            }
+        }
+    }
+
+    /**
+     * The measured loops, loaded in the class loader of each build.
+     */
+    public static final class Loop {
+
+        /**
+         * Calls {@code info(Object)} on a {@link Jdk14Logger}.
+         *
+         * @return the duration of the loop in nanoseconds
+         */
+        public static long jdk14Info(final String name, final int count) {
+            final Log log = new Jdk14Logger(name);
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                log.info("Iteration");
+            }
+            return System.nanoTime() - start;
+        }
+
+        /**
+         * Calls {@code info(Object)} on a new {@link Jdk13LumberjackLogger} each time, since the adapter only locates
+         * its caller at its first event.
+         *
+         * @return the duration of the loop in nanoseconds
+         */
+        @SuppressWarnings("deprecation")
+        public static long lumberjackFirstInfo(final String name, final int count) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                new Jdk13LumberjackLogger(name).info("Iteration");
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * The logical libraries of the builds of Commons Logging to compare.
+     */
+    private static final String[] BUILDS = { "commons-logging", "commons-logging-java8" };
+
+    private static final String[] LOOPS = { "jdk14Info", "lumberjackFirstInfo" };
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+
+    /**
+     * Number of calls in each sample.
+     */
+    private static final int CALLS = 1_000_000;
+
+    /**
+     * Number of samples run before measuring, to let the JIT compiler do its work.
+     */
+    private static final int WARMUP = 5;
+
+    private static double median(final double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Measures each loop of {@link #LOOPS} for a build.
+     *
+     * @return the median cost of a call of each loop, in nanoseconds
+     */
+    private double[] measure(final String build) throws Exception {
+        // Held in a local variable, since JDK logging only keeps weak references to its loggers
+        final Logger logger = Logger.getLogger(getClass().getName());
+        final SourceHandler handler = new SourceHandler();
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        try (PathableClassLoader loader = new PathableClassLoader(null)) {
+            loader.addLogicalLib(build);
+            loader.addLogicalLib("testclasses");
+            final Class<?> loopClass = loader.loadClass(Loop.class.getName());
+            final double[] costs = new double[LOOPS.length];
+            for (int i = 0; i < LOOPS.length; i++) {
+                final Method loop = loopClass.getMethod(LOOPS[i], String.class, int.class);
+                for (int j = 0; j < WARMUP; j++) {
+                    loop.invoke(null, logger.getName(), CALLS);
+                }
+                final double[] samples = new double[ITERATIONS];
+                for (int j = 0; j < ITERATIONS; j++) {
+                    samples[j] = (double) (Long) loop.invoke(null, logger.getName(), CALLS) / CALLS;
+                }
+                costs[i] = median(samples);
+            }
+            assertEquals("Sources located", (long) (WARMUP + ITERATIONS) * CALLS * LOOPS.length, handler.sources);
+            return costs;
+        } finally {
+            logger.removeHandler(handler);
+            logger.setUseParentHandlers(true);
+            logger.setLevel(null);
+        }
+    }
+
+    public void testEnabledInfo() throws Exception {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("%nEnabled info level on Java %s, median of %d samples of %,d calls (nanoseconds per call)%n",
+                System.getProperty("java.version"), ITERATIONS, CALLS));
+        report.append(String.format("%-24s", "build"));
+        for (final String loop : LOOPS) {
+            report.append(String.format("%24s", loop));
+        }
+        report.append(System.lineSeparator());
+        for (final String build : BUILDS) {
+            report.append(String.format("%-24s", build));
+            for (final double cost : measure(build)) {
+                report.append(String.format("%24.3f", cost));
+            }
+            report.append(System.lineSeparator());
+        }
+        System.out.print(report);
+    }
+}
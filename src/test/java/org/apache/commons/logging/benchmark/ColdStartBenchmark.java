@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.logging.PathableClassLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures the cold start of Commons Logging for each supported binding.
+ * <p>
+ * Every sample loads Commons Logging and the logging backend in a new {@link PathableClassLoader}, so
+ * that nothing is cached from a previous sample, and reports:
+ * </p>
+ * <ul>
+ * <li>the cold discovery latency: initializing {@code LogFactory} and running {@code getFactory()},</li>
+ * <li>the time to first log: the above, plus obtaining a {@code Log} and logging a first message,</li>
+ * <li>a split of that time across the properties scan, the {@code ServiceLoader} lookup, the
+ * reflective creation of the factory and the backend initialization. The split is measured in a
+ * separate pass with diagnostics enabled, using the diagnostic messages as phase boundaries, so it
+ * includes the cost of diagnostics.</li>
+ * </ul>
+ * <p>
+ * A second benchmark starts several threads on the same new class loader at once, to measure
+ * concurrent cold starts.
+ * </p>
+ * <p>
+ * This class is not run with the tests. Run it with {@code mvn verify -Pbenchmark}; the system
+ * properties {@code benchmark.iterations} and {@code benchmark.threads} control the number of
+ * samples and threads.
+ * </p>
+ */
+public class ColdStartBenchmark extends TestCase {
+
+    /**
+     * A logging setup to measure.
+     */
+    private static final class Binding {
+
+        final String name;
+        final String[] libs;
+        final String logClass;
+        final String expectedLog;
+
+        Binding(final String name, final String logClass, final String expectedLog, final String... libs) {
+            this.name = name;
+            this.logClass = logClass;
+            this.expectedLog = expectedLog;
+            this.libs = libs;
+        }
+    }
+
+    /**
+     * Records the time at which each diagnostic message is printed.
+     */
+    private static final class DiagnosticsRecorder extends PrintStream {
+
+        final List<Long> times = new ArrayList<>();
+        final List<String> messages = new ArrayList<>();
+
+        DiagnosticsRecorder() {
+            super(new OutputStream() {
+                @Override
+                public void write(final byte[] b, final int off, final int len) {
+                    // discard
+                }
+
+                @Override
+                public void write(final int b) {
+                    // discard
+                }
+            });
+        }
+
+        /**
+         * Gets the index of the first message containing the given text, starting at the given index.
+         */
+        synchronized int indexOf(final String text, final int from) {
+            for (int i = Math.max(from, 0); i < messages.size(); i++) {
+                if (messages.get(i).contains(text)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public synchronized void println(final String x) {
+            times.add(System.nanoTime());
+            messages.add(x);
+        }
+    }
+
+    private static final Binding[] BINDINGS = {
+            new Binding("log4j-api+core", null, "org.apache.commons.logging.impl.Log4jApiLogFactory$Log4j2Log",
+                    "log4j-api", "log4j-core"),
+            new Binding("slf4j+logback", null, "org.apache.commons.logging.impl.Slf4jLogFactory$Slf4jLocationAwareLog",
+                    "slf4j-api", "logback-classic", "logback-core"),
+            new Binding("log4j-to-slf4j", null, "org.apache.commons.logging.impl.Slf4jLogFactory$Slf4jLocationAwareLog",
+                    "log4j-api", "log4j-to-slf4j", "slf4j-api", "logback-classic", "logback-core"),
+            new Binding("JUL", null, "org.apache.commons.logging.impl.Jdk14Logger"),
+            new Binding("SimpleLog", "org.apache.commons.logging.impl.SimpleLog", "org.apache.commons.logging.impl.SimpleLog") };
+
+    private static final String LOG_PROPERTY = "org.apache.commons.logging.Log";
+
+    private static final String[] PHASES = { "class init", "properties", "ServiceLoader", "reflection", "backend init", "first log" };
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 8);
+
+    private static long median(final long[] values) {
+        final long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static PathableClassLoader newLoader(final Binding binding) {
+        final PathableClassLoader loader = new PathableClassLoader(null);
+        loader.addLogicalLib("commons-logging");
+        loader.addLogicalLib(binding.libs);
+        return loader;
+    }
+
+    private static String toMicros(final long nanos) {
+        return String.format("%,12d", TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    /**
+     * Runs one cold start in a new class loader.
+     *
+     * @return the duration of each phase of {@link #PHASES} in nanoseconds; without tracing, the
+     *         discovery is reported as a whole in the "properties" slot.
+     */
+    private long[] coldStart(final Binding binding, final boolean trace) throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        final PrintStream err = System.err;
+        final DiagnosticsRecorder recorder = new DiagnosticsRecorder();
+        if (binding.logClass != null) {
+            System.setProperty(LOG_PROPERTY, binding.logClass);
+        }
+        if (trace) {
+            System.setProperty(LogFactory.DIAGNOSTICS_DEST_PROPERTY, "STDERR");
+            System.setErr(recorder);
+        }
+        try (PathableClassLoader loader = newLoader(binding)) {
+            thread.setContextClassLoader(loader);
+            final long start = System.nanoTime();
+            final Class<?> logFactoryClass = Class.forName(LogFactory.class.getName(), true, loader);
+            final long classInit = System.nanoTime();
+            final Method getFactory = logFactoryClass.getMethod("getFactory");
+            final Method getInstance = logFactoryClass.getMethod("getInstance", String.class);
+            final Method error = loader.loadClass(Log.class.getName()).getMethod("error", Object.class);
+
+            final long discoveryStart = System.nanoTime();
+            final Object factory = getFactory.invoke(null);
+            final long discoveryEnd = System.nanoTime();
+            final Object log = getInstance.invoke(factory, getClass().getName());
+            final long backendEnd = System.nanoTime();
+            error.invoke(log, "First message from " + binding.name);
+            final long firstLogEnd = System.nanoTime();
+            assertEquals(binding.expectedLog, log.getClass().getName());
+
+            final long[] phases = new long[PHASES.length];
+            phases[0] = classInit - start;
+            phases[4] = backendEnd - discoveryEnd;
+            phases[5] = firstLogEnd - backendEnd;
+            if (trace) {
+                final int lookup = recorder.indexOf("[LOOKUP] LogFactory implementation requested for the first time", 0);
+                final int systemProperty = recorder.indexOf("[LOOKUP] Looking for system property", lookup);
+                final int serviceLoader = recorder.indexOf("[LOOKUP] Using ServiceLoader", systemProperty);
+                assertTrue("Missing diagnostic messages for " + binding.name,
+                        lookup >= 0 && systemProperty >= 0 && serviceLoader >= 0 && serviceLoader + 1 < recorder.times.size());
+                final long serviceLoaderEnd = recorder.times.get(serviceLoader + 1);
+                phases[1] = recorder.times.get(systemProperty) - recorder.times.get(lookup);
+                phases[2] = serviceLoaderEnd - recorder.times.get(serviceLoader);
+                phases[3] = discoveryEnd - serviceLoaderEnd;
+            } else {
+                phases[1] = discoveryEnd - discoveryStart;
+            }
+            return phases;
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            System.setErr(err);
+            System.clearProperty(LogFactory.DIAGNOSTICS_DEST_PROPERTY);
+            System.clearProperty(LOG_PROPERTY);
+        }
+    }
+
+    /**
+     * Starts {@link #THREADS} threads calling {@code LogFactory.getLog} at once on the same new class loader.
+     *
+     * @return the wall clock time and the highest latency seen by a thread, in nanoseconds.
+     */
+    private long[] parallelColdStart(final Binding binding) throws Exception {
+        if (binding.logClass != null) {
+            System.setProperty(LOG_PROPERTY, binding.logClass);
+        }
+        try (PathableClassLoader loader = newLoader(binding)) {
+            // load, but do not initialize, LogFactory: the first thread will
+            final Method getLog = Class.forName(LogFactory.class.getName(), false, loader).getMethod("getLog", String.class);
+            final CountDownLatch startSignal = new CountDownLatch(1);
+            final long[] latencies = new long[THREADS];
+            final Throwable[] failures = new Throwable[THREADS];
+            final Thread[] threads = new Thread[THREADS];
+            for (int i = 0; i < THREADS; i++) {
+                final int index = i;
+                threads[i] = new Thread(() -> {
+                    try {
+                        startSignal.await();
+                        final long start = System.nanoTime();
+                        getLog.invoke(null, getClass().getName());
+                        latencies[index] = System.nanoTime() - start;
+                    } catch (final Throwable t) {
+                        failures[index] = t;
+                    }
+                });
+                threads[i].setContextClassLoader(loader);
+                threads[i].start();
+            }
+            final long start = System.nanoTime();
+            startSignal.countDown();
+            for (final Thread thread : threads) {
+                thread.join();
+            }
+            final long wallTime = System.nanoTime() - start;
+            for (final Throwable failure : failures) {
+                if (failure != null) {
+                    throw new AssertionError("Cold start failed for " + binding.name, failure);
+                }
+            }
+            return new long[] { wallTime, Arrays.stream(latencies).max().getAsLong() };
+        } finally {
+            System.clearProperty(LOG_PROPERTY);
+        }
+    }
+
+    public void testColdStart() throws Exception {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("%nCold start, median of %d samples (microseconds)%n", ITERATIONS));
+        report.append(String.format("%-16s%16s%16s%n", "binding", "discovery", "first log"));
+        final StringBuilder split = new StringBuilder();
+        split.append(String.format("%nPhase split with diagnostics enabled, median of %d samples (microseconds)%n", ITERATIONS));
+        split.append(String.format("%-16s", "binding"));
+        for (final String phase : PHASES) {
+            split.append(String.format("%16s", phase));
+        }
+        split.append(System.lineSeparator());
+        for (final Binding binding : BINDINGS) {
+            final long[] discovery = new long[ITERATIONS];
+            final long[] firstLog = new long[ITERATIONS];
+            final long[][] phases = new long[PHASES.length][ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) {
+                final long[] sample = coldStart(binding, false);
+                discovery[i] = sample[0] + sample[1];
+                firstLog[i] = Arrays.stream(sample).sum();
+                final long[] traced = coldStart(binding, true);
+                for (int phase = 0; phase < PHASES.length; phase++) {
+                    phases[phase][i] = traced[phase];
+                }
+            }
+            report.append(String.format("%-16s    %s    %s%n", binding.name, toMicros(median(discovery)), toMicros(median(firstLog))));
+            split.append(String.format("%-16s", binding.name));
+            for (final long[] phase : phases) {
+                split.append(String.format("    %s", toMicros(median(phase))));
+            }
+            split.append(System.lineSeparator());
+        }
+        System.out.print(report);
+        System.out.print(split);
+    }
+
+    public void testParallelColdStart() throws Exception {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("%nParallel cold start of %d threads, median of %d samples (microseconds)%n", THREADS, ITERATIONS));
+        report.append(String.format("%-16s%16s%16s%n", "binding", "wall time", "max latency"));
+        for (final Binding binding : BINDINGS) {
+            final long[] wallTimes = new long[ITERATIONS];
+            final long[] maxLatencies = new long[ITERATIONS];
+            for (int i = 0; i < ITERATIONS; i++) {
+                final long[] sample = parallelColdStart(binding);
+                wallTimes[i] = sample[0];
+                maxLatencies[i] = sample[1];
+            }
+            report.append(String.format("%-16s    %s    %s%n", binding.name, toMicros(median(wallTimes)), toMicros(median(maxLatencies))));
+        }
+        System.out.print(report);
+    }
+}
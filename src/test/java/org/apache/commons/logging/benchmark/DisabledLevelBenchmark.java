@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.logging.PathableClassLoader;
+
+import junit.framework.TestCase;
+
+/**
+ * Measures the cost of logging at a disabled level in a tight loop, for each supported binding.
+ * <p>
+ * Every binding runs in its own {@link PathableClassLoader}, together with {@link Loop}, so that the calls to
+ * {@code Log} are compiled against that binding only. The backends are configured to disable the trace level.
+ * </p>
+ * <p>
+ * This class is not run with the tests. Run it with {@code mvn verify -Pbenchmark}; the system property
+ * {@code benchmark.iterations} controls the number of samples.
+ * </p>
+ */
+public class DisabledLevelBenchmark extends TestCase {
+
+    /**
+     * A logging setup to measure.
+     */
+    private static final class Binding {
+
+        final String name;
+        final String[] libs;
+        final String logClass;
+
+        Binding(final String name, final String logClass, final String... libs) {
+            this.name = name;
+            this.logClass = logClass;
+            this.libs = libs;
+        }
+    }
+
+    /**
+     * The measured loops, loaded in the class loader of each binding.
+     */
+    public static final class Loop {
+
+        /**
+         * Calls {@code isTraceEnabled()}.
+         *
+         * @return the duration of the loop in nanoseconds
+         */
+        public static long isTraceEnabled(final Log log, final int count) {
+            int enabled = 0;
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                if (log.isTraceEnabled()) {
+                    enabled++;
+                }
+            }
+            final long duration = System.nanoTime() - start;
+            if (enabled != 0) {
+                // JUnit is not visible from the class loader of the binding
+                throw new IllegalStateException("Trace enabled");
+            }
+            return duration;
+        }
+
+        /**
+         * Calls {@code trace(Object)}.
+         *
+         * @return the duration of the loop in nanoseconds
+         */
+        public static long trace(final Log log, final int count) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                log.trace("Iteration");
+            }
+            return System.nanoTime() - start;
+        }
+
+        /**
+         * Calls {@code trace(String, Object)}.
+         *
+         * @return the duration of the loop in nanoseconds
+         */
+        public static long traceParameterized(final Log log, final int count) {
+            final long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                log.trace("Iteration {}", log);
+            }
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static final Binding[] BINDINGS = {
+            new Binding("log4j-api+core", null, "log4j-api", "log4j-core"),
+            new Binding("slf4j+logback", null, "slf4j-api", "logback-classic", "logback-core"),
+            new Binding("JUL", null),
+            new Binding("SimpleLog", "org.apache.commons.logging.impl.SimpleLog") };
+
+    private static final String[] LOOPS = { "isTraceEnabled", "trace", "traceParameterized" };
+
+    private static final String LOG_PROPERTY = "org.apache.commons.logging.Log";
+
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 10);
+
+    /**
+     * Number of calls in each sample.
+     */
+    private static final int CALLS = 10_000_000;
+
+    /**
+     * Number of samples run before measuring, to let the JIT compiler do its work.
+     */
+    private static final int WARMUP = 10;
+
+    private static double median(final double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    /**
+     * Measures each loop of {@link #LOOPS} for a binding.
+     *
+     * @return the median cost of a call of each loop, in nanoseconds
+     */
+    private double[] measure(final Binding binding) throws Exception {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        if (binding.logClass != null) {
+            System.setProperty(LOG_PROPERTY, binding.logClass);
+        }
+        // Configurations disabling the trace level, rather than the ones of the tests
+        System.setProperty("log4j2.configurationFile", "org/apache/commons/logging/benchmark/log4j2-benchmark.xml");
+        System.setProperty("logback.configurationFile", "org/apache/commons/logging/benchmark/logback-benchmark.xml");
+        try (PathableClassLoader loader = new PathableClassLoader(null)) {
+            loader.addLogicalLib("commons-logging");
+            loader.addLogicalLib("testclasses");
+            loader.addLogicalLib(binding.libs);
+            thread.setContextClassLoader(loader);
+            final Class<?> logClass = loader.loadClass(Log.class.getName());
+            final Object log = loader.loadClass(LogFactory.class.getName()).getMethod("getLog", String.class).invoke(null, getClass().getName());
+            final Class<?> loopClass = loader.loadClass(Loop.class.getName());
+            final double[] costs = new double[LOOPS.length];
+            for (int i = 0; i < LOOPS.length; i++) {
+                final Method loop = loopClass.getMethod(LOOPS[i], logClass, int.class);
+                for (int j = 0; j < WARMUP; j++) {
+                    loop.invoke(null, log, CALLS);
+                }
+                final double[] samples = new double[ITERATIONS];
+                for (int j = 0; j < ITERATIONS; j++) {
+                    samples[j] = (double) (Long) loop.invoke(null, log, CALLS) / CALLS;
+                }
+                costs[i] = median(samples);
+            }
+            return costs;
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            System.clearProperty("log4j2.configurationFile");
+            System.clearProperty("logback.configurationFile");
+            System.clearProperty(LOG_PROPERTY);
+        }
+    }
+
+    public void testDisabledTrace() throws Exception {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format("%nDisabled trace level, median of %d samples of %,d calls (nanoseconds per call)%n", ITERATIONS, CALLS));
+        report.append(String.format("%-16s", "binding"));
+        for (final String loop : LOOPS) {
+            report.append(String.format("%20s", loop));
+        }
+        report.append(System.lineSeparator());
+        for (final Binding binding : BINDINGS) {
+            report.append(String.format("%-16s", binding.name));
+            for (final double cost : measure(binding)) {
+                report.append(String.format("%20.3f", cost));
+            }
+            report.append(System.lineSeparator());
+        }
+        System.out.print(report);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.config;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.logging.PathableClassLoader;
+import org.apache.commons.logging.PathableTestSuite;
+
+/**
+ * Tests that the discovery index {@value LogFactory#BINDING_INDEX} is checked against the standard discovery when
+ * diagnostics are enabled.
+ * <p>
+ * The standard discovery picks the JUL factory, since only commons-logging is in the class path.
+ * </p>
+ */
+public class BindingIndexDiagnosticsTestCase extends TestCase {
+
+    /**
+     * Return the tests included in this test suite.
+     */
+    public static Test suite() throws Exception {
+        final PathableClassLoader containerLoader = new PathableClassLoader(null);
+        containerLoader.useExplicitLoader("junit.", Test.class.getClassLoader());
+        containerLoader.addLogicalLib("commons-logging");
+
+        final PathableClassLoader webappLoader = new PathableClassLoader(containerLoader);
+        webappLoader.addLogicalLib("testclasses");
+
+        final Class<?> testClass = webappLoader.loadClass(BindingIndexDiagnosticsTestCase.class.getName());
+        return new PathableTestSuite(testClass, webappLoader);
+    }
+
+    private File diagnostics;
+
+    private String getDiagnostics(final String dir) throws Exception {
+        // The directory itself may not be an entry of the jar of the test classes
+        final URL url = new URL(getClass().getResource(getClass().getSimpleName() + ".class"), dir + "/");
+        final ClassLoader originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        try (URLClassLoader loader = new URLClassLoader(new URL[] { url }, getClass().getClassLoader())) {
+            final long start = diagnostics.length();
+            Thread.currentThread().setContextClassLoader(loader);
+            LogFactory.getFactory();
+            final byte[] bytes = Files.readAllBytes(diagnostics.toPath());
+            return new String(bytes, (int) start, bytes.length - (int) start, StandardCharsets.UTF_8);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        diagnostics = File.createTempFile("diagnostics", ".txt");
+        diagnostics.deleteOnExit();
+        // Read when LogFactory is initialized by the first test
+        System.setProperty(LogFactory.DIAGNOSTICS_DEST_PROPERTY, diagnostics.getAbsolutePath());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        System.clearProperty(LogFactory.DIAGNOSTICS_DEST_PROPERTY);
+        LogFactory.releaseAll();
+    }
+
+    public void testIndexChecked() throws Exception {
+        final String output = getDiagnostics("julindex");
+        assertTrue(output, output.contains("matches the standard discovery"));
+        assertFalse(output, output.contains("may be out of date"));
+        final String outdated = getDiagnostics("index");
+        assertTrue(outdated, outdated.contains("names 'org.apache.commons.logging.impl.LogFactoryImpl', but the standard discovery picks "
+                + "'org.apache.commons.logging.impl.JulLogFactory': the index may be out of date."));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.config;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.logging.impl.LogFactoryImpl;
+import org.apache.commons.logging.impl.SimpleLog;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests the discovery index {@value LogFactory#BINDING_INDEX}.
+ */
+public class BindingIndexTestCase extends TestCase {
+
+    private ClassLoader originalContextClassLoader;
+
+    private LogFactory getFactory(final ClassLoader contextClassLoader) {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        try {
+            return LogFactory.getFactory();
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    private URLClassLoader newLoader(final String dir) {
+        final URL[] urls;
+        if (dir != null) {
+            final URL url = getClass().getResource(dir + "/");
+            assertNotNull(url);
+            urls = new URL[] { url };
+        } else {
+            urls = new URL[0];
+        }
+        return new URLClassLoader(urls, getClass().getClassLoader());
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        LogFactory.releaseAll();
+    }
+
+    public void testIndex() throws Exception {
+        try (URLClassLoader loader = newLoader("index")) {
+            final LogFactory factory = getFactory(loader);
+            assertEquals(LogFactoryImpl.class, factory.getClass());
+            assertEquals(SimpleLog.class.getName(), factory.getAttribute(LogFactoryImpl.LOG_PROPERTY));
+            assertTrue(factory.getInstance("BindingIndexTestCase") instanceof SimpleLog);
+        }
+    }
+
+    public void testStaleIndex() throws Exception {
+        try (URLClassLoader plainLoader = newLoader(null);
+                URLClassLoader staleLoader = newLoader("staleindex")) {
+            final LogFactory factory = getFactory(staleLoader);
+            assertEquals(getFactory(plainLoader).getClass(), factory.getClass());
+        }
+    }
+
+    public void testStaleLogIndex() throws Exception {
+        try (URLClassLoader plainLoader = newLoader(null);
+                URLClassLoader staleLoader = newLoader("stalelogindex")) {
+            final LogFactory factory = getFactory(staleLoader);
+            assertEquals(getFactory(plainLoader).getClass(), factory.getClass());
+            assertNull(factory.getAttribute(LogFactoryImpl.LOG_PROPERTY));
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Comparator;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests that parsed {@code commons-logging.properties} files are shared between context
+ * class loaders, and forgotten when they change or the class loader contributing them is released.
+ */
+public class ConfigurationFileCacheTestCase extends TestCase {
+
+    private static final String CONFIG_ID = "configId";
+
+    private ClassLoader originalContextClassLoader;
+
+    private Path tempDir;
+
+    private Path createConfigDir(final String name, final String configId) throws IOException {
+        final Path dir = Files.createDirectory(tempDir.resolve(name));
+        writeConfig(dir, configId);
+        return dir;
+    }
+
+    private Object getConfigId(final ClassLoader contextClassLoader) {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+        try {
+            return LogFactory.getFactory().getAttribute(CONFIG_ID);
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
+    private URLClassLoader newLoader(final Path dir, final ClassLoader parent) throws IOException {
+        return new URLClassLoader(dir != null ? new URL[] { dir.toUri().toURL() } : new URL[0], parent);
+    }
+
+    /**
+     * Overwrites the configuration file, keeping its modification time, so the change goes unnoticed.
+     */
+    private void rewriteConfig(final Path dir, final String configId) throws IOException {
+        final Path file = dir.resolve("commons-logging.properties");
+        final FileTime lastModified = Files.getLastModifiedTime(file);
+        writeConfig(dir, configId);
+        Files.setLastModifiedTime(file, lastModified);
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        tempDir = Files.createTempDirectory("commons-logging");
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        LogFactory.releaseAll();
+        try (Stream<Path> paths = Files.walk(tempDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    public void testChildFileForgottenOnRelease() throws Exception {
+        final Path dir = createConfigDir("child", "one");
+        try (URLClassLoader child = newLoader(dir, getClass().getClassLoader())) {
+            assertEquals("one", getConfigId(child));
+            rewriteConfig(dir, "two");
+            LogFactory.release(child);
+            assertEquals("two", getConfigId(child));
+        }
+    }
+
+    public void testModifiedFileReadAgain() throws Exception {
+        final Path dir = createConfigDir("redeployed", "one");
+        try (URLClassLoader parent = newLoader(dir, getClass().getClassLoader());
+                URLClassLoader child1 = newLoader(null, parent)) {
+            assertEquals("one", getConfigId(child1));
+            writeConfig(dir, "two");
+            final Path file = dir.resolve("commons-logging.properties");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+            // a new context class loader, as after redeploying a web application without releasing it
+            try (URLClassLoader child2 = newLoader(null, parent)) {
+                assertEquals("two", getConfigId(child2));
+            }
+        }
+    }
+
+    public void testSharedFileReadOnce() throws Exception {
+        final Path dir = createConfigDir("shared", "one");
+        try (URLClassLoader parent = newLoader(dir, getClass().getClassLoader());
+                URLClassLoader child1 = newLoader(null, parent);
+                URLClassLoader child2 = newLoader(null, parent)) {
+            assertEquals("one", getConfigId(child1));
+            rewriteConfig(dir, "two");
+            // the file of the parent is still cached
+            assertEquals("one", getConfigId(child2));
+            // releasing a child does not forget files of its parent
+            LogFactory.release(child1);
+            assertEquals("one", getConfigId(child1));
+            // releasing the parent does
+            LogFactory.release(parent);
+            LogFactory.release(child1);
+            assertEquals("two", getConfigId(child1));
+        }
+    }
+
+    private void writeConfig(final Path dir, final String configId) throws IOException {
+        final Properties props = new Properties();
+        props.setProperty(CONFIG_ID, configId);
+        try (OutputStream out = Files.newOutputStream(dir.resolve("commons-logging.properties"))) {
+            props.store(out, null);
+        }
+    }
+}
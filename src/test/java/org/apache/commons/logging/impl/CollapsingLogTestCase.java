@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link CollapsingLog}.
+ */
+public class CollapsingLogTestCase extends TestCase {
+
+    /**
+     * Records the messages and causes logged.
+     */
+    private static final class RecordingLog extends SimpleLog {
+
+        private static final long serialVersionUID = 1L;
+
+        final List<String> messages = new ArrayList<>();
+
+        final List<Throwable> causes = new ArrayList<>();
+
+        RecordingLog() {
+            super("test");
+            setLevel(LOG_LEVEL_INFO);
+        }
+
+        @Override
+        protected void log(final int type, final Object message, final Throwable t) {
+            messages.add(String.valueOf(message));
+            causes.add(t);
+        }
+    }
+
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(10);
+
+    private RecordingLog delegate;
+
+    private Log log;
+
+    private long now;
+
+    private void logFailure(final int attempt) {
+        log.error("Attempt failed", new IllegalStateException("attempt " + attempt));
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        delegate = new RecordingLog();
+        now = 1000;
+        log = new CollapsingLog(delegate, WINDOW, () -> now);
+    }
+
+    public void testDecorate() {
+        final LogFactoryImpl factory = new LogFactoryImpl();
+        factory.setAttribute(LogFactory.COLLAPSE_WINDOW_PROPERTY, "1000");
+        factory.setAttribute(LogFactory.COLLAPSE_WINDOW_PROPERTY + ".a.b", "0");
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY, "10");
+        assertEquals(TimeUnit.SECONDS.toNanos(1), CollapsingLog.getWindow(factory, "x.Y"));
+        assertEquals(0, CollapsingLog.getWindow(factory, "a.b.C"));
+        final Log decorated = FilteringLog.decorate(factory, "x.Y", fqcn -> {
+            assertEquals(FilteringLog.FQCN, fqcn);
+            return delegate;
+        });
+        assertTrue(decorated instanceof CollapsingLog);
+        assertTrue(((FilteringLog) decorated).delegate instanceof RateLimitedLog);
+        assertSame(delegate, FilteringLog.unwrap(decorated));
+    }
+
+    public void testDifferentFingerprints() {
+        log.info("one");
+        log.warn("one");
+        log.info("two");
+        log.info("one", new IllegalStateException());
+        log.info("one", new IllegalArgumentException());
+        assertEquals(5, delegate.messages.size());
+    }
+
+    public void testEvictedRepeats() {
+        final int slot = CollapsingLog.slot(CollapsingLog.hash(FilteringLog.INFO, "event 0", null));
+        int other = 1;
+        while (CollapsingLog.slot(CollapsingLog.hash(FilteringLog.WARN, "event " + other, null)) != slot) {
+            other++;
+        }
+        log.info("event 0");
+        log.info("event 0");
+        log.info("event 0");
+        log.warn("event " + other);
+        log.info("event 0");
+        assertEquals(Arrays.asList("event 0", "event 0 [2 repeats collapsed]", "event " + other, "event 0"), delegate.messages);
+    }
+
+    public void testNotStringMessage() {
+        final Object message = new StringBuilder("builder");
+        log.info(message);
+        log.info(message);
+        log.info(() -> "supplied");
+        log.info(() -> "supplied");
+        assertEquals(Arrays.asList("builder", "builder", "supplied", "supplied"), delegate.messages);
+    }
+
+    public void testPattern() {
+        for (int i = 0; i < 5; i++) {
+            log.info("Retry {} of {}", i, 5);
+        }
+        now += WINDOW;
+        log.info("Retry {} of {}", 5, 5);
+        assertEquals(Arrays.asList("Retry 0 of 5", "Retry 5 of 5 [4 repeats collapsed]"), delegate.messages);
+    }
+
+    public void testRepeatedCauseInspected() {
+        final int[] stackTraces = new int[1];
+        final List<Throwable> causes = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            causes.add(new IllegalStateException() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public StackTraceElement[] getStackTrace() {
+                    stackTraces[0]++;
+                    return super.getStackTrace();
+                }
+            });
+        }
+        for (int i = 0; i < 5; i++) {
+            log.error("Attempt " + i + " failed", causes.get(i));
+        }
+        assertEquals("Stack traces read for different messages", 0, stackTraces[0]);
+        for (int i = 5; i < 10; i++) {
+            log.error("Attempt failed", causes.get(i));
+        }
+        assertEquals(6, delegate.messages.size());
+        assertEquals("Stack traces read for repeats", 5, stackTraces[0]);
+    }
+
+    public void testRepeatedCauseThrownElsewhere() {
+        final IllegalStateException first = new IllegalStateException();
+        final IllegalStateException second = new IllegalStateException();
+        log.error("Attempt failed", first);
+        log.error("Attempt failed", second);
+        log.error("Attempt failed", second);
+        assertEquals(Arrays.asList("Attempt failed", "Attempt failed"), delegate.messages);
+        assertSame(second, delegate.causes.get(1));
+    }
+
+    public void testRepeatedException() {
+        for (int i = 0; i < 100; i++) {
+            logFailure(i);
+        }
+        assertEquals(Arrays.asList("Attempt failed"), delegate.messages);
+        assertEquals("attempt 0", delegate.causes.get(0).getMessage());
+        now += WINDOW - 1;
+        logFailure(100);
+        assertEquals(1, delegate.messages.size());
+        now += 1;
+        logFailure(101);
+        logFailure(102);
+        assertEquals(Arrays.asList("Attempt failed", "Attempt failed [100 repeats collapsed]"), delegate.messages);
+        assertEquals("attempt 101", delegate.causes.get(1).getMessage());
+    }
+}
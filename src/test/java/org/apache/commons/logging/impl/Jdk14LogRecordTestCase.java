@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.Log;
+
+/**
+ * Tests the source of the events of {@link Jdk14Logger}.
+ */
+public class Jdk14LogRecordTestCase extends TestCase {
+
+    /**
+     * Keeps the events, reading their source if asked to.
+     */
+    private static final class RecordingHandler extends Handler {
+
+        final List<LogRecord> records = new ArrayList<>();
+        boolean readSource = true;
+
+        @Override
+        public void close() {
+            // nothing to release
+        }
+
+        @Override
+        public void flush() {
+            // nothing buffered
+        }
+
+        @Override
+        public void publish(final LogRecord record) {
+            if (readSource) {
+                record.getSourceClassName();
+            }
+            records.add(record);
+        }
+    }
+
+    private static final Throwable T = new RuntimeException();
+
+    private RecordingHandler handler;
+    private Logger logger;
+
+    private void assertSource(final String methodName) {
+        assertFalse("Events logged", handler.records.isEmpty());
+        for (final LogRecord record : handler.records) {
+            assertEquals("Source class", getClass().getName(), record.getSourceClassName());
+            assertEquals("Source method", methodName, record.getSourceMethodName());
+        }
+    }
+
+    @Override
+    public void setUp() {
+        handler = new RecordingHandler();
+        logger = Logger.getLogger(getClass().getName());
+        logger.setLevel(Level.ALL);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    @Override
+    public void tearDown() {
+        logger.removeHandler(handler);
+        logger.setUseParentHandlers(true);
+        logger.setLevel(null);
+    }
+
+    public void testDecoratedSource() {
+        final Log log = new RateLimitedLog(new Jdk14Logger(logger.getName()), new long[] { 0, 0, 100, 0, 0, 0 });
+        log.info("info");
+        log.info("{} {}", "info", 1);
+        assertSource("testDecoratedSource");
+    }
+
+    public void testSource() {
+        final Log log = new Jdk14Logger(logger.getName());
+        log.trace("trace");
+        log.debug("debug", T);
+        log.info((Object) "info", T);
+        // Through the default methods of Log
+        log.warn("warn", T);
+        log.error("{}", "error");
+        log.fatal(() -> "fatal");
+        log.atInfo().addKeyValue("key", "value").log("info");
+        assertEquals("Events logged", 7, handler.records.size());
+        assertSource("testSource");
+        assertEquals("Logger name", logger.getName(), handler.records.get(0).getLoggerName());
+        assertSame("Exception", T, handler.records.get(1).getThrown());
+    }
+
+    public void testSourceNotLocatedUnlessAsked() {
+        handler.readSource = false;
+        new Jdk14Logger(logger.getName()).info("info");
+        final LogRecord record = handler.records.get(0);
+        // Asked after the event was logged: the caller is no longer on the stack
+        assertNull("Source class", record.getSourceClassName());
+        assertNull("Source method", record.getSourceMethodName());
+    }
+
+    public void testSourceSetByHandler() {
+        handler.readSource = false;
+        new Jdk14Logger(logger.getName()).info("info");
+        final LogRecord record = handler.records.get(0);
+        record.setSourceClassName("Source");
+        assertEquals("Source class", "Source", record.getSourceClassName());
+        assertNull("Source method", record.getSourceMethodName());
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogConfigurationException;
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link JulLogFactory}.
+ */
+public class JulLogFactoryTestCase extends TestCase {
+
+    private JulLogFactory factory;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        factory = new JulLogFactory();
+    }
+
+    public void testAttributes() {
+        assertEquals(0, factory.getAttributeNames().length);
+        factory.setAttribute("name", "value");
+        assertEquals("value", factory.getAttribute("name"));
+        assertEquals("name", factory.getAttributeNames()[0]);
+        factory.setAttribute("name", null);
+        assertNull(factory.getAttribute("name"));
+        assertEquals(0, factory.getAttributeNames().length);
+    }
+
+    public void testDecorated() {
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + ".limited", "10");
+        final Log log = factory.getInstance("limited.Logger");
+        assertTrue(log instanceof RateLimitedLog);
+        assertEquals("limited.Logger", ((Jdk14Logger) FilteringLog.unwrap(log)).getLogger().getName());
+        assertTrue(factory.getInstance("other.Logger") instanceof Jdk14Logger);
+    }
+
+    public void testGetInstance() {
+        final Log log = factory.getInstance(JulLogFactoryTestCase.class);
+        assertTrue(log instanceof Jdk14Logger);
+        assertEquals(JulLogFactoryTestCase.class.getName(), ((Jdk14Logger) log).getLogger().getName());
+        assertSame(log, factory.getInstance(JulLogFactoryTestCase.class.getName()));
+    }
+
+    public void testLegacyAllowFlawed() {
+        assertTrue(factory.getInstance("flawed.Logger") instanceof Jdk14Logger);
+        factory.setAttribute(LogFactoryImpl.ALLOW_FLAWED_CONTEXT_PROPERTY, "false");
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        // LogFactoryImpl cannot be loaded through the boot class loader
+        thread.setContextClassLoader(null);
+        try {
+            factory.getInstance("other.Logger");
+            fail("The flawed context class loader was not detected");
+        } catch (final LogConfigurationException e) {
+            // expected
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    public void testLegacyLog() {
+        factory.setAttribute(LogFactoryImpl.LOG_PROPERTY, SimpleLog.class.getName());
+        assertTrue(factory.getInstance("simple.Logger") instanceof SimpleLog);
+        factory.release();
+        factory.removeAttribute(LogFactoryImpl.LOG_PROPERTY);
+        assertTrue(factory.getInstance("simple.Logger") instanceof Jdk14Logger);
+    }
+
+    public void testRelease() {
+        final Log log = factory.getInstance("test");
+        factory.release();
+        final Log other = factory.getInstance("test");
+        assertNotSame(log, other);
+        assertSame(other, factory.getInstance("test"));
+    }
+}
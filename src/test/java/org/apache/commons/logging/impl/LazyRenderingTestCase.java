@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import org.apache.commons.logging.AbstractLazyRenderingTest;
+import org.apache.commons.logging.Log;
+import org.apache.log.Priority;
+
+/**
+ * Applies the tests defined in AbstractLazyRenderingTest to the adapters without dependencies, and to the
+ * decorators of {@link FilteringLog}.
+ */
+@SuppressWarnings("deprecation")
+public class LazyRenderingTestCase extends AbstractLazyRenderingTest {
+
+    private static SimpleLog newSimpleLog() {
+        final SimpleLog log = new SimpleLog(LazyRenderingTestCase.class.getName());
+        log.setLevel(SimpleLog.LOG_LEVEL_OFF);
+        return log;
+    }
+
+    @Override
+    protected Log[] getDisabledLogs() {
+        final Jdk14Logger jdk14Logger = new Jdk14Logger(getClass().getName() + ".jdk14");
+        jdk14Logger.getLogger().setLevel(Level.OFF);
+        final Jdk13LumberjackLogger lumberjackLogger = new Jdk13LumberjackLogger(getClass().getName() + ".lumberjack");
+        lumberjackLogger.getLogger().setLevel(Level.OFF);
+        final LogKitLogger logKitLogger = new LogKitLogger(getClass().getName() + ".logkit");
+        logKitLogger.getLogger().setPriority(Priority.NONE);
+        return new Log[] { newSimpleLog(), new NoOpLog(), jdk14Logger, lumberjackLogger, logKitLogger,
+                new RateLimitedLog(newSimpleLog(), new long[] { 1, 1, 1, 1, 1, 1 }),
+                new CollapsingLog(newSimpleLog(), TimeUnit.SECONDS.toNanos(1)) };
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link LogFactoryImpl#getInstance(String)} under concurrency, and the {@code instances} table.
+ */
+public class LogFactoryImplTestCase extends TestCase {
+
+    /**
+     * Hides a class from its children, counting the attempts to load it.
+     */
+    private static final class HidingClassLoader extends ClassLoader {
+
+        private final String hiddenClassName;
+
+        private final AtomicInteger loadCount = new AtomicInteger();
+
+        HidingClassLoader(final String hiddenClassName) {
+            super(HidingClassLoader.class.getClassLoader());
+            this.hiddenClassName = hiddenClassName;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (hiddenClassName.equals(name)) {
+                loadCount.incrementAndGet();
+                throw new ClassNotFoundException(name);
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+
+    /**
+     * Log adapter whose construction blocks for the logger named {@value #SLOW}.
+     */
+    public static class SlowLog extends NoOpLog {
+
+        private static final long serialVersionUID = 1L;
+
+        static volatile CountDownLatch constructing = new CountDownLatch(1);
+        static volatile CountDownLatch proceed = new CountDownLatch(1);
+
+        public SlowLog(final String name) throws InterruptedException {
+            super(name);
+            if (SLOW.equals(name)) {
+                constructing.countDown();
+                proceed.await();
+            }
+        }
+    }
+
+    private static final String SLOW = "slow";
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private LogFactoryImpl factory;
+
+    @Override
+    public void setUp() throws Exception {
+        SlowLog.constructing = new CountDownLatch(1);
+        SlowLog.proceed = new CountDownLatch(1);
+        factory = new LogFactoryImpl();
+        factory.setAttribute(LogFactoryImpl.LOG_PROPERTY, SlowLog.class.getName());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        SlowLog.proceed.countDown();
+        factory.release();
+    }
+
+    public void testConcurrentCreation() throws Exception {
+        final int threadCount = 8;
+        final Log[] logs = new Log[threadCount];
+        final Thread[] threads = new Thread[threadCount];
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        for (int i = 0; i < threadCount; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    startSignal.await();
+                    logs[index] = factory.getInstance("shared");
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads[i].start();
+        }
+        startSignal.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        for (final Log log : logs) {
+            assertNotNull(log);
+            assertSame(logs[0], log);
+        }
+        assertSame(logs[0], factory.getInstance("shared"));
+    }
+
+    public void testInstances() throws Exception {
+        final Log one = factory.getInstance("one");
+        final Log two = factory.getInstance("two");
+        final Set<Object> keys = new HashSet<>(Collections.list(factory.instances.keys()));
+        assertEquals(new HashSet<>(Arrays.asList("one", "two")), keys);
+        final List<Log> elements = Collections.list(factory.instances.elements());
+        assertEquals(2, elements.size());
+        assertTrue(elements.contains(one));
+        assertTrue(elements.contains(two));
+        // serialized as a plain Hashtable
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(factory.instances);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Hashtable<?, ?> copy = (Hashtable<?, ?>) in.readObject();
+            assertEquals(Hashtable.class, copy.getClass());
+            assertEquals(keys, copy.keySet());
+        }
+    }
+
+    public void testMissingAdapterRemembered() throws Exception {
+        final HidingClassLoader loader = new HidingClassLoader(SlowLog.class.getName());
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            // Each factory discovers the adapter: only the first one asks the context class loader
+            for (int i = 0; i < 2; i++) {
+                final LogFactoryImpl otherFactory = new LogFactoryImpl();
+                otherFactory.setAttribute(LogFactoryImpl.LOG_PROPERTY, SlowLog.class.getName());
+                assertTrue(otherFactory.getInstance("hidden") instanceof SlowLog);
+                otherFactory.release();
+            }
+            assertEquals(1, loader.loadCount.get());
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            LogFactory.release(loader);
+        }
+    }
+
+    public void testLookupWhileCreating() throws Exception {
+        final Log fast = factory.getInstance("fast");
+        assertTrue(fast instanceof SlowLog);
+
+        final Log[] slow = new Log[1];
+        final Thread slowThread = new Thread(() -> slow[0] = factory.getInstance(SLOW));
+        slowThread.start();
+        assertTrue(SlowLog.constructing.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // The slow adapter is being constructed: other loggers must still be available
+        final Log[] found = new Log[2];
+        final Thread lookupThread = new Thread(() -> {
+            found[0] = factory.getInstance("fast");
+            found[1] = factory.getInstance("other");
+        });
+        lookupThread.start();
+        lookupThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertFalse("Lookup blocked by the creation of another logger", lookupThread.isAlive());
+        assertSame(fast, found[0]);
+        assertNotNull(found[1]);
+        assertTrue(slowThread.isAlive());
+
+        SlowLog.proceed.countDown();
+        slowThread.join();
+        assertSame(slow[0], factory.getInstance(SLOW));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link RateLimitedLog}.
+ */
+public class RateLimitedLogTestCase extends TestCase {
+
+    /**
+     * Records the messages logged.
+     */
+    private static final class RecordingLog extends SimpleLog {
+
+        private static final long serialVersionUID = 1L;
+
+        final List<String> messages = new ArrayList<>();
+
+        RecordingLog() {
+            super("test");
+            setLevel(LOG_LEVEL_INFO);
+        }
+
+        @Override
+        protected void log(final int type, final Object message, final Throwable t) {
+            messages.add(type + ":" + message);
+        }
+    }
+
+    private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RecordingLog delegate;
+
+    private long now;
+
+    private Log newLog(final String rateLimit) {
+        final LogFactoryImpl factory = new LogFactoryImpl();
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY, rateLimit);
+        return new RateLimitedLog(delegate, RateLimitedLog.getRates(factory, "test"), () -> now);
+    }
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        delegate = new RecordingLog();
+        now = 1000;
+    }
+
+    public void testDisabledLevelTakesNoToken() {
+        final Log log = newLog("2");
+        for (int i = 0; i < 10; i++) {
+            log.debug("disabled");
+        }
+        delegate.setLevel(SimpleLog.LOG_LEVEL_DEBUG);
+        log.debug("one");
+        log.debug("two");
+        assertEquals(Arrays.asList(SimpleLog.LOG_LEVEL_DEBUG + ":one", SimpleLog.LOG_LEVEL_DEBUG + ":two"), delegate.messages);
+    }
+
+    public void testGetRates() {
+        final LogFactoryImpl factory = new LogFactoryImpl();
+        assertNull(RateLimitedLog.getRates(factory, "a.b.C"));
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY, "10");
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + ".a.b", "warn=5, ERROR=3, bad=1, info=x");
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + ".a.b.D", "0");
+        assertEquals("[10, 10, 10, 10, 10, 10]", Arrays.toString(RateLimitedLog.getRates(factory, "x.Y")));
+        assertEquals("[0, 0, 0, 5, 3, 0]", Arrays.toString(RateLimitedLog.getRates(factory, "a.b.C")));
+        assertNull(RateLimitedLog.getRates(factory, "a.b.D"));
+    }
+
+    public void testLimit() {
+        final Log log = newLog("warn=3");
+        for (int i = 0; i < 10; i++) {
+            log.warn("warn {}", i);
+            log.info("info");
+        }
+        assertEquals(13, delegate.messages.size());
+        assertEquals(3, delegate.messages.stream().filter(m -> m.startsWith(SimpleLog.LOG_LEVEL_WARN + ":warn")).count());
+    }
+
+    public void testNoLimit() {
+        final LogFactoryImpl factory = new LogFactoryImpl();
+        assertSame(delegate, FilteringLog.decorate(factory, "test", fqcn -> delegate));
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY, "error=1");
+        final Log log = FilteringLog.decorate(factory, "test", fqcn -> delegate);
+        assertTrue(log instanceof RateLimitedLog);
+        assertSame(delegate, FilteringLog.unwrap(log));
+    }
+
+    public void testRefill() {
+        final Log log = newLog("10");
+        for (int i = 0; i < 20; i++) {
+            log.info("burst");
+        }
+        assertEquals(10, delegate.messages.size());
+        now += ONE_SECOND / 10;
+        log.info("refilled");
+        log.info("empty");
+        assertEquals(12, delegate.messages.size());
+        assertEquals(SimpleLog.LOG_LEVEL_INFO + ":10 messages suppressed by the rate limit", delegate.messages.get(10));
+        assertEquals(SimpleLog.LOG_LEVEL_INFO + ":refilled", delegate.messages.get(11));
+    }
+
+    public void testSuppressedReportedByDisabledLevels() {
+        final Log log = newLog("10");
+        for (int i = 0; i < 11; i++) {
+            log.error("burst");
+        }
+        now += ONE_SECOND;
+        for (int i = 0; i < 10; i++) {
+            log.error("refilled");
+        }
+        log.error("suppressed");
+        assertEquals(21, delegate.messages.size());
+        assertEquals(SimpleLog.LOG_LEVEL_ERROR + ":1 messages suppressed by the rate limit", delegate.messages.get(10));
+        assertEquals(SimpleLog.LOG_LEVEL_ERROR + ":refilled", delegate.messages.get(20));
+        now += ONE_SECOND;
+        // The end of the second burst is reported by any call
+        log.debug("disabled");
+        assertEquals(SimpleLog.LOG_LEVEL_ERROR + ":1 messages suppressed by the rate limit", delegate.messages.get(21));
+    }
+
+    public void testSuppressedReportedByOtherLevels() {
+        final Log log = newLog("warn=2");
+        for (int i = 0; i < 5; i++) {
+            log.warn("burst");
+        }
+        now += ONE_SECOND / 2;
+        log.info("early");
+        now += ONE_SECOND / 2;
+        log.info("late");
+        log.info("after");
+        assertEquals(Arrays.asList(SimpleLog.LOG_LEVEL_WARN + ":burst", SimpleLog.LOG_LEVEL_WARN + ":burst", SimpleLog.LOG_LEVEL_INFO + ":early",
+                SimpleLog.LOG_LEVEL_WARN + ":3 messages suppressed by the rate limit", SimpleLog.LOG_LEVEL_INFO + ":late",
+                SimpleLog.LOG_LEVEL_INFO + ":after"), delegate.messages);
+    }
+
+    public void testSuppressedReportedOncePerSecond() {
+        final Log log = newLog("10");
+        for (int i = 0; i < 11; i++) {
+            log.error("burst");
+        }
+        now += ONE_SECOND / 10;
+        log.error("first");
+        log.error("suppressed");
+        now += ONE_SECOND / 10;
+        log.error("second");
+        assertEquals(13, delegate.messages.size());
+        assertEquals(SimpleLog.LOG_LEVEL_ERROR + ":second", delegate.messages.get(12));
+        now += ONE_SECOND;
+        log.error("third");
+        assertEquals(SimpleLog.LOG_LEVEL_ERROR + ":1 messages suppressed by the rate limit", delegate.messages.get(13));
+    }
+}
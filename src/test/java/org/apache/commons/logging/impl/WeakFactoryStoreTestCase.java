@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.impl;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.LogFactory;
+
+import junit.framework.TestCase;
+
+/**
+ * Tests {@link WeakFactoryStore}.
+ */
+public class WeakFactoryStoreTestCase extends TestCase {
+
+    private static final int THREAD_COUNT = 10;
+
+    private static final int RUN_LOOPS = 1000;
+
+    private static ClassLoader newClassLoader() {
+        return new URLClassLoader(new URL[0], null);
+    }
+
+    private WeakFactoryStore store;
+    private ClassLoader keyOne;
+    private ClassLoader keyTwo;
+    private LogFactory valueOne;
+    private LogFactory valueTwo;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        store = new WeakFactoryStore();
+        keyOne = newClassLoader();
+        keyTwo = newClassLoader();
+        valueOne = new LogFactoryImpl();
+        valueTwo = new LogFactoryImpl();
+        store.put(keyOne, valueOne);
+        store.put(keyTwo, valueTwo);
+    }
+
+    /** Tests public void clear() */
+    public void testClear() {
+        store.clear();
+        assertEquals(0, store.size());
+        assertNull(store.get(keyOne));
+        assertNull(store.get(keyTwo));
+    }
+
+    /** Tests concurrent put/get from several threads */
+    public void testConcurrentAccess() throws Exception {
+        final ClassLoader[] keys = new ClassLoader[THREAD_COUNT];
+        final LogFactory[] values = new LogFactory[THREAD_COUNT];
+        final Thread[] threads = new Thread[THREAD_COUNT];
+        final Throwable[] failure = new Throwable[1];
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            keys[i] = newClassLoader();
+            values[i] = new LogFactoryImpl();
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < RUN_LOOPS; j++) {
+                        store.put(keys[index], values[index]);
+                        assertSame(values[index], store.get(keys[index]));
+                        assertSame(valueOne, store.get(keyOne));
+                    }
+                } catch (final Throwable t) {
+                    failure[0] = t;
+                }
+            });
+            threads[i].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertNull(failure[0]);
+        assertEquals(THREAD_COUNT + 2, store.size());
+    }
+
+    /** Tests public void forEach(BiConsumer) */
+    public void testForEach() {
+        final Map<ClassLoader, LogFactory> entries = new IdentityHashMap<>();
+        store.forEach(entries::put);
+        assertEquals(2, entries.size());
+        assertSame(valueOne, entries.get(keyOne));
+        assertSame(valueTwo, entries.get(keyTwo));
+    }
+
+    /** Tests public LogFactory get(ClassLoader) */
+    public void testGet() {
+        assertSame(valueOne, store.get(keyOne));
+        assertSame(valueTwo, store.get(keyTwo));
+        assertNull(store.get(newClassLoader()));
+        assertNull(store.get(null));
+    }
+
+    /** Tests that the store grows past its initial capacity */
+    public void testGrow() {
+        final ClassLoader[] keys = new ClassLoader[100];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = newClassLoader();
+            store.put(keys[i], valueOne);
+        }
+        assertEquals(keys.length + 2, store.size());
+        for (final ClassLoader key : keys) {
+            assertSame(valueOne, store.get(key));
+        }
+        assertSame(valueTwo, store.get(keyTwo));
+    }
+
+    /** Tests public LogFactory put(ClassLoader, LogFactory) */
+    public void testPut() {
+        assertSame(valueOne, store.put(keyOne, valueTwo));
+        assertSame(valueTwo, store.get(keyOne));
+        assertEquals(2, store.size());
+        try {
+            store.put(null, valueOne);
+            fail("did not throw an exception adding a null key");
+        } catch (final NullPointerException e) {
+            // expected
+        }
+        try {
+            store.put(keyOne, null);
+            fail("did not throw an exception adding a null value");
+        } catch (final NullPointerException e) {
+            // expected
+        }
+    }
+
+    /** Tests public LogFactory remove(ClassLoader) */
+    public void testRemove() {
+        assertSame(valueOne, store.remove(keyOne));
+        assertNull(store.get(keyOne));
+        assertSame(valueTwo, store.get(keyTwo));
+        assertEquals(1, store.size());
+        assertNull(store.remove(keyOne));
+    }
+}
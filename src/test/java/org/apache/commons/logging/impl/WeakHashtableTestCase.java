@@ -17,6 +17,8 @@
 
 package org.apache.commons.logging.impl;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
@@ -157,6 +159,29 @@ public class WeakHashtableTestCase extends TestCase {
         assertNull(weakHashtable.get(Long.valueOf(50)));
     }
 
+    /** Tests that get(Object) and containsKey(Object) do not allocate */
+    public void testGetDoesNotAllocate() throws Exception {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return;
+        }
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        if (!threadBean.isThreadAllocatedMemorySupported() || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return;
+        }
+        final long threadId = Thread.currentThread().getId();
+        final Long missingKey = Long.valueOf(50);
+        final int loops = 10_000;
+        // warm up
+        lookup(loops, missingKey);
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        final int hits = lookup(loops, missingKey);
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        assertEquals(2 * loops, hits);
+        // a wrapper per lookup would cost at least 16 bytes each, allow for the measurement itself
+        assertTrue("Allocated " + allocated + " bytes for " + 3 * loops + " lookups", allocated < loops);
+    }
+
     /** Tests public Enumeration keys() */
     public void testKeys() throws Exception {
         final ArrayList keys = new ArrayList();
@@ -247,6 +272,22 @@ public class WeakHashtableTestCase extends TestCase {
         assertEquals(anotherNewValue, weakHashtable.get(anotherNewKey));
     }
 
+    private int lookup(final int loops, final Long missingKey) {
+        int hits = 0;
+        for (int i = 0; i < loops; i++) {
+            if (weakHashtable.get(keyOne) != null) {
+                hits++;
+            }
+            if (weakHashtable.containsKey(keyTwo)) {
+                hits++;
+            }
+            if (weakHashtable.get(missingKey) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
     /** Tests public Object remove(Object key) */
     public void testRemove() throws Exception {
         weakHashtable.remove(keyOne);
@@ -120,7 +120,7 @@ public class DefaultConfigTestCase extends TestCase {
     public void testPristineFactory() {
         assertNotNull("LogFactory exists", factory);
         assertEquals("LogFactory class",
-                     "org.apache.commons.logging.impl.LogFactoryImpl",
+                     "org.apache.commons.logging.impl.JulLogFactory",
                      factory.getClass().getName());
 
         final String[] names = factory.getAttributeNames();
@@ -41,6 +41,8 @@ public class TestHandler extends Handler {
 
     @Override
     public void publish(final LogRecord record) {
+        // The source of a record kept past publish() must be asked for now, see LogRecord
+        record.getSourceClassName();
         records.add(record);
     }
 
@@ -47,6 +47,7 @@ public abstract class StandardTests extends TestCase {
         public String msg;
         public String level;
         public Throwable throwable;
+        public String methodName;
     }
 
     /**
@@ -17,8 +17,13 @@
 
 package org.apache.commons.logging.log4j.log4j12;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.commons.logging.DummyException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.commons.logging.impl.Log4JLogger;
 import org.apache.commons.logging.log4j.StandardTests;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -40,4 +45,135 @@ public class Log4j12StandardTests extends StandardTests {
         rootLogger.addAppender(appender);
         rootLogger.setLevel(Level.INFO);
     }
+
+    /**
+     * Verify that the events are sent straight to the Log4j API behind the log4j-1.2-api bridge, when the
+     * adapter can be loaded with LogFactoryImpl.
+     */
+    public void testBridgeLogger() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        assertTrue("Log4JLogger expected", log instanceof Log4JLogger);
+        // The bridge logger is not public: it is only used if Log4JLogger comes from the class loader of the factory
+        final boolean sameLoader = Log4JLogger.class.getClassLoader() == LogFactory.getFactory().getClass().getClassLoader();
+        assertEquals("Log class", sameLoader ? "org.apache.commons.logging.impl.Log4JBridgeLogger" : Log4JLogger.class.getName(),
+                log.getClass().getName());
+        log.error("error", new DummyException());
+        assertEquals("Unexpected number of log events", 1, logEvents.size());
+        assertEquals("Caller method", "testBridgeLogger", ((LogEvent) logEvents.get(0)).methodName);
+    }
+
+    /**
+     * Verify that the caller of the events built with a builder is located.
+     */
+    public void testEventBuilderLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        log.atInfo().addKeyValue("key", "value").log("builder");
+        log.atWarn().setCause(new DummyException()).log(() -> "supplier");
+        assertEquals("Unexpected number of log events", 2, logEvents.size());
+        for (final Object logEvent : logEvents) {
+            assertEquals("Caller method", "testEventBuilderLocation", ((LogEvent) logEvent).methodName);
+        }
+        assertEquals("Key/value pair", "builder key=value", ((LogEvent) logEvents.get(0)).msg);
+        assertEquals("Supplied message", "supplier", ((LogEvent) logEvents.get(1)).msg);
+        assertTrue("Cause", ((LogEvent) logEvents.get(1)).throwable instanceof DummyException);
+    }
+
+    /**
+     * Verify that the caller of the events is located.
+     */
+    public void testLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        log.info("info");
+        log.warn((Object) "warn", new DummyException());
+        assertEquals("Unexpected number of log events", 2, logEvents.size());
+        for (final Object logEvent : logEvents) {
+            assertEquals("Caller method", "testLocation", ((LogEvent) logEvent).methodName);
+        }
+    }
+
+    /**
+     * Verify that the caller of the events with a parameterized message is located.
+     */
+    public void testParameterizedLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        log.info("{}", "pattern");
+        log.info("{} {}", "pattern", "two");
+        log.info("{} {}", "pattern", "three", new DummyException());
+        log.info("{} {}{}{}", "pattern", "f", "o", "ur");
+        assertEquals("Unexpected number of log events", 4, logEvents.size());
+        for (final Object logEvent : logEvents) {
+            assertEquals("Caller method", "testParameterizedLocation", ((LogEvent) logEvent).methodName);
+        }
+        assertEquals("Formatted message", "pattern three", ((LogEvent) logEvents.get(2)).msg);
+        assertTrue("Cause", ((LogEvent) logEvents.get(2)).throwable instanceof DummyException);
+        assertEquals("Formatted message", "pattern four", ((LogEvent) logEvents.get(3)).msg);
+    }
+
+    /**
+     * Verify that the caller of the events with a primitive argument is located.
+     */
+    public void testPrimitiveLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        log.info("primitive {}", 42L);
+        log.info("primitive {}", 'c');
+        log.info("primitive {}", 1.5d);
+        log.info("primitive {}", 2.5f);
+        assertEquals("Unexpected number of log events", 4, logEvents.size());
+        for (final Object logEvent : logEvents) {
+            assertEquals("Caller method", "testPrimitiveLocation", ((LogEvent) logEvent).methodName);
+        }
+        assertEquals("Formatted message", "primitive 42", ((LogEvent) logEvents.get(0)).msg);
+        assertEquals("Formatted message", "primitive c", ((LogEvent) logEvents.get(1)).msg);
+        assertEquals("Formatted message", "primitive 1.5", ((LogEvent) logEvents.get(2)).msg);
+        assertEquals("Formatted message", "primitive 2.5", ((LogEvent) logEvents.get(3)).msg);
+    }
+
+    /**
+     * Verify that the caller of the events of a rate limited logger is located.
+     */
+    public void testRateLimitedLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final LogFactory factory = LogFactory.getFactory();
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + ".rate-limited", "warn=100");
+        try {
+            final Log log = factory.getInstance("rate-limited.category");
+            assertFalse("Decorated logger expected", log instanceof Log4JLogger);
+            log.warn("warn");
+            log.warn("{}", "pattern");
+            log.error("error", new DummyException());
+            assertEquals("Unexpected number of log events", 3, logEvents.size());
+            for (final Object logEvent : logEvents) {
+                assertEquals("Caller method", "testRateLimitedLocation", ((LogEvent) logEvent).methodName);
+            }
+        } finally {
+            factory.removeAttribute(LogFactory.RATE_LIMIT_PROPERTY + ".rate-limited");
+        }
+    }
+
+    /**
+     * Verify that the caller of the events with a supplied message is located.
+     */
+    public void testSupplierLocation() throws Exception {
+        final List logEvents = new ArrayList();
+        setUpTestAppender(logEvents);
+        final Log log = LogFactory.getLog("test-category");
+        log.info(() -> "supplier");
+        log.debug(() -> {
+            throw new AssertionError("Supplier of a disabled level called");
+        });
+        assertEquals("Unexpected number of log events", 1, logEvents.size());
+        assertEquals("Caller method", "testSupplierLocation", ((LogEvent) logEvents.get(0)).methodName);
+        assertEquals("Supplied message", "supplier", ((LogEvent) logEvents.get(0)).msg);
+    }
 }
@@ -47,6 +47,7 @@ public class TestAppender extends AppenderSkeleton {
         final StandardTests.LogEvent lev = new StandardTests.LogEvent();
 
         lev.level = event.getLevel().toString();
+        lev.methodName = event.getLocationInformation().getMethodName();
 
         if (event.getMessage() == null) {
             lev.msg = null;
@@ -17,6 +17,7 @@
 package org.apache.commons.logging.log4j2;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import junit.framework.TestCase;
 
@@ -26,9 +27,11 @@ import org.apache.commons.logging.impl.Log4jApiLogFactory;
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
+import org.apache.logging.log4j.ThreadContext;
 import org.apache.logging.log4j.core.LogEvent;
 import org.apache.logging.log4j.core.LoggerContext;
 import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Configurator;
 import org.apache.logging.log4j.core.test.appender.ListAppender;
 import org.apache.logging.log4j.message.ObjectMessage;
 import org.apache.logging.log4j.message.SimpleMessage;
@@ -56,14 +59,68 @@ public class CallerInformationTestCase extends TestCase {
         assertNotNull("Missing Log4j 2.x appender.", appender);
     }
 
+    public void testEventBuilder() {
+        appender.clear();
+        ThreadContext.put("customer", "previous");
+        try {
+            // The following value must match the line number
+            final int currentLineNumber = 67;
+            log.atInfo().addKeyValue("orderId", 42).addKeyValue("customer", null).setCause(T).log(STRING);
+            log.atTrace().addKeyValue("orderId", 42).log(() -> STRING);
+            final List<LogEvent> events = appender.getEvents();
+            assertEquals("Correct number of messages.", 2, events.size());
+            for (int i = 0; i < events.size(); i++) {
+                final LogEvent event = events.get(i);
+                assertEquals("Correct message.", STRING, event.getMessage().getFormattedMessage());
+                assertEquals("Correct marker.", MARKER, event.getMarker());
+                assertEquals("Correct key/value pair.", "42", event.getContextData().getValue("orderId"));
+                final StackTraceElement location = event.getSource();
+                assertEquals("Correct method name.", "testEventBuilder", location.getMethodName());
+                assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+                assertEquals("Correct location line.", currentLineNumber + i + 1, location.getLineNumber());
+            }
+            assertEquals("Correct key/value pair.", "null", events.get(0).getContextData().getValue("customer"));
+            assertEquals("Correct exception", T, events.get(0).getThrown());
+            assertNull("No exception", events.get(1).getThrown());
+            assertNull("Key/value pair removed", ThreadContext.get("orderId"));
+            assertEquals("Key/value pair restored", "previous", ThreadContext.get("customer"));
+        } finally {
+            ThreadContext.remove("customer");
+        }
+    }
+
+    public void testEventBuilderMarker() {
+        appender.clear();
+        log.atInfo().addMarker("AUDIT").log(STRING);
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Correct number of messages.", 1, events.size());
+        // Log4j API events have a single marker
+        assertEquals("Correct marker.", MarkerManager.getMarker("AUDIT"), events.get(0).getMarker());
+    }
+
     public void testFactoryClassName() {
         assertEquals(Log4jApiLogFactory.class, factory.getClass());
     }
 
+    public void testLevelChange() {
+        final String name = getClass().getName();
+        try {
+            Configurator.setLevel(name, Level.INFO);
+            assertTrue("Info enabled", log.isInfoEnabled());
+            assertFalse("Debug enabled", log.isDebugEnabled());
+            appender.clear();
+            log.debug(OBJ);
+            assertTrue("Debug logged", appender.getEvents().isEmpty());
+        } finally {
+            Configurator.setLevel(name, Level.TRACE);
+        }
+        assertTrue("Trace enabled", log.isTraceEnabled());
+    }
+
     public void testLocationInfo() {
         appender.clear();
         // The following value must match the line number
-        final int currentLineNumber = 66;
+        final int currentLineNumber = 123;
         log.fatal(OBJ);
         log.fatal(OBJ, T);
         log.error(OBJ);
@@ -94,6 +151,45 @@ public class CallerInformationTestCase extends TestCase {
                 assertEquals("Correct exception", hasThrowable > 0 ? T : null, event.getThrown());
             }
         }
+        // (String, Throwable) overloads
+        appender.clear();
+        // The following value must match the line number
+        final int stringLineNumber = 157;
+        log.fatal(STRING, T);
+        log.error(STRING, T);
+        log.warn(STRING, T);
+        log.info(STRING, T);
+        log.debug(STRING, T);
+        log.trace(STRING, T);
+        final List<LogEvent> stringEvents = appender.getEvents();
+        assertEquals("All events received.", levels.length, stringEvents.size());
+        for (int lev = 0; lev < levels.length; lev++) {
+            final LogEvent event = stringEvents.get(lev);
+            assertEquals("Correct message.", new SimpleMessage(STRING), event.getMessage());
+            assertEquals("Level matches.", levels[lev], event.getLevel());
+            final StackTraceElement location = event.getSource();
+            assertEquals("Correct method name.", "testLocationInfo", location.getMethodName());
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+            assertEquals("Correct location line.", stringLineNumber + lev + 1, location.getLineNumber());
+            assertEquals("Correct exception", T, event.getThrown());
+        }
+    }
+
+    public void testMarkerDisabled() {
+        appender.clear();
+        factory.setAttribute(LogFactory.MARKER_PROPERTY, "false");
+        try {
+            log.info(STRING);
+            log.atInfo().addMarker("AUDIT").log(STRING);
+        } finally {
+            factory.removeAttribute(LogFactory.MARKER_PROPERTY);
+        }
+        log.info(STRING);
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Correct number of messages.", 3, events.size());
+        assertNull("No marker", events.get(0).getMarker());
+        assertEquals("Caller marker", MarkerManager.getMarker("AUDIT"), events.get(1).getMarker());
+        assertEquals("Marker restored", MARKER, events.get(2).getMarker());
     }
 
     public void testMessageType() {
@@ -105,4 +201,104 @@ public class CallerInformationTestCase extends TestCase {
         assertEquals("Correct message type.", new ObjectMessage(OBJ), events.get(0).getMessage());
         assertEquals("Correct message type.", new SimpleMessage(STRING), events.get(1).getMessage());
     }
+
+    public void testNestedEvents() {
+        final Supplier<String> nestedEvent = () -> {
+            log.atInfo().log(STRING);
+            return "value";
+        };
+        appender.clear();
+        log.atWarn().addKeyValue("key", nestedEvent.get()).log(STRING);
+        log.atWarn().log(nestedEvent);
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Correct number of messages.", 4, events.size());
+        for (int i = 0; i < events.size(); i += 2) {
+            assertEquals("Correct level.", Level.INFO, events.get(i).getLevel());
+            assertEquals("Correct level.", Level.WARN, events.get(i + 1).getLevel());
+        }
+        assertEquals("Correct key/value pair.", "value", events.get(1).getContextData().getValue("key"));
+        assertEquals("Correct message.", "value", events.get(3).getMessage().getFormattedMessage());
+    }
+
+    public void testParameterizedMessage() {
+        appender.clear();
+        log.info("{} {}", STRING, OBJ);
+        log.warn("{} {}", STRING, OBJ, T);
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Correct number of messages.", 2, events.size());
+        for (final LogEvent event : events) {
+            assertEquals("Unformatted pattern.", "{} {}", event.getMessage().getFormat());
+            assertEquals("Correct message.", STRING + " " + OBJ, event.getMessage().getFormattedMessage());
+            assertEquals("Correct marker.", MARKER, event.getMarker());
+        }
+        assertNull("No exception", events.get(0).getThrown());
+        assertEquals("Correct exception", T, events.get(1).getThrown());
+    }
+
+    public void testPrimitiveArguments() {
+        appender.clear();
+        log.info("{} ms", 42L);
+        log.info("{} %", 12.5d);
+        log.warn("{} %", 0.5f);
+        log.error("{}", 'x');
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Correct number of messages.", 4, events.size());
+        assertEquals("Correct message.", "42 ms", events.get(0).getMessage().getFormattedMessage());
+        assertEquals("Correct message.", "12.5 %", events.get(1).getMessage().getFormattedMessage());
+        assertEquals("Correct message.", "0.5 %", events.get(2).getMessage().getFormattedMessage());
+        assertEquals("Correct message.", "x", events.get(3).getMessage().getFormattedMessage());
+        assertEquals("Correct marker.", MARKER, events.get(0).getMarker());
+        for (final LogEvent event : events) {
+            final StackTraceElement location = event.getSource();
+            assertEquals("Correct method name.", "testPrimitiveArguments", location.getMethodName());
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+        }
+    }
+
+    public void testRateLimit() {
+        appender.clear();
+        final String name = getClass().getName() + ".limited";
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + "." + name, "info=2");
+        try {
+            final Log limited = factory.getInstance(name);
+            for (int i = 0; i < 5; i++) {
+                limited.info(STRING);
+            }
+            limited.warn(STRING);
+        } finally {
+            factory.removeAttribute(LogFactory.RATE_LIMIT_PROPERTY + "." + name);
+        }
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("Events over the limit suppressed.", 3, events.size());
+        for (final LogEvent event : events) {
+            assertEquals("Correct method name.", "testRateLimit", event.getSource().getMethodName());
+            assertEquals("Correct location class.", getClass().getName(), event.getSource().getClassName());
+        }
+    }
+
+    public void testSupplierLocationInfo() {
+        appender.clear();
+        final Supplier<String> supplier = () -> STRING;
+        // The following value must match the line number
+        final int currentLineNumber = 283;
+        log.fatal(supplier);
+        log.error(supplier);
+        log.warn(supplier);
+        log.info(supplier);
+        log.debug(supplier);
+        log.trace(supplier);
+        final List<LogEvent> events = appender.getEvents();
+        assertEquals("All events received.", levels.length, events.size());
+        for (int lev = 0; lev < levels.length; lev++) {
+            final LogEvent event = events.get(lev);
+            assertEquals("Correct message.", STRING, event.getMessage().getFormattedMessage());
+            assertEquals("Correct marker.", MARKER, event.getMarker());
+            assertEquals("Level matches.", levels[lev], event.getLevel());
+            final StackTraceElement location = event.getSource();
+            assertNotNull("Has location", location);
+            assertEquals("Correct method name.", "testSupplierLocationInfo", location.getMethodName());
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+            assertEquals("Correct location line.", currentLineNumber + lev + 1, location.getLineNumber());
+        }
+    }
 }
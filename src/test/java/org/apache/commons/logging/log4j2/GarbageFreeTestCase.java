@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.log4j2;
+
+import java.lang.management.ManagementFactory;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.config.LoggerConfig;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.message.Message;
+import org.apache.logging.log4j.util.StringBuilderFormattable;
+
+/**
+ * Tests that logging through {@code Log4jApiLogFactory} allocates nothing, once warmed up, if Log4j Core is
+ * garbage-free.
+ * <p>
+ * Allocations are measured with the per-thread counter of the JVM. Each test class runs in its own JVM, so the
+ * properties making Log4j Core garbage-free are set before it initializes.
+ * </p>
+ */
+public class GarbageFreeTestCase extends TestCase {
+
+    /**
+     * Formats the messages of the events into a reused buffer, like a garbage-free layout.
+     */
+    private static final class FormattingAppender extends AbstractAppender {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        private int count;
+
+        FormattingAppender(final String name) {
+            super(name, null, null, true, Property.EMPTY_ARRAY);
+        }
+
+        @Override
+        public void append(final LogEvent event) {
+            buffer.setLength(0);
+            final Message message = event.getMessage();
+            if (message instanceof StringBuilderFormattable) {
+                ((StringBuilderFormattable) message).formatTo(buffer);
+            } else {
+                buffer.append(message.getFormattedMessage());
+            }
+            count++;
+        }
+    }
+
+    /**
+     * A call to the bridge, run in a loop.
+     */
+    private interface Call {
+
+        void run(int i);
+    }
+
+    private static final String ARG = "arg";
+
+    /**
+     * Number of events of each measure.
+     */
+    private static final int EVENTS = 100_000;
+
+    /**
+     * Number of events logged before measuring, to let the JIT compiler do its work.
+     */
+    private static final int WARMUP = 50_000;
+
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    static {
+        // Log4j Core disables its thread locals if a Servlet API is present, as in the tests
+        System.setProperty("log4j2.isWebapp", "false");
+        System.setProperty("log4j2.enableThreadlocals", "true");
+        System.setProperty("log4j2.garbagefreeThreadContextMap", "true");
+        // The precise clock of Java 9 and later gets the time as an Instant
+        System.setProperty("log4j2.clock", "SystemMillisClock");
+    }
+
+    private FormattingAppender appender;
+
+    private Log log;
+
+    private long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Logs events in a loop, then measures the bytes allocated by the following loop.
+     */
+    private void assertGarbageFree(final Call call, final String expectedMessage) {
+        if (System.getProperty("java.specification.version").startsWith("1.")) {
+            // Thread.getName() copies the name of the thread on Java 8
+            return;
+        }
+        for (int i = 0; i < WARMUP; i++) {
+            call.run(i);
+        }
+        appender.count = 0;
+        final long start = allocatedBytes();
+        for (int i = 0; i < EVENTS; i++) {
+            call.run(i);
+        }
+        final long allocated = allocatedBytes() - start;
+        assertEquals("Events logged", EVENTS, appender.count);
+        assertEquals("Message", expectedMessage, appender.buffer.toString());
+        // Reading the counter may allocate a little, but any allocation in the loop adds at least 16 bytes per event
+        assertTrue("Allocated " + allocated + " bytes for " + EVENTS + " events", allocated < EVENTS);
+    }
+
+    @Override
+    public void setUp() {
+        assertTrue("Allocation counter supported", THREADS.isThreadAllocatedMemorySupported());
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+        final LoggerContext context = LoggerContext.getContext(false);
+        final Configuration config = context.getConfiguration();
+        appender = new FormattingAppender(getName());
+        appender.start();
+        config.addAppender(appender);
+        final LoggerConfig root = config.getRootLogger();
+        // The list appender of the other tests keeps the events
+        root.removeAppender("LIST");
+        root.addAppender(appender, null, null);
+        context.updateLoggers();
+        log = LogFactory.getLog(getClass());
+    }
+
+    @Override
+    public void tearDown() {
+        final LoggerContext context = LoggerContext.getContext(false);
+        context.getConfiguration().getRootLogger().removeAppender(appender.getName());
+        context.updateLoggers();
+        appender.stop();
+    }
+
+    public void testCharSequence() {
+        final StringBuilder message = new StringBuilder("message");
+        assertGarbageFree(i -> log.info("message"), "message");
+        assertGarbageFree(i -> log.info(message), "message");
+    }
+
+    public void testDisabledLevel() {
+        final String name = getClass().getName();
+        Configurator.setLevel(name, Level.INFO);
+        try {
+            // Only the enabled event reaches the appender
+            assertGarbageFree(i -> {
+                log.debug("{} {}", ARG, ARG);
+                log.debug(() -> ARG);
+                log.info(ARG);
+            }, ARG);
+        } finally {
+            Configurator.setLevel(name, Level.TRACE);
+        }
+    }
+
+    public void testEventBuilder() {
+        assertGarbageFree(i -> log.atInfo().log("message"), "message");
+    }
+
+    public void testParameterizedMessage() {
+        assertGarbageFree(i -> log.info("{}", ARG), "arg");
+        assertGarbageFree(i -> log.info("{} {}", ARG, ARG), "arg arg");
+        assertGarbageFree(i -> log.info("{} {} {}", ARG, ARG, ARG), "arg arg arg");
+    }
+
+    public void testPrimitiveArgument() {
+        assertGarbageFree(i -> log.info("{} ms", (long) i), EVENTS - 1 + " ms");
+    }
+}
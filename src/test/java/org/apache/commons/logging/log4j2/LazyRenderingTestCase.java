@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.log4j2;
+
+import org.apache.commons.logging.AbstractLazyRenderingTest;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+
+/**
+ * Applies the tests defined in AbstractLazyRenderingTest to the Log4j API adapter.
+ */
+public class LazyRenderingTestCase extends AbstractLazyRenderingTest {
+
+    @Override
+    protected Log[] getDisabledLogs() {
+        return new Log[] { LogFactory.getLog(getClass()) };
+    }
+
+    @Override
+    public void setUp() {
+        Configurator.setLevel(getClass().getName(), Level.OFF);
+    }
+
+    @Override
+    public void tearDown() {
+        Configurator.setLevel(getClass().getName(), (Level) null);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.simple;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.DummyException;
+import org.apache.commons.logging.LogEventBuilder;
+import org.apache.commons.logging.impl.SimpleLog;
+
+/**
+ * Tests the default {@link LogEventBuilder} of {@code Log}, as inherited by {@link SimpleLog}.
+ */
+public class LogEventBuilderTestCase extends TestCase {
+
+    private DecoratedSimpleLog log;
+
+    private void assertRecord(final int index, final int type, final Object message, final Throwable t) {
+        final LogRecord record = log.getCache().get(index);
+        assertEquals("Type", type, record.type);
+        assertEquals("Message", message, record.message);
+        assertSame("Throwable", t, record.t);
+    }
+
+    /**
+     * Logs an event while the arguments of another one are evaluated.
+     */
+    private String nestedEvent() {
+        log.atInfo().log("inner");
+        return "value";
+    }
+
+    @Override
+    public void setUp() {
+        log = new DecoratedSimpleLog("LogEventBuilderTestCase");
+        log.setLevel(SimpleLog.LOG_LEVEL_INFO);
+    }
+
+    public void testBuilderReused() {
+        final LogEventBuilder builder = log.atInfo();
+        builder.log("first");
+        final LogEventBuilder next = log.atWarn();
+        // Until logged, the builder is in use
+        next.log("second");
+        assertSame("Builder", builder, next);
+    }
+
+    public void testDisabledLevels() {
+        final Object value = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("Value formatted");
+            }
+        };
+        final LogEventBuilder builder = log.atTrace();
+        assertSame("No-op builder", builder, log.atDebug());
+        assertSame("No-op builder", builder, builder.addKeyValue("key", value).setCause(new DummyException()));
+        builder.log("message");
+        builder.log(() -> {
+            throw new AssertionError("Supplier called");
+        });
+        assertTrue("Messages logged", log.getCache().isEmpty());
+    }
+
+    public void testEnabledLevels() {
+        final Throwable t = new DummyException();
+        log.atInfo().log("a");
+        log.atWarn().addKeyValue("orderId", 42).log("b");
+        log.atError().addKeyValue("orderId", 42).addKeyValue("customer", null).setCause(t).log("c");
+        log.atFatal().log(() -> "d");
+        assertEquals("Messages logged", 4, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "a", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_WARN, "b orderId=42", null);
+        assertRecord(2, SimpleLog.LOG_LEVEL_ERROR, "c orderId=42 customer=null", t);
+        assertRecord(3, SimpleLog.LOG_LEVEL_FATAL, "d", null);
+    }
+
+    public void testManyKeyValues() {
+        final LogEventBuilder builder = log.atInfo();
+        final StringBuilder expected = new StringBuilder("message");
+        for (int i = 0; i < 10; i++) {
+            builder.addKeyValue("k" + i, i);
+            expected.append(" k").append(i).append('=').append(i);
+        }
+        builder.log("message");
+        log.atInfo().log("next");
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, expected.toString(), null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_INFO, "next", null);
+    }
+
+    public void testMarkerIgnored() {
+        log.atInfo().addMarker("AUDIT").addKeyValue("orderId", 42).log("message");
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "message orderId=42", null);
+    }
+
+    public void testNestedEvent() {
+        final Object value = new Object() {
+            @Override
+            public String toString() {
+                log.atInfo().addKeyValue("nested", true).log("inner");
+                return "value";
+            }
+        };
+        log.atInfo().addKeyValue("key", value).log("outer");
+        assertEquals("Messages logged", 2, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "inner nested=true", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_INFO, "outer key=value", null);
+    }
+
+    public void testNestedEventInArgument() {
+        log.atWarn().addKeyValue("key", nestedEvent()).log("outer");
+        assertEquals("Messages logged", 2, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "inner", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_WARN, "outer key=value", null);
+    }
+
+    public void testNestedEventInSupplier() {
+        log.atWarn().addKeyValue("key", 1).log(() -> "outer " + nestedEvent());
+        assertEquals("Messages logged", 2, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "inner", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_WARN, "outer value key=1", null);
+    }
+
+    public void testSupplierFailure() {
+        final LogEventBuilder builder = log.atInfo();
+        try {
+            builder.log(() -> {
+                throw new IllegalStateException();
+            });
+            fail("Exception expected");
+        } catch (final IllegalStateException e) {
+            // expected
+        }
+        final LogEventBuilder next = log.atWarn();
+        next.log("next");
+        assertSame("Builder released", builder, next);
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.simple;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.DummyException;
+import org.apache.commons.logging.impl.SimpleLog;
+
+/**
+ * Tests the parameterized methods of {@code Log}, as inherited by {@link SimpleLog}.
+ */
+public class ParameterizedTestCase extends TestCase {
+
+    private DecoratedSimpleLog log;
+
+    private void assertRecord(final int index, final int type, final Object message, final Throwable t) {
+        final LogRecord record = log.getCache().get(index);
+        assertEquals("Type", type, record.type);
+        assertEquals("Message", message, record.message);
+        assertSame("Throwable", t, record.t);
+    }
+
+    @Override
+    public void setUp() {
+        log = new DecoratedSimpleLog("ParameterizedTestCase");
+        log.setLevel(SimpleLog.LOG_LEVEL_INFO);
+    }
+
+    public void testDisabledLevels() {
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("Argument formatted");
+            }
+        };
+        log.debug("{}", arg);
+        log.debug("{} {}", arg, arg);
+        log.debug("{} {} {}", arg, arg, arg);
+        log.trace("{} {} {} {}", arg, arg, arg, arg);
+        assertTrue("Messages logged", log.getCache().isEmpty());
+    }
+
+    public void testEnabledLevels() {
+        log.info("a {}", 1);
+        log.warn("a {} {}", 1, 2);
+        log.error("a {} {} {}", 1, 2, 3);
+        log.fatal("a {} {} {} {}", 1, 2, 3, 4);
+        assertEquals("Messages logged", 4, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "a 1", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_WARN, "a 1 2", null);
+        assertRecord(2, SimpleLog.LOG_LEVEL_ERROR, "a 1 2 3", null);
+        assertRecord(3, SimpleLog.LOG_LEVEL_FATAL, "a 1 2 3 4", null);
+    }
+
+    public void testPrimitives() {
+        log.debug("{}", 1L);
+        log.info("{} ms", 42L);
+        log.info("{} %", 12.5d);
+        log.info("{}", 0.1f);
+        log.info("{}", 'x');
+        assertEquals("Messages logged", 4, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "42 ms", null);
+        assertRecord(1, SimpleLog.LOG_LEVEL_INFO, "12.5 %", null);
+        assertRecord(2, SimpleLog.LOG_LEVEL_INFO, "0.1", null);
+        assertRecord(3, SimpleLog.LOG_LEVEL_INFO, "x", null);
+    }
+
+    public void testPrimitivesFormattedDirectly() {
+        final SimpleLog simpleLog = new SimpleLog("ParameterizedTestCase");
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PrintStream err = System.err;
+        System.setErr(new PrintStream(out, true));
+        try {
+            simpleLog.debug("{} ms", 1L);
+            simpleLog.info("{} ms", 42L);
+        } finally {
+            System.setErr(err);
+        }
+        final String output = out.toString().trim();
+        assertTrue(output, output.endsWith("42 ms"));
+        assertFalse(output, output.contains("1 ms"));
+    }
+
+    public void testThrowable() {
+        final Throwable t = new DummyException();
+        log.info("message", t);
+        log.info("a {}", 1, t);
+        log.info("a {}", (Object) t);
+        assertEquals("Messages logged", 3, log.getCache().size());
+        assertRecord(0, SimpleLog.LOG_LEVEL_INFO, "message", t);
+        assertRecord(1, SimpleLog.LOG_LEVEL_INFO, "a 1", t);
+        assertRecord(2, SimpleLog.LOG_LEVEL_INFO, "a " + t, null);
+    }
+}
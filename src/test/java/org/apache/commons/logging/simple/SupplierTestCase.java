@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.logging.simple;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import junit.framework.TestCase;
+
+import org.apache.commons.logging.impl.SimpleLog;
+
+/**
+ * Tests the {@link Supplier} methods of {@code Log}, as inherited by {@link SimpleLog}.
+ */
+public class SupplierTestCase extends TestCase {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    private DecoratedSimpleLog log;
+
+    private final Supplier<String> supplier = () -> "Message " + calls.incrementAndGet();
+
+    @Override
+    public void setUp() {
+        log = new DecoratedSimpleLog("SupplierTestCase");
+        log.setLevel(SimpleLog.LOG_LEVEL_INFO);
+    }
+
+    public void testDisabledLevels() {
+        log.trace(supplier);
+        log.debug(supplier);
+        assertEquals("Supplier called", 0, calls.get());
+        assertTrue("Messages logged", log.getCache().isEmpty());
+    }
+
+    public void testEnabledLevels() {
+        log.info(supplier);
+        log.warn(supplier);
+        log.error(supplier);
+        log.fatal(supplier);
+        assertEquals("Supplier calls", 4, calls.get());
+        assertEquals("Messages logged", 4, log.getCache().size());
+        final int[] types = { SimpleLog.LOG_LEVEL_INFO, SimpleLog.LOG_LEVEL_WARN, SimpleLog.LOG_LEVEL_ERROR, SimpleLog.LOG_LEVEL_FATAL };
+        for (int i = 0; i < types.length; i++) {
+            final LogRecord record = log.getCache().get(i);
+            assertEquals("Type", types[i], record.type);
+            assertEquals("Message", "Message " + (i + 1), record.message);
+            assertNull("Throwable", record.t);
+        }
+    }
+
+    public void testNullSupplier() {
+        log.info((Supplier<?>) null);
+        assertEquals("Messages logged", 1, log.getCache().size());
+        assertNull("Message", log.getCache().get(0).message);
+    }
+}
@@ -17,8 +17,10 @@
 package org.apache.commons.logging.slf4j;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import junit.framework.TestCase;
 
@@ -28,12 +30,14 @@ import org.apache.commons.logging.impl.Slf4jLogFactory;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
+import org.slf4j.event.KeyValuePair;
 
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.spi.ThrowableProxy;
+import ch.qos.logback.classic.turbo.TurboFilter;
 import ch.qos.logback.core.filter.Filter;
 import ch.qos.logback.core.read.ListAppender;
 import ch.qos.logback.core.spi.FilterReply;
@@ -69,14 +73,86 @@ public class CallerInformationTestCase extends TestCase {
         });
     }
 
+    public void testEventBuilder() {
+        appender.list.clear();
+        // The following value must match the line number
+        final int currentLineNumber = 79;
+        log.atInfo().addKeyValue("orderId", 42).setCause(T).log(STRING);
+        log.atTrace().addKeyValue("orderId", 42).log(() -> STRING);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 2, events.size());
+        for (int i = 0; i < events.size(); i++) {
+            final ILoggingEvent event = events.get(i);
+            assertEquals("Correct message.", STRING, event.getMessage());
+            assertEquals("Correct marker.", MARKERS, event.getMarkerList());
+            final List<KeyValuePair> keyValuePairs = event.getKeyValuePairs();
+            assertEquals("Correct key/value pairs.", 1, keyValuePairs.size());
+            assertEquals("Correct key.", "orderId", keyValuePairs.get(0).key);
+            assertEquals("Correct value.", 42, keyValuePairs.get(0).value);
+            final StackTraceElement location = event.getCallerData()[0];
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+            assertEquals("Correct location line.", currentLineNumber + i + 1, location.getLineNumber());
+        }
+        assertEquals("Correct exception", T, ((ThrowableProxy) events.get(0).getThrowableProxy()).getThrowable());
+        assertNull("No exception", events.get(1).getThrowableProxy());
+    }
+
+    public void testEventBuilderMarker() {
+        appender.list.clear();
+        log.atInfo().addMarker("AUDIT").log(STRING);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 1, events.size());
+        assertEquals("Correct markers.", Arrays.asList(MARKERS.get(0), MarkerFactory.getMarker("AUDIT")), events.get(0).getMarkerList());
+    }
+
     public void testFactoryClassName() {
         assertEquals(Slf4jLogFactory.class, factory.getClass());
     }
 
+    public void testLevelChange() {
+        final Logger logger = (Logger) LoggerFactory.getLogger(getClass());
+        try {
+            logger.setLevel(Level.INFO);
+            assertTrue("Info enabled", log.isInfoEnabled());
+            assertFalse("Debug enabled", log.isDebugEnabled());
+            appender.list.clear();
+            log.debug(STRING);
+            assertTrue("Debug logged", appender.list.isEmpty());
+        } finally {
+            logger.setLevel(null);
+        }
+        assertTrue("Trace enabled", log.isTraceEnabled());
+    }
+
+    public void testLevelChangeByTurboFilter() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        final Logger logger = (Logger) LoggerFactory.getLogger(getClass());
+        final TurboFilter filter = new TurboFilter() {
+            @Override
+            public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format,
+                    final Object[] params, final Throwable t) {
+                return FilterReply.ACCEPT;
+            }
+        };
+        try {
+            logger.setLevel(Level.INFO);
+            assertFalse("Debug enabled", log.isDebugEnabled());
+            // no notification from Logback
+            context.addTurboFilter(filter);
+            assertTrue("Debug enabled by the turbo filter", log.isDebugEnabled());
+            appender.list.clear();
+            log.debug(STRING);
+            assertEquals("Debug logged", 1, appender.list.size());
+        } finally {
+            context.getTurboFilterList().remove(filter);
+            logger.setLevel(null);
+        }
+    }
+
     public void testLocationInfo() {
         appender.list.clear();
         // The following value must match the line number
-        final int currentLineNumber = 79;
+        final int currentLineNumber = 155;
         log.fatal(STRING);
         log.fatal(STRING, T);
         log.error(STRING);
@@ -107,4 +183,120 @@ public class CallerInformationTestCase extends TestCase {
             }
         }
     }
+
+    public void testMarkerDisabled() {
+        appender.list.clear();
+        factory.setAttribute(LogFactory.MARKER_PROPERTY, "false");
+        try {
+            log.info(STRING);
+            log.atInfo().addMarker("AUDIT").log(STRING);
+        } finally {
+            factory.removeAttribute(LogFactory.MARKER_PROPERTY);
+        }
+        log.info(STRING);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 3, events.size());
+        final List<Marker> markers = events.get(0).getMarkerList();
+        assertTrue("No marker", markers == null || markers.isEmpty());
+        assertEquals("Caller marker only", Collections.singletonList(MarkerFactory.getMarker("AUDIT")), events.get(1).getMarkerList());
+        assertEquals("Marker restored", MARKERS, events.get(2).getMarkerList());
+    }
+
+    public void testNestedEvents() {
+        final Supplier<String> nestedEvent = () -> {
+            log.atInfo().log(STRING);
+            return "value";
+        };
+        appender.list.clear();
+        log.atWarn().addKeyValue("key", nestedEvent.get()).log(STRING);
+        log.atWarn().log(nestedEvent);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 4, events.size());
+        for (int i = 0; i < events.size(); i += 2) {
+            assertEquals("Correct level.", Level.INFO, events.get(i).getLevel());
+            assertEquals("Correct level.", Level.WARN, events.get(i + 1).getLevel());
+        }
+        assertEquals("Correct value.", "value", events.get(1).getKeyValuePairs().get(0).value);
+        assertEquals("Correct message.", "value", events.get(3).getMessage());
+    }
+
+    public void testParameterizedMessage() {
+        appender.list.clear();
+        log.info("{} {}", STRING, 1);
+        log.warn("{} {}", STRING, 1, T);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 2, events.size());
+        for (final ILoggingEvent event : events) {
+            assertEquals("Unformatted pattern.", "{} {}", event.getMessage());
+            assertEquals("Correct message.", STRING + " 1", event.getFormattedMessage());
+            assertEquals("Correct marker.", MARKERS, event.getMarkerList());
+        }
+        assertNull("No exception", events.get(0).getThrowableProxy());
+        assertEquals("Correct exception", T, ((ThrowableProxy) events.get(1).getThrowableProxy()).getThrowable());
+    }
+
+    public void testPrimitiveArguments() {
+        appender.list.clear();
+        log.info("{} ms", 42L);
+        log.info("{} %", 12.5d);
+        log.warn("{} %", 0.5f);
+        log.fatal("{}", 'x');
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Correct number of messages.", 4, events.size());
+        assertEquals("Correct message.", "42 ms", events.get(0).getFormattedMessage());
+        assertEquals("Correct message.", "12.5 %", events.get(1).getFormattedMessage());
+        assertEquals("Correct message.", "0.5 %", events.get(2).getFormattedMessage());
+        assertEquals("Correct message.", "x", events.get(3).getFormattedMessage());
+        for (final ILoggingEvent event : events) {
+            final StackTraceElement location = event.getCallerData()[0];
+            assertEquals("Correct method name.", "testPrimitiveArguments", location.getMethodName());
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+        }
+    }
+
+    public void testRateLimit() {
+        appender.list.clear();
+        final String name = getClass().getName() + ".limited";
+        factory.setAttribute(LogFactory.RATE_LIMIT_PROPERTY + "." + name, "info=2");
+        try {
+            final Log limited = factory.getInstance(name);
+            for (int i = 0; i < 5; i++) {
+                limited.info(STRING);
+            }
+            limited.warn(STRING);
+        } finally {
+            factory.removeAttribute(LogFactory.RATE_LIMIT_PROPERTY + "." + name);
+        }
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("Events over the limit suppressed.", 3, events.size());
+        for (final ILoggingEvent event : events) {
+            assertEquals("Correct location class.", getClass().getName(), event.getCallerData()[0].getClassName());
+        }
+    }
+
+    public void testSupplierLocationInfo() {
+        appender.list.clear();
+        final Supplier<String> supplier = () -> STRING;
+        // The following value must match the line number
+        final int currentLineNumber = 281;
+        log.fatal(supplier);
+        log.error(supplier);
+        log.warn(supplier);
+        log.info(supplier);
+        log.debug(supplier);
+        log.trace(supplier);
+        final List<ILoggingEvent> events = new ArrayList<>(appender.list);
+        assertEquals("All events received.", levels.length, events.size());
+        for (int lev = 0; lev < levels.length; lev++) {
+            final ILoggingEvent event = events.get(lev);
+            assertEquals("Correct message.", STRING, event.getMessage());
+            assertEquals("Correct marker.", MARKERS, event.getMarkerList());
+            assertEquals("Level matches.", levels[lev], event.getLevel());
+            final StackTraceElement[] callerData = event.getCallerData();
+            assertTrue("Has location", callerData != null && callerData.length > 0);
+            final StackTraceElement location = callerData[0];
+            assertEquals("Correct location class.", getClass().getName(), location.getClassName());
+            assertEquals("Correct location line.", currentLineNumber + lev + 1, location.getLineNumber());
+        }
+    }
 }
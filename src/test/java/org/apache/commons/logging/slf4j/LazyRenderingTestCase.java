@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.logging.slf4j;
+
+import org.apache.commons.logging.AbstractLazyRenderingTest;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * Applies the tests defined in AbstractLazyRenderingTest to the SLF4J adapter.
+ * <p>
+ * A turbo filter prevents the enabled levels from being cached, so that the adapter relies on the checks of the
+ * backend.
+ * </p>
+ */
+public class LazyRenderingTestCase extends AbstractLazyRenderingTest {
+
+    private final TurboFilter turboFilter = new TurboFilter() {
+        @Override
+        public FilterReply decide(final Marker marker, final Logger logger, final Level level, final String format, final Object[] params,
+                final Throwable t) {
+            return FilterReply.NEUTRAL;
+        }
+    };
+
+    @Override
+    protected Log[] getDisabledLogs() {
+        return new Log[] { LogFactory.getLog(getClass()) };
+    }
+
+    @Override
+    public void setUp() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        turboFilter.start();
+        context.addTurboFilter(turboFilter);
+        // Noticed by the adapter at the next level change
+        context.getLogger(getClass()).setLevel(Level.OFF);
+    }
+
+    @Override
+    public void tearDown() {
+        final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+        context.getTurboFilterList().remove(turboFilter);
+        context.getLogger(getClass()).setLevel(null);
+    }
+}